@@ -2,13 +2,21 @@ package com.codeit.blog;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class BlogCachePracticeApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(BlogCachePracticeApplication.class, args);
+        SpringApplication application = new SpringApplication(BlogCachePracticeApplication.class);
+        // 시작 단계 기록 (StartupTimingReporter 로그, /actuator/startup), 용량을 넘는 단계는 버려집니다
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,99 @@
+package com.codeit.blog.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 일관된 해싱(consistent hashing) 링
+ *
+ * 노드마다 가상 노드 virtualNodes개를 64비트 해시 공간에 흩어 두고,
+ * 키는 자기 해시보다 크거나 같은 첫 가상 노드(없으면 링의 처음)의 노드가 담당합니다.
+ * 노드가 하나 추가/제거되면 그 노드 몫(약 1/N)의 키만 담당이 바뀝니다.
+ * 가상 노드가 많을수록 노드별 담당 비율이 고르게 됩니다. (128개면 대략 ±10% 이내)
+ *
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 그대로 사용할 수 있습니다.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> nodes;
+    private final int virtualNodes;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("노드가 하나 이상 필요합니다");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes는 1 이상이어야 합니다: " + virtualNodes);
+        }
+        this.nodes = List.copyOf(nodes);
+        this.virtualNodes = virtualNodes;
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시가 겹치면 먼저 들어간 노드가 유지됨 (모든 노드에서 같은 결과)
+                ring.putIfAbsent(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public String ownerOf(Object key) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key.toString()));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    public int virtualNodes() {
+        return virtualNodes;
+    }
+
+    /**
+     * 노드별 담당하는 해시 공간 비율 (합계 1.0)
+     */
+    public Map<String, Double> ownership() {
+        Map<String, Double> shares = new LinkedHashMap<>();
+        nodes.forEach(node -> shares.put(node, 0.0));
+
+        // 가상 노드 하나는 직전 가상 노드 다음부터 자기 위치까지를 담당 (첫 가상 노드는 마지막 이후 구간을 이어서)
+        long previous = ring.lastKey();
+        for (Map.Entry<Long, String> entry : ring.entrySet()) {
+            // 뺄셈은 2^64 기준으로 감기므로 부호 없는 값으로 보면 구간 길이
+            double span = unsignedToDouble(entry.getKey() - previous);
+            shares.merge(entry.getValue(), span / 0x1p64, Double::sum);
+            previous = entry.getKey();
+        }
+        if (ring.size() == 1) {
+            shares.put(ring.firstEntry().getValue(), 1.0);
+        }
+        return shares;
+    }
+
+    private static double unsignedToDouble(long value) {
+        double result = (double) (value >>> 1) * 2.0;
+        return result + (value & 1);
+    }
+
+    /**
+     * 문자열 64비트 해시 (FNV-1a 후 MurmurHash3 fmix64로 섞기, HyperLogLog와 같은 방식)
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,60 @@
+package com.codeit.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 항목마다 만료 시간을 ttl ±jitter% 안에서 무작위로 정하는 Caffeine Expiry
+ *
+ * expireAfterWrite(ttl)은 같은 시각에 채워진 항목(시작 직후, 캐시 초기화 직후)이 같은 시각에 만료되어
+ * 다시 로드하는 요청이 한꺼번에 DB로 몰립니다. 항목별로 만료 시각을 흩어서 로드도 시간에 걸쳐 나눠지게 합니다.
+ *
+ * - 생성 / 갱신(put, refresh): 새로 무작위 만료 시간 (expireAfterWrite와 같은 기준)
+ * - 조회: 남은 시간 그대로
+ */
+public final class JitteredExpiry<K, V> implements Expiry<K, V> {
+
+    private final long ttlNanos;
+    private final long spreadNanos;
+
+    /**
+     * @param jitterPercent 0 ~ 100 미만 (0이면 항상 ttl)
+     */
+    public JitteredExpiry(Duration ttl, int jitterPercent) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl은 0보다 커야 합니다: " + ttl);
+        }
+        if (jitterPercent < 0 || jitterPercent >= 100) {
+            throw new IllegalArgumentException("jitter는 0 ~ 99 범위여야 합니다: " + jitterPercent);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.spreadNanos = ttlNanos / 100 * jitterPercent;
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return nextTtlNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return nextTtlNanos();
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    /**
+     * [ttl - spread, ttl + spread] 균등 분포 (평균은 ttl)
+     */
+    long nextTtlNanos() {
+        if (spreadNanos == 0) {
+            return ttlNanos;
+        }
+        return ttlNanos - spreadNanos + ThreadLocalRandom.current().nextLong(2 * spreadNanos + 1);
+    }
+}
@@ -0,0 +1,60 @@
+package com.codeit.blog.cache;
+
+import com.codeit.blog.config.PeerCacheProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 노드 간 캐시 요청(/internal/cache/**)은 공유 비밀 헤더가 맞을 때만 통과시킵니다.
+ *
+ * 이 경로는 posts 캐시에 값을 넣고 지울 수 있으므로 외부에서 직접 호출되면 안 됩니다.
+ * 비밀은 PeerCacheClient가 모든 요청에 붙이고, 비교는 길이와 관계없이 같은 시간이 걸리게 합니다.
+ * peer 모드가 꺼져 있으면 이 경로 자체가 없으므로 필터도 등록하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "blog.cache.peer.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class PeerCacheAuthFilter extends OncePerRequestFilter {
+
+    private final byte[] secret;
+
+    public PeerCacheAuthFilter(PeerCacheProperties properties) {
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("blog.cache.peer.secret이 없습니다 (노드 간 /internal/cache 요청 인증용)");
+        }
+        this.secret = properties.getSecret().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 컨트롤러 매핑과 같은 기준(디코딩, ; 제거)으로 비교해서 인코딩한 경로로 우회하지 못하게 합니다
+        return !UrlPathHelper.defaultInstance.getPathWithinApplication(request).startsWith(PeerCacheClient.PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(PeerCacheClient.SECRET_HEADER);
+        if (presented == null || !MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("노드 간 캐시 요청 거절: {} {} from {}", request.getMethod(), request.getRequestURI(),
+                    request.getRemoteAddr());
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
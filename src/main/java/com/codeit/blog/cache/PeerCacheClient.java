@@ -0,0 +1,227 @@
+package com.codeit.blog.cache;
+
+import com.codeit.blog.config.PeerCacheProperties;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다른 노드의 캐시에 접근하는 HTTP 클라이언트 (PeerPartitionedCache가 사용)
+ *
+ * 담당 노드는 ConsistentHashRing으로 정하고, 요청은 담당 노드의 /internal/cache/{캐시}/{키} 로 보냅니다.
+ * - GET: 담당 노드가 자기 캐시에서 찾고, 없으면 DB에서 읽어 캐시한 뒤 응답 (404: 게시글 없음)
+ * - PUT: 담당 노드 캐시에 저장
+ * - DELETE: 담당 노드 캐시에서 제거, 키 없이 보내면 전체 초기화
+ *
+ * 값은 필드 기준 JSON으로 주고받습니다. (엔티티에 setter가 없고, 응답용 getter와 형식을 분리하기 위해)
+ * 모든 요청에 공유 비밀(SECRET_HEADER)을 붙이고, 받는 쪽은 PeerCacheAuthFilter가 확인합니다.
+ *
+ * 메트릭
+ * - blog.cache.peer.remote{op=get|put|evict|clear, result=ok|not-found|error}: 노드 간 요청 시간
+ * - blog.cache.peer.ownership{node}: 노드별 담당 해시 공간 비율
+ */
+@Component
+@ConditionalOnProperty(name = "blog.cache.peer.enabled", havingValue = "true")
+@Slf4j
+public class PeerCacheClient {
+
+    public static final String PATH = "/internal/cache/";
+    public static final String SECRET_HEADER = "X-Cache-Peer-Secret";
+
+    private final PeerCacheProperties properties;
+    private final ConsistentHashRing ring;
+    private final String self;
+    private final ObjectMapper wireMapper;
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> remoteTimers = new ConcurrentHashMap<>();
+
+    public PeerCacheClient(PeerCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.self = normalize(properties.getSelf());
+        List<String> peers = properties.getPeers().stream().map(PeerCacheClient::normalize).distinct().toList();
+        if (!peers.contains(self)) {
+            throw new IllegalStateException("blog.cache.peer.peers에 self(" + self + ")가 없습니다: " + peers);
+        }
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("blog.cache.peer.secret이 없습니다 (노드 간 /internal/cache 요청 인증용)");
+        }
+        this.properties = properties;
+        this.ring = new ConsistentHashRing(peers, properties.getVirtualNodes());
+        this.wireMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.meterRegistry = meterRegistry;
+
+        ring.ownership().forEach((node, share) ->
+                Gauge.builder("blog.cache.peer.ownership", () -> share)
+                        .tag("node", node)
+                        .description("노드별 담당 해시 공간 비율")
+                        .register(meterRegistry));
+
+        log.info("캐시 노드 분할 활성화: self={}, peers={}, virtualNodes={}", self, peers, properties.getVirtualNodes());
+    }
+
+    public String ownerOf(Object key) {
+        return ring.ownerOf(key);
+    }
+
+    public boolean isSelf(String node) {
+        return self.equals(node);
+    }
+
+    /**
+     * 담당 노드에서 조회 (담당 노드가 없으면 로드까지)
+     *
+     * @return 값, 담당 노드가 404를 응답하면 null
+     * @throws UncheckedIOException 연결 실패 / 시간 초과 / 5xx (호출하는 쪽에서 로컬 캐시로 대체)
+     */
+    public @Nullable Object get(String owner, String cacheName, Object key, Class<?> type) {
+        long start = System.nanoTime();
+        String result = "error";
+        try {
+            HttpResponse<byte[]> response = httpClient.send(
+                    request(owner, cacheName, key).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 404) {
+                result = "not-found";
+                return null;
+            }
+            if (response.statusCode() != 200) {
+                throw new IOException(owner + " 응답 " + response.statusCode());
+            }
+            Object value = decode(response.body(), type);
+            result = "ok";
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("노드 간 조회 중 interrupt", e));
+        } finally {
+            record("get", result, start);
+        }
+    }
+
+    /**
+     * 담당 노드 캐시에 저장 (응답까지 기다림, evict와 같이 보낸 순서대로 반영되도록)
+     * 응답을 기다리지 않으면 수정의 put이 뒤이은 삭제의 evict보다 늦게 도착해 삭제된 게시글이 남을 수 있습니다.
+     */
+    public void put(String owner, String cacheName, Object key, @Nullable Object value) {
+        send("put", owner, request(owner, cacheName, key)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(encode(value)))
+                .build());
+    }
+
+    /**
+     * 담당 노드 캐시에서 제거 (응답까지 기다림, 바로 뒤의 조회가 이전 값을 받지 않도록)
+     */
+    public void evict(String owner, String cacheName, Object key) {
+        send("evict", owner, request(owner, cacheName, key).DELETE().build());
+    }
+
+    /**
+     * 자기 자신을 뺀 모든 노드의 캐시 초기화
+     */
+    public void clear(String cacheName) {
+        for (String node : ring.nodes()) {
+            if (!isSelf(node)) {
+                send("clear", node, HttpRequest.newBuilder(URI.create(node + PATH + cacheName))
+                        .timeout(properties.getRequestTimeout())
+                        .header(SECRET_HEADER, properties.getSecret())
+                        .DELETE()
+                        .build());
+            }
+        }
+    }
+
+    public byte[] encode(@Nullable Object value) {
+        try {
+            return wireMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public <T> @Nullable T decode(byte[] body, Class<T> type) {
+        try {
+            return wireMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("self", self);
+        status.put("peers", ring.nodes());
+        status.put("virtualNodes", ring.virtualNodes());
+        status.put("ownership", ring.ownership());
+        status.put("nearCacheMaximumSize", properties.getNearCacheMaximumSize());
+        status.put("nearCacheTtl", properties.getNearCacheTtl().toString());
+        return status;
+    }
+
+    private HttpRequest.Builder request(String owner, String cacheName, Object key) {
+        return HttpRequest.newBuilder(URI.create(owner + PATH + cacheName + "/" + key))
+                .timeout(properties.getRequestTimeout())
+                .header(SECRET_HEADER, properties.getSecret());
+    }
+
+    private void send(String op, String node, HttpRequest request) {
+        long start = System.nanoTime();
+        String result = "error";
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() < 300) {
+                result = "ok";
+            } else {
+                log.warn("노드 캐시 {} 실패: node={}, status={}", op, node, response.statusCode());
+            }
+        } catch (IOException e) {
+            log.warn("노드 캐시 {} 실패: node={}, {}", op, node, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            record(op, result, start);
+        }
+    }
+
+    private void record(String op, String result, long start) {
+        remoteTimers.computeIfAbsent(op + " " + result, name -> Timer.builder("blog.cache.peer.remote")
+                        .tag("op", op)
+                        .tag("result", result)
+                        .description("노드 간 캐시 요청 시간")
+                        .register(meterRegistry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String normalize(String node) {
+        return node.endsWith("/") ? node.substring(0, node.length() - 1) : node;
+    }
+}
@@ -0,0 +1,267 @@
+package com.codeit.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 키 공간을 노드끼리 나눠 갖는 캐시 (blog.cache.peer.enabled=true 일 때 posts 캐시)
+ *
+ * 노드마다 같은 게시글을 따로 들고 따로 미스하지 않도록, 키마다 담당 노드 하나만 값을 캐시합니다.
+ * - 이 노드가 담당하는 키: 로컬 캐시 그대로
+ * - 다른 노드가 담당하는 키: near cache → 담당 노드에 조회 (담당 노드가 없으면 DB에서 읽어 캐시)
+ *   put / evict도 담당 노드로 전달하고, clear는 모든 노드에 전달합니다.
+ * 담당 노드에 닿지 않으면 로컬 캐시로 대신합니다. (노드가 죽어도 요청은 실패하지 않고 노드별 캐시처럼 동작)
+ *
+ * near cache는 다른 노드에서 바뀐 값을 모르므로 nearCacheTtl 동안 이전 값이 보일 수 있습니다.
+ * 다른 노드 요청을 처리하는 중(serveLocally)에는 모든 키를 로컬로 처리해서 노드 사이를 오가지 않게 합니다.
+ *
+ * TransactionalCacheDecorator 안쪽에 두므로 노드 간 put / evict도 커밋 후에만 나갑니다.
+ * getNativeCache()는 로컬 Caffeine 캐시이므로 통계/모니터링은 이 노드 몫만 보입니다.
+ * 비동기 조회(retrieve)는 나누지 않고 로컬 캐시를 씁니다.
+ *
+ * 메트릭 (cache=이름)
+ * - blog.cache.peer.lookups{route=local|near|remote|remote-miss|fallback}
+ * - blog.cache.peer.near.size
+ */
+public class PeerPartitionedCache implements Cache {
+
+    private static final ThreadLocal<Boolean> SERVING_PEER = ThreadLocal.withInitial(() -> false);
+
+    private final Cache local;
+    private final PeerCacheClient client;
+    private final Class<?> valueType;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nearCache;
+
+    private final Counter localLookups;
+    private final Counter nearHits;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter fallbacks;
+
+    public PeerPartitionedCache(Cache local, PeerCacheClient client, Class<?> valueType,
+                                long nearCacheMaximumSize, Duration nearCacheTtl, MeterRegistry meterRegistry) {
+        this.local = local;
+        this.client = client;
+        this.valueType = valueType;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheTtl)
+                .build();
+
+        this.localLookups = lookupCounter(meterRegistry, "local");
+        this.nearHits = lookupCounter(meterRegistry, "near");
+        this.remoteHits = lookupCounter(meterRegistry, "remote");
+        this.remoteMisses = lookupCounter(meterRegistry, "remote-miss");
+        this.fallbacks = lookupCounter(meterRegistry, "fallback");
+        Gauge.builder("blog.cache.peer.near.size", nearCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", local.getName())
+                .description("다른 노드 담당 키를 잠깐 들고 있는 near cache 크기")
+                .register(meterRegistry);
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("blog.cache.peer.lookups")
+                .tag("cache", local.getName())
+                .tag("route", route)
+                .description("노드 분할 캐시 조회 경로")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 노드의 요청을 처리하는 동안은 모든 키를 이 노드의 로컬 캐시로 처리 (PeerCacheController)
+     */
+    public static <T> T serveLocally(Supplier<T> action) {
+        boolean previous = SERVING_PEER.get();
+        SERVING_PEER.set(true);
+        try {
+            return action.get();
+        } finally {
+            SERVING_PEER.set(previous);
+        }
+    }
+
+    public static void serveLocally(Runnable action) {
+        serveLocally(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 키를 다른 노드가 담당하면 그 노드 주소, 이 노드가 담당하면 null
+     */
+    private @Nullable String remoteOwner(Object key) {
+        if (SERVING_PEER.get()) {
+            return null;
+        }
+        String owner = client.ownerOf(key);
+        return client.isSelf(owner) ? null : owner;
+    }
+
+    // ===== 조회 =====
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public @Nullable ValueWrapper get(Object key) {
+        String owner = remoteOwner(key);
+        if (owner == null) {
+            localLookups.increment();
+            return local.get(key);
+        }
+
+        Object near = nearCache.getIfPresent(key);
+        if (near != null) {
+            nearHits.increment();
+            return new SimpleValueWrapper(near);
+        }
+
+        Object value;
+        try {
+            value = client.get(owner, getName(), key, valueType);
+        } catch (UncheckedIOException e) {
+            fallbacks.increment();
+            return local.get(key);
+        }
+        if (value == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        nearCache.put(key, value);
+        return new SimpleValueWrapper(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        if (remoteOwner(key) == null) {
+            return local.get(key, valueLoader);
+        }
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public @Nullable CompletableFuture<?> retrieve(Object key) {
+        return local.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return local.retrieve(key, valueLoader);
+    }
+
+    // ===== 변경 =====
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        String owner = remoteOwner(key);
+        if (owner == null) {
+            local.put(key, value);
+            return;
+        }
+        if (value != null) {
+            nearCache.put(key, value);
+        } else {
+            nearCache.invalidate(key);
+        }
+        client.put(owner, getName(), key, value);
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        if (remoteOwner(key) == null) {
+            return local.putIfAbsent(key, value);
+        }
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String owner = remoteOwner(key);
+        nearCache.invalidate(key);
+        if (owner == null) {
+            local.evict(key);
+            return;
+        }
+        client.evict(owner, getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        if (remoteOwner(key) == null) {
+            nearCache.invalidate(key);
+            return local.evictIfPresent(key);
+        }
+        boolean present = nearCache.asMap().containsKey(key);
+        evict(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        nearCache.invalidateAll();
+        local.clear();
+        if (!SERVING_PEER.get()) {
+            client.clear(getName());
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        nearCache.invalidateAll();
+        boolean invalidated = local.invalidate();
+        if (!SERVING_PEER.get()) {
+            client.clear(getName());
+        }
+        return invalidated;
+    }
+}
@@ -0,0 +1,421 @@
+package com.codeit.blog.cache;
+
+import com.codeit.blog.config.PartitioningProperties;
+import com.codeit.blog.config.SoftClearProperties;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 캐시 소프트 초기화 / 키 접두어·태그 단위 초기화
+ *
+ * 소프트 초기화
+ * - 대상 항목을 지우지 않고 region 세대(generation) 번호로 stale 표시만 합니다. 조회는 기존 값을 그대로 받습니다.
+ * - cache-reloader 스레드 하나가 초당 reloadRate개씩 DB에서 다시 읽어 교체합니다. (@Cacheable 메서드를 거치지 않고 리포지토리 직접 호출)
+ * - 교체는 "아직 그 값일 때만" 바꾸는 조건부 replace라서, 그 사이 수정(@CachePut)이나 제거된 항목을 되돌리지 않습니다.
+ *
+ * 대상 지정
+ * - prefix: 키 문자열이 접두어로 시작하는 항목 (posts의 id, postsByCategory의 카테고리 등)
+ * - tag: 값에서 뽑은 태그가 일치하는 항목 (post:{id}, category:{카테고리}, author:{작성자}, 목록은 원소 태그의 합)
+ *
+ * 다시 읽는 방법을 아는 region(posts, postsByCategory, popularPosts)만 소프트 초기화할 수 있습니다.
+ */
+@Service
+@Slf4j
+public class SoftCacheClearService {
+
+    public enum JobState { RUNNING, COMPLETED, CANCELLED }
+
+    private final CacheManager cacheManager;
+    private final SoftClearProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+
+    // region 이름 -> 키로 값을 다시 읽는 함수 (null이면 삭제된 것)
+    private final Map<String, Function<Object, Object>> reloaders = new LinkedHashMap<>();
+    private final Map<String, RegionState> regions = new ConcurrentHashMap<>();
+
+    private final Queue<SoftClearJob> runQueue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedDeque<SoftClearJob> history = new ConcurrentLinkedDeque<>();
+    private final AtomicLong jobSequence = new AtomicLong();
+    private final Map<String, Counter> reloadCounters = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService reloader;
+
+    public SoftCacheClearService(CacheManager cacheManager, PostRepository postRepository,
+                                 PlatformTransactionManager transactionManager, SoftClearProperties properties,
+                                 PartitioningProperties partitioningProperties, MeterRegistry meterRegistry) {
+        if (properties.getReloadRate() <= 0) {
+            throw new IllegalStateException("blog.cache.soft-clear.reload-rate는 0보다 커야 합니다: " + properties.getReloadRate());
+        }
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // PostService의 @Cacheable 메서드와 같은 값을 만듭니다
+        reloaders.put("posts", key -> postRepository.findById((Long) key).orElse(null));
+        reloaders.put("postsByCategory",
+                key -> postRepository.findHotByCategory((String) key, partitioningProperties.getHotWindow()));
+        reloaders.put("popularPosts", key -> postRepository.findHotPopular(partitioningProperties.getHotWindow()));
+
+        Gauge.builder("blog.cache.soft-clear.pending", runQueue,
+                        queue -> queue.stream().mapToInt(SoftClearJob::remaining).sum())
+                .description("소프트 초기화 후 다시 읽기를 기다리는 항목 수")
+                .register(meterRegistry);
+
+        this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // fixedDelay: 로드가 오래 걸려도 몰아서 따라잡지 않으므로 초당 reloadRate개를 넘지 않음
+        long periodMicros = Math.max(1, TimeUnit.SECONDS.toMicros(1) / properties.getReloadRate());
+        this.reloader.scheduleWithFixedDelay(this::reloadNext, periodMicros, periodMicros, TimeUnit.MICROSECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    public boolean supportsSoftClear(String cacheName) {
+        return reloaders.containsKey(cacheName);
+    }
+
+    public Set<String> softClearableCaches() {
+        return reloaders.keySet();
+    }
+
+    /**
+     * 대상 항목을 stale로 표시하고 다시 읽기 작업을 등록합니다.
+     */
+    public SoftClearJob softClear(String cacheName, String prefix, String tag) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || !supportsSoftClear(cacheName)) {
+            throw new IllegalArgumentException("소프트 초기화를 지원하지 않는 캐시입니다: " + cacheName);
+        }
+
+        RegionState region = regions.computeIfAbsent(cacheName, name -> new RegionState());
+        long generation = region.generation.incrementAndGet();
+        List<Object> keys = matchingKeys(nativeCache(cache), prefix, tag);
+        keys.forEach(key -> region.staleKeys.put(key, generation));
+
+        SoftClearJob job = new SoftClearJob(jobSequence.incrementAndGet(), cacheName, describe(prefix, tag),
+                generation, keys);
+        remember(job);
+        if (keys.isEmpty()) {
+            job.finish(JobState.COMPLETED);
+        } else {
+            runQueue.add(job);
+        }
+
+        log.info("캐시 소프트 초기화 등록: job={}, cache={}, 대상={}, generation={}, 항목 {}개 (초당 {}개씩 다시 읽기)",
+                job.id, cacheName, job.filter, generation, keys.size(), properties.getReloadRate());
+        return job;
+    }
+
+    /**
+     * 접두어 / 태그에 맞는 항목만 바로 제거 (트랜잭션 데코레이터, 트레이스를 거치도록 Spring Cache.evict 사용)
+     */
+    public int evictMatching(String cacheName, String prefix, String tag) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalArgumentException("캐시를 찾을 수 없습니다: " + cacheName);
+        }
+        List<Object> keys = matchingKeys(nativeCache(cache), prefix, tag);
+        keys.forEach(cache::evict);
+        log.info("캐시 부분 초기화: cache={}, 대상={}, {}개 제거", cacheName, describe(prefix, tag), keys.size());
+        return keys.size();
+    }
+
+    public Optional<SoftClearJob> findJob(long id) {
+        return history.stream().filter(job -> job.id == id).findFirst();
+    }
+
+    public List<SoftClearJob> jobs() {
+        return new ArrayList<>(history);
+    }
+
+    /**
+     * 남은 항목은 다시 읽지 않고 stale 표시만 지웁니다. (값은 그대로 두므로 TTL이 지나면 만료)
+     */
+    public boolean cancel(long id) {
+        Optional<SoftClearJob> found = findJob(id);
+        if (found.isEmpty() || found.get().state != JobState.RUNNING) {
+            return false;
+        }
+        SoftClearJob job = found.get();
+        runQueue.remove(job);
+        RegionState region = regions.get(job.cacheName);
+        Object key;
+        while ((key = job.keys.poll()) != null) {
+            region.staleKeys.remove(key, job.generation);
+        }
+        job.finish(JobState.CANCELLED);
+        log.info("캐시 소프트 초기화 취소: job={}, cache={}", job.id, job.cacheName);
+        return true;
+    }
+
+    public Map<String, Object> regionStatus(String cacheName) {
+        RegionState region = regions.get(cacheName);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("generation", region != null ? region.generation.get() : 0L);
+        result.put("staleEntries", region != null ? region.staleKeys.size() : 0);
+        return result;
+    }
+
+    // ===== 다시 읽기 (cache-reloader 스레드) =====
+
+    private void reloadNext() {
+        try {
+            SoftClearJob job = runQueue.peek();
+            if (job == null) {
+                return;
+            }
+            Object key = job.keys.poll();
+            if (key == null) {
+                runQueue.remove(job);
+                job.finish(JobState.COMPLETED);
+                log.info("캐시 소프트 초기화 완료: {}", job.toMap());
+                return;
+            }
+            reload(job, key);
+            if (job.keys.isEmpty()) {
+                runQueue.remove(job);
+                job.finish(JobState.COMPLETED);
+                log.info("캐시 소프트 초기화 완료: {}", job.toMap());
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나가면 스케줄이 멈추므로 여기서 끊습니다
+            log.error("캐시 다시 읽기 실패", e);
+        }
+    }
+
+    private void reload(SoftClearJob job, Object key) {
+        RegionState region = regions.get(job.cacheName);
+        Cache cache = cacheManager.getCache(job.cacheName);
+        Long markedGeneration = region.staleKeys.get(key);
+        if (cache == null || markedGeneration == null || markedGeneration != job.generation) {
+            // 더 최근 소프트 초기화가 같은 키를 맡았거나 이미 처리됨
+            job.skipped.incrementAndGet();
+            count(job.cacheName, "skipped");
+            return;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(cache);
+        Object current = nativeCache.getIfPresent(key);
+        try {
+            if (current == null) {
+                job.skipped.incrementAndGet(); // 그 사이 만료 / 제거됨 (다음 조회에서 평소처럼 로드)
+                count(job.cacheName, "skipped");
+                return;
+            }
+            Object fresh = readOnlyTransaction.execute(status -> reloaders.get(job.cacheName).apply(key));
+            if (fresh == null) {
+                nativeCache.asMap().remove(key, current);
+                job.removed.incrementAndGet();
+                count(job.cacheName, "removed");
+            } else if (nativeCache.asMap().replace(key, current, fresh)) {
+                job.reloaded.incrementAndGet();
+                count(job.cacheName, "reloaded");
+            } else {
+                job.skipped.incrementAndGet(); // 그 사이 새 값이 들어옴
+                count(job.cacheName, "skipped");
+            }
+        } catch (RuntimeException e) {
+            job.failed.incrementAndGet();
+            count(job.cacheName, "failed");
+            log.warn("캐시 다시 읽기 실패 (기존 값 유지): cache={}, key={}, {}", job.cacheName, key, e.getMessage());
+        } finally {
+            region.staleKeys.remove(key, job.generation);
+        }
+    }
+
+    private void count(String cacheName, String result) {
+        reloadCounters.computeIfAbsent(cacheName + " " + result, key -> Counter.builder("blog.cache.soft-clear.reloads")
+                        .tag("cache", cacheName)
+                        .tag("result", result)
+                        .description("소프트 초기화 후 다시 읽은 항목 수")
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    // ===== 대상 선택 =====
+
+    private List<Object> matchingKeys(com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache,
+                                      String prefix, String tag) {
+        Predicate<Map.Entry<Object, Object>> filter = entry -> true;
+        if (prefix != null && !prefix.isEmpty()) {
+            filter = filter.and(entry -> String.valueOf(entry.getKey()).startsWith(prefix));
+        }
+        if (tag != null && !tag.isEmpty()) {
+            filter = filter.and(entry -> tags(entry.getValue()).contains(tag));
+        }
+        return nativeCache.asMap().entrySet().stream()
+                .filter(filter)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    static Set<String> tags(Object value) {
+        Set<String> tags = new HashSet<>();
+        if (value instanceof Post post) {
+            addTags(tags, post);
+        } else if (value instanceof Collection<?> values) {
+            for (Object element : values) {
+                if (element instanceof Post post) {
+                    addTags(tags, post);
+                }
+            }
+        }
+        return tags;
+    }
+
+    private static void addTags(Set<String> tags, Post post) {
+        tags.add("post:" + post.getId());
+        tags.add("category:" + post.getCategory());
+        tags.add("author:" + post.getAuthor());
+    }
+
+    private String describe(String prefix, String tag) {
+        List<String> parts = new ArrayList<>();
+        if (prefix != null && !prefix.isEmpty()) {
+            parts.add("prefix=" + prefix);
+        }
+        if (tag != null && !tag.isEmpty()) {
+            parts.add("tag=" + tag);
+        }
+        return parts.isEmpty() ? "all" : String.join(",", parts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache;
+        }
+        throw new IllegalArgumentException("Caffeine 캐시가 아닙니다: " + cache.getName());
+    }
+
+    private void remember(SoftClearJob job) {
+        history.addFirst(job);
+        // 오래된 완료 작업부터 정리 (진행 중인 작업은 남김)
+        while (history.size() > properties.getJobHistory()) {
+            SoftClearJob oldest = history.stream()
+                    .filter(candidate -> candidate.state != JobState.RUNNING)
+                    .reduce((first, second) -> second)
+                    .orElse(null);
+            if (oldest == null || !history.removeLastOccurrence(oldest)) {
+                break;
+            }
+        }
+    }
+
+    private static final class RegionState {
+        // 소프트 초기화할 때마다 1씩 증가
+        private final AtomicLong generation = new AtomicLong();
+        // stale 항목 키 -> 표시한 세대
+        private final Map<Object, Long> staleKeys = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 소프트 초기화 작업 하나 (진행 상황은 GET /api/cache/clear-jobs/{id})
+     */
+    public final class SoftClearJob {
+        private final long id;
+        private final String cacheName;
+        private final String filter;
+        private final long generation;
+        private final int total;
+        private final Queue<Object> keys;
+        private final AtomicInteger reloaded = new AtomicInteger();
+        private final AtomicInteger removed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+        private volatile JobState state = JobState.RUNNING;
+
+        private SoftClearJob(long id, String cacheName, String filter, long generation, List<Object> keys) {
+            this.id = id;
+            this.cacheName = cacheName;
+            this.filter = filter;
+            this.generation = generation;
+            this.total = keys.size();
+            this.keys = new ConcurrentLinkedQueue<>(keys);
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        private int remaining() {
+            return keys.size();
+        }
+
+        // 취소와 완료가 겹쳐도 먼저 끝난 상태를 유지
+        private synchronized void finish(JobState finalState) {
+            if (state == JobState.RUNNING) {
+                this.state = finalState;
+                this.finishedAt = LocalDateTime.now();
+            }
+        }
+
+        public Map<String, Object> toMap() {
+            int processed = reloaded.get() + removed.get() + skipped.get() + failed.get();
+            int remaining = remaining();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("id", id);
+            result.put("cacheName", cacheName);
+            result.put("mode", "soft");
+            result.put("filter", filter);
+            result.put("generation", generation);
+            result.put("state", state);
+            result.put("total", total);
+            result.put("processed", processed);
+            result.put("reloaded", reloaded.get());
+            result.put("removed", removed.get());
+            result.put("skipped", skipped.get());
+            result.put("failed", failed.get());
+            result.put("remaining", remaining);
+            result.put("progress", String.format("%.1f%%", total > 0 ? processed * 100.0 / total : 100.0));
+            if (state == JobState.RUNNING) {
+                result.put("estimatedSecondsLeft", Math.ceil((double) remaining / properties.getReloadRate()));
+            }
+            result.put("startedAt", startedAt);
+            result.put("finishedAt", finishedAt);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.codeit.blog.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 안의 put / evict / clear를 모아뒀다가 커밋 후 한 번에 반영하는 캐시
+ *
+ * - 커밋: 모인 순서대로 실제 캐시에 반영 (clear가 있었으면 clear 먼저)
+ * - 롤백: 모두 버림 (커밋되지 않은 데이터가 캐시에 남지 않음)
+ * - 같은 트랜잭션 안의 조회는 모아둔 변경을 먼저 봅니다 (자기가 쓴 값은 바로 보임)
+ *
+ * 트랜잭션 밖의 호출, putIfAbsent / evictIfPresent / invalidate처럼 결과를 바로 돌려줘야 하는 호출은 즉시 반영합니다.
+ * (Spring TransactionAwareCacheDecorator와 같은 규칙이고, 여기에 트랜잭션 단위 묶음 반영과 카운터를 더했습니다)
+ *
+ * 메트릭 (cache=이름)
+ * - blog.cache.tx.deferred{op=put|evict|clear}: 커밋까지 미뤄진 작업
+ * - blog.cache.tx.applied: 커밋 후 반영된 작업
+ * - blog.cache.tx.discarded: 롤백으로 버려진 작업
+ */
+@Slf4j
+public class TransactionalCacheDecorator implements Cache {
+
+    private static final Object EVICTED = new Object();
+
+    private final Cache target;
+    private final Counter deferredPut;
+    private final Counter deferredEvict;
+    private final Counter deferredClear;
+    private final Counter applied;
+    private final Counter discarded;
+
+    public TransactionalCacheDecorator(Cache target, MeterRegistry meterRegistry) {
+        this.target = target;
+        this.deferredPut = deferredCounter(meterRegistry, "put");
+        this.deferredEvict = deferredCounter(meterRegistry, "evict");
+        this.deferredClear = deferredCounter(meterRegistry, "clear");
+        this.applied = Counter.builder("blog.cache.tx.applied")
+                .tag("cache", target.getName())
+                .description("커밋 후 반영된 캐시 작업 수")
+                .register(meterRegistry);
+        this.discarded = Counter.builder("blog.cache.tx.discarded")
+                .tag("cache", target.getName())
+                .description("롤백으로 버려진 캐시 작업 수")
+                .register(meterRegistry);
+    }
+
+    private Counter deferredCounter(MeterRegistry meterRegistry, String op) {
+        return Counter.builder("blog.cache.tx.deferred")
+                .tag("cache", target.getName())
+                .tag("op", op)
+                .description("트랜잭션 커밋까지 미뤄진 캐시 작업 수")
+                .register(meterRegistry);
+    }
+
+    public Cache getTargetCache() {
+        return target;
+    }
+
+    /**
+     * 트랜잭션 하나 동안 모인 작업 (트랜잭션 스레드에서만 접근)
+     */
+    private final class PendingWrites implements TransactionSynchronization {
+        private boolean cleared;
+        // 값: 넣을 값 또는 EVICTED
+        private final Map<Object, Object> writes = new LinkedHashMap<>();
+
+        private int size() {
+            return writes.size() + (cleared ? 1 : 0);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalCacheDecorator.this);
+            if (status != STATUS_COMMITTED) {
+                discarded.increment(size());
+                log.debug("캐시 작업 {}건 폐기 (롤백): cache={}", size(), getName());
+                return;
+            }
+            if (cleared) {
+                target.clear();
+            }
+            writes.forEach((key, value) -> {
+                if (value == EVICTED) {
+                    target.evict(key);
+                } else {
+                    target.put(key, value);
+                }
+            });
+            applied.increment(size());
+        }
+    }
+
+    /**
+     * 트랜잭션 중이면 이 캐시의 작업 묶음 (없으면 만들고 커밋/롤백 콜백 등록), 아니면 null
+     */
+    private @Nullable PendingWrites pendingWrites(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingWrites pending = (PendingWrites) TransactionSynchronizationManager.getResource(this);
+        if (pending == null && create) {
+            pending = new PendingWrites();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    // ===== 조회 =====
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return target.getNativeCache();
+    }
+
+    @Override
+    public @Nullable ValueWrapper get(Object key) {
+        PendingWrites pending = pendingWrites(false);
+        if (pending != null) {
+            if (pending.writes.containsKey(key)) {
+                Object value = pending.writes.get(key);
+                return value == EVICTED ? null : new SimpleValueWrapper(value);
+            }
+            if (pending.cleared) {
+                return null;
+            }
+        }
+        return target.get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        PendingWrites pending = pendingWrites(false);
+        if (pending != null && (pending.writes.containsKey(key) || pending.cleared)) {
+            // 이 트랜잭션이 바꾼 키는 실제 캐시를 건드리지 않고 모아둔 값으로 처리
+            ValueWrapper wrapper = get(key);
+            if (wrapper != null) {
+                return (T) wrapper.get();
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            put(key, value);
+            return value;
+        }
+        return target.get(key, valueLoader);
+    }
+
+    @Override
+    public @Nullable CompletableFuture<?> retrieve(Object key) {
+        return target.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return target.retrieve(key, valueLoader);
+    }
+
+    // ===== 변경 =====
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        PendingWrites pending = pendingWrites(true);
+        if (pending == null) {
+            target.put(key, value);
+            return;
+        }
+        pending.writes.remove(key); // 순서를 마지막 작업 기준으로
+        pending.writes.put(key, value);
+        deferredPut.increment();
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        return target.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        PendingWrites pending = pendingWrites(true);
+        if (pending == null) {
+            target.evict(key);
+            return;
+        }
+        pending.writes.remove(key);
+        pending.writes.put(key, EVICTED);
+        deferredEvict.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return target.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        PendingWrites pending = pendingWrites(true);
+        if (pending == null) {
+            target.clear();
+            return;
+        }
+        // 앞서 모인 작업은 clear에 덮이므로 버림
+        pending.writes.clear();
+        pending.cleared = true;
+        deferredClear.increment();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return target.invalidate();
+    }
+}
@@ -0,0 +1,299 @@
+package com.codeit.blog.config;
+
+import com.codeit.blog.entity.Post;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 초기 데이터 생성기
+ *
+ * JPA를 거치지 않고 워커마다 커넥션을 하나씩 잡아서 병렬로 행을 만들고
+ * JDBC 배치 INSERT 또는 PostgreSQL COPY로 저장합니다. (100만 건 기준 수십 초)
+ *
+ * id는 시퀀스 대신 "현재 최대 id 이후" 구간을 직접 배정하고, 끝나면 시퀀스를 그 뒤로 옮깁니다.
+ * 테이블이 비어 있을 때(DataInitializer) 한 번만 실행하는 것을 전제로 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkPostSeeder {
+
+    static final String[] CATEGORIES = {"Java", "Spring", "Database", "Architecture", "DevOps"};
+    private static final String[] AUTHORS = {"김개발", "이백엔드", "박프론트", "최데브옵스", "정풀스택"};
+    private static final String[][] TOPICS_BY_CATEGORY = {
+            // Java
+            {"Lambda", "Optional", "Generic", "Reflection", "Annotation", "NIO", "Collection", "Concurrency"},
+            // Spring
+            {"MVC", "WebFlux", "Batch", "Cloud", "Security", "Data", "Integration", "Boot"},
+            // Database
+            {"Index", "Transaction", "Replication", "Sharding", "Partitioning", "Query", "Backup", "Migration"},
+            // Architecture
+            {"Hexagonal", "Layered", "CQRS", "Event-Driven", "Microservices", "Monolith", "Serverless", "DDD"},
+            // DevOps
+            {"CI/CD", "Monitoring", "Logging", "Container", "Orchestration", "IaC", "Cloud", "Automation"}
+    };
+
+    private static final String COLUMNS =
+            "id, title, content, author, category, view_count, like_count, created_at, updated_at";
+    private static final String INSERT_SQL =
+            "INSERT INTO posts (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String COPY_SQL =
+            "COPY posts (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SeedProperties seedProperties;
+
+    /**
+     * 생성할 게시글 한 건
+     */
+    public record SeedRow(String title, String content, String author, String category,
+                          int viewCount, int likeCount, LocalDateTime createdAt) {
+
+        public Post toEntity() {
+            return new Post(title, content, author, category, viewCount, likeCount, createdAt);
+        }
+    }
+
+    /**
+     * 생성 결과 (처리량 리포트)
+     */
+    public record SeedResult(SeedProperties.Mode mode, long rows, double elapsedSeconds, double rowsPerSecond) {
+    }
+
+    /**
+     * index번째 게시글 생성 (같은 index, 같은 난수면 같은 결과)
+     */
+    public SeedRow generateRow(long index, SplittableRandom random, LocalDateTime now) {
+        int categoryIndex = (int) (index % CATEGORIES.length);
+        String category = CATEGORIES[categoryIndex];
+        String author = AUTHORS[random.nextInt(AUTHORS.length)];
+        String topic = TOPICS_BY_CATEGORY[categoryIndex][random.nextInt(TOPICS_BY_CATEGORY[categoryIndex].length)];
+
+        String title = String.format("%s %s 가이드 #%d", category, topic, index + 26);
+        String content = String.format(
+                "이것은 %s 카테고리의 %d번째 게시글입니다. " +
+                        "%s에 대한 상세한 내용을 다룹니다. ",
+                category, index + 1, topic
+        );
+
+        int viewCount = random.nextInt(1000);
+        int likeCount = random.nextInt(viewCount / 5 + 1);
+
+        int spreadDays = seedProperties.getCreatedAtSpreadDays();
+        LocalDateTime createdAt = spreadDays > 0
+                ? now.minusSeconds(random.nextLong(spreadDays * 86_400L))
+                : now;
+
+        return new SeedRow(title, content, author, category, viewCount, likeCount, createdAt);
+    }
+
+    /**
+     * 대량 생성 (JDBC_BATCH / COPY)
+     */
+    public SeedResult seed(long rows) throws InterruptedException {
+        SeedProperties.Mode mode = resolveMode();
+        int parallelism = Math.max(1, seedProperties.getParallelism());
+        int batchSize = Math.max(1, seedProperties.getBatchSize());
+        long chunkSize = batchSize * 10L;
+
+        // 이 JVM이 이미 받아둔 시퀀스 블록과 겹치지 않도록 한 블록만큼 건너뜁니다
+        long firstId = currentMaxId() + Post.ID_ALLOCATION_SIZE + 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        log.info("🚀 대량 데이터 생성 시작: mode={}, rows={}, parallelism={}, batchSize={}",
+                mode, rows, parallelism, batchSize);
+
+        long startTime = System.nanoTime();
+        AtomicLong nextChunk = new AtomicLong(0);
+        AtomicLong written = new AtomicLong(0);
+        long progressStep = Math.max(rows / 10, 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < parallelism; w++) {
+            futures.add(executor.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    long chunkStart;
+                    while ((chunkStart = nextChunk.getAndAdd(chunkSize)) < rows) {
+                        long chunkEnd = Math.min(chunkStart + chunkSize, rows);
+                        // 청크마다 시드를 고정해서 병렬 실행 순서와 관계없이 같은 데이터가 나오게 합니다
+                        SplittableRandom random = new SplittableRandom(chunkStart);
+
+                        if (mode == SeedProperties.Mode.COPY) {
+                            copyChunk(connection, chunkStart, chunkEnd, firstId, batchSize, random, now);
+                        } else {
+                            insertChunk(connection, chunkStart, chunkEnd, firstId, batchSize, random, now);
+                        }
+                        connection.commit();
+
+                        long before = written.getAndAdd(chunkEnd - chunkStart);
+                        if ((before + chunkEnd - chunkStart) / progressStep > before / progressStep) {
+                            log.info("  진행률: {}/{} ({}%)", before + chunkEnd - chunkStart, rows,
+                                    (before + chunkEnd - chunkStart) * 100 / rows);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        executor.shutdown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            throw new IllegalStateException("대량 데이터 생성 실패", e.getCause());
+        }
+
+        double elapsed = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        alignIdSequence();
+
+        SeedResult result = new SeedResult(mode, rows, elapsed, rows / Math.max(elapsed, 1e-9));
+        log.info("✅ 대량 데이터 생성 완료: {}건, {}초, {} rows/s",
+                rows, String.format("%.2f", elapsed), String.format("%,.0f", result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 시퀀스가 테이블의 최대 id보다 뒤에 있도록 맞춥니다.
+     *
+     * 기존 IDENTITY 컬럼 DB에 시퀀스가 새로 생기거나, seed()로 id를 직접 넣은 경우에 필요합니다.
+     * 시퀀스를 앞으로만 옮기므로 다른 노드가 이미 받아간 블록과 겹치지 않습니다.
+     */
+    public void alignIdSequence() {
+        String nextValSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(Post.ID_SEQUENCE);
+
+        Long current = jdbcTemplate.queryForObject(nextValSql, Long.class);
+        long maxId = currentMaxId();
+
+        if (current == null || current <= maxId + Post.ID_ALLOCATION_SIZE) {
+            long restartWith = maxId + Post.ID_ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE " + Post.ID_SEQUENCE + " RESTART WITH " + restartWith);
+            log.info("id 시퀀스 조정: {} -> {}", current, restartWith);
+        }
+    }
+
+    private long currentMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM posts", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    private SeedProperties.Mode resolveMode() {
+        SeedProperties.Mode mode = seedProperties.getMode();
+        if (mode != SeedProperties.Mode.COPY) {
+            return mode;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                return mode;
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 확인 실패: {}", e.getMessage());
+        }
+        log.warn("COPY는 PostgreSQL에서만 지원합니다. JDBC_BATCH로 대체합니다.");
+        return SeedProperties.Mode.JDBC_BATCH;
+    }
+
+    private void insertChunk(Connection connection, long start, long end, long firstId, int batchSize,
+                             SplittableRandom random, LocalDateTime now) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+            int pending = 0;
+            for (long i = start; i < end; i++) {
+                SeedRow row = generateRow(i, random, now);
+                ps.setLong(1, firstId + i);
+                ps.setString(2, row.title());
+                ps.setString(3, row.content());
+                ps.setString(4, row.author());
+                ps.setString(5, row.category());
+                ps.setInt(6, row.viewCount());
+                ps.setInt(7, row.likeCount());
+                ps.setTimestamp(8, Timestamp.valueOf(row.createdAt()));
+                ps.setTimestamp(9, Timestamp.valueOf(row.createdAt()));
+                ps.addBatch();
+
+                if (++pending >= batchSize) {
+                    ps.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+
+    private void copyChunk(Connection connection, long start, long end, long firstId, int batchSize,
+                           SplittableRandom random, LocalDateTime now) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        StringBuilder csv = new StringBuilder(batchSize * 160);
+
+        try {
+            for (long i = start; i < end; i++) {
+                SeedRow row = generateRow(i, random, now);
+                csv.append(firstId + i).append(',');
+                appendCsv(csv, row.title()).append(',');
+                appendCsv(csv, row.content()).append(',');
+                appendCsv(csv, row.author()).append(',');
+                appendCsv(csv, row.category()).append(',');
+                csv.append(row.viewCount()).append(',')
+                        .append(row.likeCount()).append(',')
+                        .append(row.createdAt()).append(',')
+                        .append(row.createdAt()).append('\n');
+
+                if ((i - start + 1) % batchSize == 0) {
+                    copyManager.copyIn(COPY_SQL, new StringReader(csv.toString()));
+                    csv.setLength(0);
+                }
+            }
+            if (!csv.isEmpty()) {
+                copyManager.copyIn(COPY_SQL, new StringReader(csv.toString()));
+            }
+        } catch (IOException e) {
+            throw new SQLException("COPY 전송 실패", e);
+        }
+    }
+
+    private static StringBuilder appendCsv(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        return sb.append('"');
+    }
+}
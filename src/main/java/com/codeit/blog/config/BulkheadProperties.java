@@ -0,0 +1,40 @@
+package com.codeit.blog.config;
+
+import com.codeit.blog.limit.AdaptiveConcurrencyLimiter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * PostService DB 로드 동시 실행 제한 설정 (blog.bulkhead.*)
+ *
+ * 작업(findById, findByCategory, findPopularPosts, findAll)마다 따로 한도를 가집니다.
+ * 한도 합계(maxLimit x 작업 수)가 커넥션 풀보다 크더라도 지연이 늘면 한도가 줄어들어 쓰기용 커넥션이 남습니다.
+ */
+@ConfigurationProperties(prefix = "blog.bulkhead")
+@Getter
+@Setter
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    private AdaptiveConcurrencyLimiter.Algorithm algorithm = AdaptiveConcurrencyLimiter.Algorithm.GRADIENT;
+
+    private int initialLimit = 4;
+    private int minLimit = 1;
+    private int maxLimit = 6;
+
+    // GRADIENT: 평소 지연의 몇 배까지 정상으로 볼지, 새 한도 반영 비율
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+
+    // AIMD: 실패 / latencyThreshold 초과 시 한도에 곱할 비율
+    private double backoffRatio = 0.9;
+    private Duration latencyThreshold = Duration.ofSeconds(2);
+
+    // 한도 초과 시 응답할 마지막 성공 값 보관 시간 (0 이면 바로 거절)
+    private Duration staleTtl = Duration.ofMinutes(10);
+    private long staleMaximumSize = 10_000;
+}
@@ -1,92 +1,239 @@
 package com.codeit.blog.config;
 
+import com.codeit.blog.cache.JitteredExpiry;
+import com.codeit.blog.cache.PeerCacheClient;
+import com.codeit.blog.cache.PeerPartitionedCache;
+import com.codeit.blog.cache.TransactionalCacheDecorator;
 import com.codeit.blog.entity.Post;
+import com.codeit.blog.jfr.JfrEvents;
 import com.codeit.blog.repository.PostRepository;
+import com.codeit.blog.service.PostIdFilter;
+import com.codeit.blog.trace.CacheAccessTracer;
+import com.codeit.blog.trace.TracingCaffeineCache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 @Configuration
 @EnableCaching
 @Slf4j
 public class CacheConfig {
 
-    @Bean
-    public CacheManager caffeineCacheManager() {
-        log.info("caffeine 캐시 매니저 초기화");
-
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-
-        // 카페인 기본 설정
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000) // 캐시 최대 1000개. 넘으면 LRU(Least Recently Used) 방식으로 제거
-                .expireAfterWrite(Duration.ofMinutes(10)) // 저장 후 10분이 지나면 자동으로 만료
-                .recordStats() // 통계 수집 활성화
-        );
-
-        // 캐시별 개별 설정
-        cacheManager.registerCustomCache("posts",
-                Caffeine.newBuilder()
-                        .maximumSize(500)
-                        .expireAfterWrite(Duration.ofSeconds(10))
-                        .recordStats()
-                        .build()
+    /**
+     * 캐시 로드 / 갱신 전용 스레드 풀
+     * 기본값인 ForkJoinPool.commonPool()은 다른 병렬 작업과 공유되므로 DB 로드는 여기서만 실행합니다.
+     * 빈으로 등록하면 Spring Boot 기본 applicationTaskExecutor가 빠지므로 설정 클래스가 직접 관리합니다.
+     */
+    private final ThreadPoolExecutor postLoaderExecutor;
+
+    /**
+     * region별 크기 / TTL / refresh / jitter (blog.cache.regions.*), 생성 시점에 검사
+     */
+    private final CacheRegionProperties cacheRegions;
+
+    public CacheConfig(@Value("${blog.cache.async.loader-threads:16}") int loaderThreads,
+                       @Value("${blog.cache.async.loader-queue-capacity:1000}") int loaderQueueCapacity,
+                       CacheRegionProperties cacheRegions) {
+        cacheRegions.validate();
+        this.cacheRegions = cacheRegions;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.postLoaderExecutor = new ThreadPoolExecutor(
+                loaderThreads, loaderThreads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(loaderQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "post-loader-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy() // 큐가 가득 차면 해당 로드만 실패 (요청 스레드에서 DB를 치지 않도록)
         );
+        this.postLoaderExecutor.allowCoreThreadTimeOut(true);
+    }
 
-        cacheManager.registerCustomCache("postsByCategory",
-                Caffeine.newBuilder()
-                        .maximumSize(100)
-                        .expireAfterWrite(Duration.ofMinutes((long) (3 + (Math.random()*3))))
-                        .recordStats()
-                        .build()
-        );
+    @PreDestroy
+    public void shutdownLoaderExecutor() {
+        postLoaderExecutor.shutdown();
+    }
 
-        cacheManager.registerCustomCache("popularPosts",
-                Caffeine.newBuilder()
-                        .maximumSize(10)
-                        .expireAfterWrite(Duration.ofMinutes(1))
-                        .recordStats()
-                        .build()
-        );
+    @Bean
+    public CacheManager caffeineCacheManager(CacheAccessTracer cacheAccessTracer, MeterRegistry meterRegistry,
+                                             ObjectProvider<PeerCacheClient> peerCacheClientProvider,
+                                             PeerCacheProperties peerCacheProperties) {
+        log.info("caffeine 캐시 매니저 초기화");
+        PeerCacheClient peerCacheClient = peerCacheClientProvider.getIfAvailable();
+
+        // 모든 캐시를 접근 기록이 가능한 캐시로 감싸기 (기록은 /api/cache/trace/start 후에만)
+        // posts는 노드 분할 모드(blog.cache.peer.enabled)면 담당 노드로 보내는 캐시로 한 번 더 감쌈
+        // 그 위에 트랜잭션 중 put/evict를 커밋 후로 미루는 데코레이터 (롤백된 데이터가 캐시에 남지 않도록)
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return decorate(name, new TracingCaffeineCache(name, cache, isAllowNullValues(), cacheAccessTracer));
+            }
+
+            // async: true region
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                return decorate(name, new TracingCaffeineCache(name, cache, isAllowNullValues(), cacheAccessTracer));
+            }
+
+            private org.springframework.cache.Cache decorate(String name, org.springframework.cache.Cache target) {
+                if (peerCacheClient != null && "posts".equals(name)) {
+                    target = new PeerPartitionedCache(target, peerCacheClient, Post.class,
+                            peerCacheProperties.getNearCacheMaximumSize(), peerCacheProperties.getNearCacheTtl(),
+                            meterRegistry);
+                }
+                return new TransactionalCacheDecorator(target, meterRegistry);
+            }
+        };
+
+        // 정의되지 않은 이름의 캐시 (blog.cache.regions.default)
+        CacheRegionProperties.Region defaults = cacheRegions.region(CacheRegionProperties.DEFAULT_REGION);
+        cacheManager.setCaffeine(newBuilder(defaults));
+        cacheManager.setAsyncCacheMode(defaults.isAsync());
+
+        // 캐시별 개별 설정 (blog.cache.regions.{이름}), async면 AsyncCache로
+        cacheRegions.springCacheRegions().forEach((name, region) -> {
+            Caffeine<Object, Object> builder = newBuilder(region).evictionListener(JfrEvents.evictionListener(name));
+            if (region.isAsync()) {
+                cacheManager.registerCustomCache(name, builder.buildAsync());
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+            log.info("캐시 region 등록: {} ({})", name, describe(region));
+        });
 
         return cacheManager;
     }
 
     @Bean
-    public LoadingCache<Long, Post> postLoadingCache(PostRepository postRepository) {
-        return Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(Duration.ofMinutes(10))
-                .refreshAfterWrite(Duration.ofMinutes(2)) // 캐시 미리 갱신하는 로직 (LoadingCache와 함께 작성)
-                .recordStats()
+    public LoadingCache<Long, Post> postLoadingCache(PostRepository postRepository, PostIdFilter postIdFilter) {
+        // refresh: 캐시 미리 갱신하는 로직 (LoadingCache와 함께 작성)
+        return newBuilder(cacheRegions.region("postLoadingCache"))
+                .executor(postLoaderExecutor) // refresh도 전용 풀에서 실행
+                .<Long, Post>evictionListener(JfrEvents.evictionListener("postLoadingCache"))
                 // build() 안에 로딩 로직을 정의.
                 // 캐시 미스 시 자동으로 이 로직이 실행되고, 동시 요청은 첫번째만 실행되고 나머지는 기다립니다.
-                .build(key -> {
-                    log.info("LoadingCache: DB에서 로드 중... key={}", key);
-                    return postRepository.findById(key)
-                            .orElseThrow(() -> new IllegalArgumentException("게시글 없음: " + key));
-                });
+                .build(key -> JfrEvents.load("postLoadingCache", key, id -> {
+                    log.info("LoadingCache: DB에서 로드 중... key={}", id);
+                    return postIdFilter.find(id, postRepository::findById)
+                            .orElseThrow(() -> new IllegalArgumentException("게시글 없음: " + id));
+                }));
     }
 
+    /**
+     * 비동기 단건 조회 캐시 (blog.cache.regions.postsAsync)
+     * 미스 시 요청 스레드는 바로 반환되고, 같은 키의 진행 중인 로드는 모든 요청이 같은 Future를 공유합니다.
+     */
+    @Bean
+    public AsyncLoadingCache<Long, Post> postAsyncLoadingCache(PostRepository postRepository, PostIdFilter postIdFilter,
+                                                              MeterRegistry meterRegistry) {
+        ExecutorServiceMetrics.monitor(meterRegistry, postLoaderExecutor, "postLoader");
+        return asyncLoadingCache("posts", cacheRegions.region("postsAsync"), meterRegistry, id -> {
+            log.debug("AsyncLoadingCache: DB에서 로드 중... id={}", id);
+            return postIdFilter.find(id, postRepository::findById)
+                    .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + id));
+        });
+    }
 
-}
-
-
-
-
-
-
-
-
-
+    /**
+     * 비동기 카테고리별 조회 캐시 (blog.cache.regions.postsByCategoryAsync)
+     */
+    @Bean
+    public AsyncLoadingCache<String, List<Post>> postsByCategoryAsyncLoadingCache(PostRepository postRepository,
+                                                                                   PartitioningProperties partitioningProperties,
+                                                                                   MeterRegistry meterRegistry) {
+        return asyncLoadingCache("postsByCategory", cacheRegions.region("postsByCategoryAsync"), meterRegistry, category -> {
+            log.debug("AsyncLoadingCache: DB에서 카테고리 로드 중... category={}", category);
+            return postRepository.findHotByCategory(category, partitioningProperties.getHotWindow());
+        });
+    }
 
+    /**
+     * 로드가 큐에 들어간 순간부터 끝날 때까지를 blog.cache.async.inflight{cache=이름} 으로 노출
+     * JFR 이벤트 region은 "async:이름" (Spring 캐시와 구분)
+     */
+    private <K, V> AsyncLoadingCache<K, V> asyncLoadingCache(String name, CacheRegionProperties.Region spec,
+                                                            MeterRegistry meterRegistry, Function<K, V> loader) {
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("blog.cache.async.inflight", inFlight, AtomicInteger::get)
+                .tag("cache", name)
+                .description("진행 중인 비동기 캐시 로드 수")
+                .register(meterRegistry);
+
+        String region = "async:" + name;
+        return newBuilder(spec)
+                .executor(postLoaderExecutor)
+                .<K, V>evictionListener(JfrEvents.evictionListener(region))
+                .buildAsync((K key, Executor executor) -> {
+                    inFlight.incrementAndGet();
+                    try {
+                        return CompletableFuture.supplyAsync(() -> JfrEvents.load(region, key, loader), executor)
+                                .whenComplete((value, error) -> inFlight.decrementAndGet());
+                    } catch (RuntimeException e) {
+                        // 풀의 큐가 가득 찬 경우 (RejectedExecutionException)
+                        inFlight.decrementAndGet();
+                        throw e;
+                    }
+                });
+    }
 
+    /**
+     * region 정의로 Caffeine 빌더 생성
+     * jitter가 있으면 expireAfterWrite 대신 항목별 무작위 만료(JitteredExpiry)를 씁니다.
+     */
+    private static Caffeine<Object, Object> newBuilder(CacheRegionProperties.Region region) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (region.getMaximumWeight() != null) {
+            builder = builder.maximumWeight(region.getMaximumWeight())
+                    .weigher(CacheRegionProperties::weigh);
+        } else {
+            builder = builder.maximumSize(region.getMaximumSize());
+        }
+        if (region.getTtl() != null) {
+            if (region.getJitter() > 0) {
+                builder = builder.expireAfter(new JitteredExpiry<>(region.getTtl(), region.getJitter()));
+            } else {
+                builder = builder.expireAfterWrite(region.getTtl());
+            }
+        }
+        if (region.getRefresh() != null) {
+            builder = builder.refreshAfterWrite(region.getRefresh());
+        }
+        return builder;
+    }
 
+    private static String describe(CacheRegionProperties.Region region) {
+        return (region.getMaximumWeight() != null ? "maximumWeight=" + region.getMaximumWeight() : "maximumSize=" + region.getMaximumSize())
+                + ", ttl=" + region.getTtl()
+                + (region.getJitter() > 0 ? " ±" + region.getJitter() + "%" : "")
+                + (region.getRefresh() != null ? ", refresh=" + region.getRefresh() : "")
+                + (region.isAsync() ? ", async" : "");
+    }
+}
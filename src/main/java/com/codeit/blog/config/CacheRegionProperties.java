@@ -0,0 +1,156 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 캐시 region 정의 (blog.cache.regions.{이름}.*)
+ *
+ * CacheConfig가 이 정의로 Caffeine 캐시를 만듭니다.
+ * - 빈으로 만드는 캐시(LOADING_REGIONS, ASYNC_REGIONS)를 뺀 나머지는 Spring 캐시(@Cacheable)로 등록
+ * - async: true면 Caffeine AsyncCache로 만듦 (CompletableFuture를 반환하는 @Cacheable도 캐시 가능)
+ *   빈으로 만드는 캐시는 빈 타입이 정해져 있으므로 ASYNC_REGIONS는 true, LOADING_REGIONS는 false만 허용
+ * - default는 정의되지 않은 이름의 Spring 캐시에 적용
+ * 시작할 때 validate()로 검사해서 잘못된 값이 있으면 모두 모아 한 번에 실패시킵니다.
+ */
+@ConfigurationProperties(prefix = "blog.cache")
+@Getter
+@Setter
+public class CacheRegionProperties {
+
+    public static final String DEFAULT_REGION = "default";
+
+    // 로더가 있는 LoadingCache 빈 (refresh 가능)
+    public static final Set<String> LOADING_REGIONS = Set.of("postLoadingCache");
+
+    // AsyncLoadingCache 빈 (async: true, refresh 가능)
+    public static final Set<String> ASYNC_REGIONS = Set.of("postsAsync", "postsByCategoryAsync");
+
+    // 코드에서 이름으로 쓰는 Spring 캐시
+    public static final Set<String> REQUIRED_CACHES = Set.of("posts", "postsByCategory", "popularPosts");
+
+    // jitter 상한 (%), TTL이 0 근처로 떨어지지 않도록
+    static final int MAX_JITTER = 50;
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        // 둘 중 하나만, maximumWeight는 값이 컬렉션이면 원소 수로 셈 (카테고리 목록 등)
+        private Long maximumSize;
+        private Long maximumWeight;
+
+        // 저장 후 만료 시간, 비우면 만료 없음
+        private Duration ttl;
+
+        // 만료 시간을 항목마다 ±jitter% 안에서 무작위로 (같은 시각에 들어간 항목이 한꺼번에 만료되지 않도록)
+        private int jitter = 0;
+
+        // 저장 후 이 시간이 지나서 조회되면 이전 값을 응답하면서 다시 로드 (로더가 있는 region만)
+        private Duration refresh;
+
+        // AsyncCache로 만드는 region (default면 정의되지 않은 이름의 Spring 캐시 전체)
+        private boolean async = false;
+    }
+
+    public Region region(String name) {
+        Region region = regions.get(name);
+        if (region == null) {
+            throw new IllegalStateException("blog.cache.regions." + name + " 정의가 없습니다");
+        }
+        return region;
+    }
+
+    /**
+     * Spring 캐시로 등록할 region (default, 빈으로 만드는 region 제외)
+     */
+    public Map<String, Region> springCacheRegions() {
+        Map<String, Region> result = new LinkedHashMap<>(regions);
+        result.remove(DEFAULT_REGION);
+        result.keySet().removeAll(LOADING_REGIONS);
+        result.keySet().removeAll(ASYNC_REGIONS);
+        return result;
+    }
+
+    public void validate() {
+        List<String> errors = new ArrayList<>();
+
+        requirePresent(errors, List.of(DEFAULT_REGION));
+        requirePresent(errors, REQUIRED_CACHES);
+        requirePresent(errors, LOADING_REGIONS);
+        requirePresent(errors, ASYNC_REGIONS);
+
+        regions.forEach((name, region) -> {
+            String prefix = "blog.cache.regions." + name + ".";
+            boolean loading = LOADING_REGIONS.contains(name) || ASYNC_REGIONS.contains(name);
+
+            if ((region.maximumSize == null) == (region.maximumWeight == null)) {
+                errors.add(prefix + "maximum-size와 maximum-weight 중 하나만 지정해야 합니다");
+            } else if ((region.maximumSize != null && region.maximumSize < 1)
+                    || (region.maximumWeight != null && region.maximumWeight < 1)) {
+                errors.add(prefix + "maximum-size / maximum-weight는 1 이상이어야 합니다");
+            }
+            if (region.ttl != null && (region.ttl.isZero() || region.ttl.isNegative())) {
+                errors.add(prefix + "ttl은 0보다 커야 합니다: " + region.ttl);
+            }
+            if (region.jitter < 0 || region.jitter > MAX_JITTER) {
+                errors.add(prefix + "jitter는 0 ~ " + MAX_JITTER + " 범위여야 합니다: " + region.jitter);
+            }
+            if (region.jitter > 0 && region.ttl == null) {
+                errors.add(prefix + "jitter는 ttl이 있을 때만 쓸 수 있습니다");
+            }
+            if (region.refresh != null) {
+                if (!loading) {
+                    errors.add(prefix + "refresh는 로더가 있는 region(" + LOADING_REGIONS + ", " + ASYNC_REGIONS + ")만 쓸 수 있습니다");
+                } else if (region.refresh.isZero() || region.refresh.isNegative()) {
+                    errors.add(prefix + "refresh는 0보다 커야 합니다: " + region.refresh);
+                } else if (region.ttl != null && minimumTtl(region).compareTo(region.refresh) <= 0) {
+                    errors.add(prefix + "refresh(" + region.refresh + ")는 jitter를 뺀 최소 ttl보다 짧아야 합니다");
+                }
+            }
+            if (ASYNC_REGIONS.contains(name) && !region.async) {
+                errors.add(prefix + "async는 true여야 합니다 (AsyncLoadingCache 빈으로 만드는 region)");
+            }
+            if (LOADING_REGIONS.contains(name) && region.async) {
+                errors.add(prefix + "async는 false여야 합니다 (LoadingCache 빈으로 만드는 region)");
+            }
+        });
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("캐시 region 설정 오류:\n - " + String.join("\n - ", errors));
+        }
+    }
+
+    private void requirePresent(List<String> errors, Collection<String> names) {
+        for (String name : names) {
+            if (!regions.containsKey(name)) {
+                errors.add("blog.cache.regions." + name + " 정의가 없습니다");
+            }
+        }
+    }
+
+    static Duration minimumTtl(Region region) {
+        return region.ttl.multipliedBy(100 - region.jitter).dividedBy(100);
+    }
+
+    /**
+     * maximum-weight region의 항목 무게 (컬렉션은 원소 수, 빈 컬렉션과 나머지는 1)
+     */
+    public static int weigh(Object key, Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+}
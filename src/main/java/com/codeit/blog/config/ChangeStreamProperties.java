@@ -0,0 +1,38 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게시글 변경 스트림 설정 (blog.posts.changes.*, GET /api/posts/changes)
+ */
+@ConfigurationProperties(prefix = "blog.posts.changes")
+@Getter
+@Setter
+public class ChangeStreamProperties {
+
+    // Last-Event-ID로 이어받을 수 있는 최근 이벤트 수, 이보다 오래 끊겼으면 resync
+    private int replayBufferSize = 10_000;
+
+    // 구독자별 전송 대기 이벤트 수, 넘치면 쌓인 이벤트를 버리고 resync 하나만 보냄
+    private int subscriberBufferSize = 256;
+
+    // 동시 구독자 상한 (넘으면 503), Tomcat max-connections(기본 8192) 안에서 조정
+    private int maxSubscribers = 5_000;
+
+    // 연결 최대 유지 시간, 끊기면 EventSource가 Last-Event-ID로 다시 연결
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+
+    // 이벤트가 없어도 주기적으로 주석을 보내서 끊긴 연결을 정리
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    // 구독자에게 이벤트를 써 주는 스레드 수 (연결 수와 무관)
+    private int senderThreads = 4;
+
+    // 조회수 / 좋아요 수가 이 단위를 넘을 때마다 이벤트 (0이면 보내지 않음)
+    private int viewCountStep = 100;
+    private int likeCountStep = 10;
+}
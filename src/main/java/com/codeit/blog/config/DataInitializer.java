@@ -2,22 +2,28 @@ package com.codeit.blog.config;
 
 import com.codeit.blog.entity.Post;
 import com.codeit.blog.repository.PostRepository;
+import com.codeit.blog.service.CategoryStatsService;
 import com.codeit.blog.service.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * 초기 데이터 생성
  *
  * ApplicationRunner를 구현하여 애플리케이션 시작 시 자동 실행
+ * blog.startup.defer-data-initialization=true 면 ApplicationReadyEvent 이후 백그라운드 스레드에서 실행합니다.
+ * 끝나면 InitialDataReadyEvent를 발행합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -26,11 +32,56 @@ public class DataInitializer implements ApplicationRunner {
 
     private final PostRepository postRepository;
     private final PostService postService;
-    private final Random random = new Random();
+    private final BulkPostSeeder bulkPostSeeder;
+    private final SeedProperties seedProperties;
+    private final CategoryStatsService categoryStatsService;
+    private final StartupProperties startupProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    @Transactional
-    public void run(ApplicationArguments args) {
+    public void run(ApplicationArguments args) throws InterruptedException {
+
+        // IDENTITY → SEQUENCE 전환 후 기존 데이터가 있는 DB에서도 id가 겹치지 않도록
+        // 지연 모드에서도 요청을 받기 전에 맞춰야 하므로 여기서 실행 (쿼리 1~2개)
+        bulkPostSeeder.alignIdSequence();
+
+        if (startupProperties.isDeferDataInitialization()) {
+            log.info("초기 데이터 생성을 ApplicationReadyEvent 이후로 미룹니다. (blog.startup.defer-data-initialization)");
+            return;
+        }
+        initialize();
+    }
+
+    /**
+     * 지연 모드: 요청을 받기 시작한 뒤 별도 스레드에서 실행
+     * 끝나기 전까지는 목록 조회가 비어 있을 수 있고, PostIdFilter는 아직 만들지 않았으므로 모든 id를 통과시킵니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeDeferred() {
+        if (!startupProperties.isDeferDataInitialization()) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                initialize();
+                log.info("지연 초기 데이터 처리 완료 ({}ms)", System.currentTimeMillis() - start);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("지연 초기 데이터 생성이 중단되었습니다.");
+            } catch (Exception e) {
+                log.error("지연 초기 데이터 생성 실패", e);
+            }
+        }, "data-initializer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 트랜잭션 없이 실행합니다.
+     * BulkPostSeeder는 별도 커넥션으로 저장하므로 샘플 게시글이 먼저 커밋되어 있어야 합니다.
+     */
+    private void initialize() throws InterruptedException {
 
         // 캐시 워머 전략: 서버 시작 시 미리 캐시를 채우는 전략
 //        List<Post> popularPost = postRepository.findTop10ByOrderByViewCountDesc();
@@ -38,8 +89,10 @@ public class DataInitializer implements ApplicationRunner {
 //            postService.findById(post.getId()); // 캐시에 저장됨
 //        });
 
-        if (postRepository.count() > 0) {
+        // count()는 PostgreSQL에서 전체 스캔이므로 한 건만 확인
+        if (postRepository.existsAny()) {
             log.info("초기 데이터가 이미 존재합니다. 스킵합니다.");
+            eventPublisher.publishEvent(new InitialDataReadyEvent(false));
             return;
         }
 
@@ -55,13 +108,13 @@ public class DataInitializer implements ApplicationRunner {
         long totalCount = postRepository.count();
         log.info("===== 초기 데이터 생성 완료: 총 {}개 게시글 =====", totalCount);
 
-        // 카테고리별 통계 출력
+        // 카테고리별 통계 출력 (대량 생성은 JDBC로 들어가므로 집계를 한 번 맞춘 뒤 집계 테이블에서 읽음)
+        categoryStatsService.reconcile();
         log.info("카테고리별 게시글 수:");
-        List<String> categories = List.of("Java", "Spring", "Database", "Architecture", "DevOps");
-        categories.forEach(category -> {
-            long count = postRepository.countByCategory(category);
-            log.info("  - {}: {}개", category, count);
-        });
+        categoryStatsService.findAll().forEach(stats ->
+                log.info("  - {}: {}개", stats.getCategory(), stats.getPostCount()));
+
+        eventPublisher.publishEvent(new InitialDataReadyEvent(true));
     }
 
     /**
@@ -113,56 +166,35 @@ public class DataInitializer implements ApplicationRunner {
 
     /**
      * 대량 데이터 생성
+     * JPA 모드는 기존 saveAll 방식, 나머지는 BulkPostSeeder (병렬 JDBC 배치 / COPY)
      */
-    private void generateLargeDataset() {
-        log.info("🚀 대량 데이터 생성 시작 (10,000개)...");
-
-        String[] categories = {"Java", "Spring", "Database", "Architecture", "DevOps"};
-        String[] authors = {"김개발", "이백엔드", "박프론트", "최데브옵스", "정풀스택"};
-        String[][] topicsByCategory = {
-                // Java
-                {"Lambda", "Optional", "Generic", "Reflection", "Annotation", "NIO", "Collection", "Concurrency"},
-                // Spring
-                {"MVC", "WebFlux", "Batch", "Cloud", "Security", "Data", "Integration", "Boot"},
-                // Database
-                {"Index", "Transaction", "Replication", "Sharding", "Partitioning", "Query", "Backup", "Migration"},
-                // Architecture
-                {"Hexagonal", "Layered", "CQRS", "Event-Driven", "Microservices", "Monolith", "Serverless", "DDD"},
-                // DevOps
-                {"CI/CD", "Monitoring", "Logging", "Container", "Orchestration", "IaC", "Cloud", "Automation"}
-        };
-
-        List<Post> batch = new ArrayList<>();
-        int batchSize = 500; // 500개씩 배치 처리
+    private void generateLargeDataset() throws InterruptedException {
+        long rows = seedProperties.getRows();
 
-        long startTime = System.currentTimeMillis();
+        if (seedProperties.getMode() != SeedProperties.Mode.JPA) {
+            bulkPostSeeder.seed(rows);
+            return;
+        }
 
-        for (int i = 0; i < 10000; i++) {
-            int categoryIndex = i % categories.length;
-            String category = categories[categoryIndex];
-            String author = authors[random.nextInt(authors.length)];
-            String topic = topicsByCategory[categoryIndex][random.nextInt(topicsByCategory[categoryIndex].length)];
+        log.info("🚀 대량 데이터 생성 시작 ({}개, JPA)...", rows);
 
-            String title = String.format("%s %s 가이드 #%d", category, topic, i + 26);
-            String content = String.format(
-                    "이것은 %s 카테고리의 %d번째 게시글입니다. " +
-                            "%s에 대한 상세한 내용을 다룹니다. ",
-                            category, i + 1, topic
-            );
+        List<Post> batch = new ArrayList<>();
+        int batchSize = seedProperties.getBatchSize(); // batchSize개씩 배치 처리
+        SplittableRandom random = new SplittableRandom();
+        LocalDateTime now = LocalDateTime.now();
 
-            int viewCount = random.nextInt(1000);
-            int likeCount = random.nextInt(viewCount / 5 + 1);
+        long startTime = System.currentTimeMillis();
 
-            Post post = createPost(title, content, author, category, viewCount, likeCount);
-            batch.add(post);
+        for (long i = 0; i < rows; i++) {
+            batch.add(bulkPostSeeder.generateRow(i, random, now).toEntity());
 
             // 배치 크기만큼 모이면 저장
             if (batch.size() >= batchSize) {
                 postRepository.saveAll(batch);
                 batch.clear();
 
-                if ((i + 1) % 2000 == 0) {
-                    log.info("  진행률: {}/10,000 ({}%)", i + 1, (i + 1) / 100);
+                if ((i + 1) % (batchSize * 4L) == 0) {
+                    log.info("  진행률: {}/{} ({}%)", i + 1, rows, (i + 1) * 100 / rows);
                 }
             }
         }
@@ -173,20 +205,12 @@ public class DataInitializer implements ApplicationRunner {
         }
 
         long elapsed = System.currentTimeMillis() - startTime;
-        log.info("✅ 대량 데이터 생성 완료 (소요 시간: {}초)", elapsed / 1000.0);
+        log.info("✅ 대량 데이터 생성 완료 (소요 시간: {}초, {} rows/s)",
+                elapsed / 1000.0, String.format("%,.0f", rows * 1000.0 / Math.max(elapsed, 1)));
     }
 
     private Post createPost(String title, String content, String author, String category, int viewCount, int likeCount) {
-        Post post = new Post(title, content, author, category);
-
-        // 조회수와 좋아요 수 설정
-        for (int i = 0; i < viewCount; i++) {
-            post.incrementViewCount();
-        }
-        for (int i = 0; i < likeCount; i++) {
-            post.incrementLikeCount();
-        }
-
-        return post;
+        // 조회수와 좋아요 수는 생성자에서 바로 설정
+        return new Post(title, content, author, category, viewCount, likeCount, LocalDateTime.now());
     }
 }
@@ -0,0 +1,81 @@
+package com.codeit.blog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource 구성
+ *
+ * blog.datasource.routing.enabled=true 일 때만 적용됩니다.
+ * primary는 기존 spring.datasource / spring.datasource.hikari 설정을 그대로 쓰고,
+ * 복제본은 blog.datasource.routing.replicas 목록으로 풀을 하나씩 만듭니다.
+ * 모든 풀은 hikaricp.connections.*{pool=이름} 메트릭을 따로 가집니다.
+ *
+ * 로컬 PostgreSQL 하나로 테스트할 때는 복제본 url을 primary와 같게 두면 됩니다. (논리 DataSource 2개)
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.datasource.routing.enabled", havingValue = "true")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReplicaRoutingProperties routingProperties,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(metrics);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (ReplicaRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(replica.getName() != null ? replica.getName() : "replica-" + (replicas.size() + 1));
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setMinimumIdle(replica.getMinimumIdle());
+            pool.setConnectionTimeout(primary.getConnectionTimeout());
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(metrics);
+            replicas.add(pool);
+        }
+
+        log.info("DataSource 라우팅 활성화: primary + 복제본 {}개 ({}), balance={}",
+                replicas.size(), replicas.stream().map(HikariDataSource::getPoolName).toList(),
+                routingProperties.getBalance());
+
+        return new ReplicaRoutingDataSource(primary, replicas, routingProperties, meterRegistry);
+    }
+
+    /**
+     * JPA가 사용하는 DataSource
+     * 실제 커넥션은 첫 쿼리 시점에 가져오므로 그때는 트랜잭션의 readOnly 여부가 정해져 있습니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
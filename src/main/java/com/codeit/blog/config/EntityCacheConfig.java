@@ -0,0 +1,78 @@
+package com.codeit.blog.config;
+
+import com.codeit.blog.entity.Post;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine)
+ *
+ * @Cacheable을 거치지 않는 조회도 DB까지 가지 않도록 엔티티 단위로 캐시합니다.
+ * - findByIdOrNull(id > 100), 트랜잭션 안의 findById (update, incrementViewCount)
+ * - postLoadingCache 로더의 postRepository.findById
+ *
+ * region은 여기서 직접 만들고 크기/TTL은 blog.cache.entity.* 로 조정합니다.
+ * CacheManager는 JVM 공용 기본 매니저가 아니라 컨텍스트마다 따로 만들고 종료 시 닫습니다.
+ * (테스트처럼 한 JVM에 컨텍스트가 여러 개 떠도 같은 region을 두 번 만들다 실패하지 않도록)
+ * 내부 Caffeine 통계를 켜두므로 CacheMonitorController에서 "l2:" 이름으로 같이 조회됩니다.
+ */
+@Configuration
+@Slf4j
+public class EntityCacheConfig {
+
+    // Hibernate 기본 쿼리 캐시 region 이름
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager entityCacheManager(EntityCacheProperties properties) {
+        javax.cache.CacheManager cacheManager = Caching
+                .getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("blog-entity-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, Post.CACHE_REGION, properties.getMaximumSize(), properties.getTtl());
+        createRegion(cacheManager, QUERY_RESULTS_REGION, properties.getQueryMaximumSize(), properties.getQueryTtl());
+        // 테이블별 마지막 변경 시각, 쿼리 결과보다 먼저 사라지면 안 되므로 만료 없음
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 1_000, null);
+
+        log.info("Hibernate 2차 캐시 region 생성: {} (maximumSize={}, ttl={}), 쿼리 캐시 (maximumSize={}, ttl={})",
+                Post.CACHE_REGION, properties.getMaximumSize(), properties.getTtl(),
+                properties.getQueryMaximumSize(), properties.getQueryTtl());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(javax.cache.CacheManager entityCacheManager,
+                                                               EntityCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put("hibernate.cache.use_second_level_cache", properties.isEnabled());
+            hibernateProperties.put("hibernate.cache.use_query_cache",
+                    properties.isEnabled() && properties.isQueryCacheEnabled());
+            hibernateProperties.put("hibernate.cache.region.factory_class", "jcache");
+            hibernateProperties.put("hibernate.javax.cache.cache_manager", entityCacheManager);
+            hibernateProperties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        };
+    }
+
+    private void createRegion(javax.cache.CacheManager cacheManager, String name, long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        configuration.setNativeStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
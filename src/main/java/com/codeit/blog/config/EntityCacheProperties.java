@@ -0,0 +1,29 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Hibernate 2차 캐시 설정 (blog.cache.entity.*)
+ *
+ * Spring 캐시(@Cacheable)와 별개로, JPA가 엔티티를 조회할 때마다 적용되는 캐시입니다.
+ */
+@ConfigurationProperties(prefix = "blog.cache.entity")
+@Getter
+@Setter
+public class EntityCacheProperties {
+
+    private boolean enabled = true;
+
+    // Post 엔티티 region
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // 쿼리 결과 region (id 목록만 저장, 엔티티는 엔티티 region에서 조회)
+    private boolean queryCacheEnabled = true;
+    private long queryMaximumSize = 1_000;
+    private Duration queryTtl = Duration.ofMinutes(1);
+}
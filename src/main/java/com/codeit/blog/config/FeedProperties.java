@@ -0,0 +1,34 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 홈 피드 설정 (blog.feed.*, GET /api/feed)
+ */
+@ConfigurationProperties(prefix = "blog.feed")
+@Getter
+@Setter
+public class FeedProperties {
+
+    // 인기 게시글 다음에 보여줄 카테고리 (DataInitializer 샘플 카테고리)
+    private List<String> categories = new ArrayList<>(List.of("Java", "Spring", "Database", "Architecture", "DevOps"));
+
+    // 카테고리별로 보여줄 게시글 수 (첫 페이지)
+    private int categorySliceSize = 10;
+
+    // 전체 응답 시간 예산, 넘은 조각은 빼고 partial로 응답 (조각 로드는 계속 진행되어 캐시를 채움)
+    private Duration timeBudget = Duration.ofMillis(500);
+
+    // 합친 결과 최대 보관 시간 (조각 캐시가 바뀌면 그 전에 다시 만듦)
+    private Duration ttl = Duration.ofSeconds(30);
+
+    // 조각을 병렬로 가져오는 풀
+    private int threads = 8;
+    private int queueCapacity = 100;
+}
@@ -0,0 +1,31 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게시글 생성 묶음 커밋 설정 (blog.posts.group-commit.*, POST /api/posts)
+ */
+@ConfigurationProperties(prefix = "blog.posts.group-commit")
+@Getter
+@Setter
+public class GroupCommitProperties {
+
+    // false 면 요청마다 PostService.create (트랜잭션 하나에 INSERT 하나)
+    private boolean enabled = true;
+
+    // 한 트랜잭션에 묶을 최대 생성 요청 수
+    private int maxBatchSize = 64;
+
+    // 첫 요청이 들어온 뒤 더 모으기 위해 기다리는 최대 시간 (혼자 들어온 요청의 추가 지연)
+    private Duration maxWait = Duration.ofMillis(2);
+
+    // 대기열 크기, 가득 차면 503
+    private int queueCapacity = 10_000;
+
+    // 요청 스레드가 대기열에서 기다리는 최대 시간, 넘으면 대기열에서 빼고 504 (이미 저장 중이면 결과를 기다림)
+    private Duration commitTimeout = Duration.ofSeconds(10);
+}
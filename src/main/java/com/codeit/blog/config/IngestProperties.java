@@ -0,0 +1,23 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 대량 등록 설정 (blog.posts.ingest.*, POST /api/posts/bulk)
+ *
+ * 요청 파라미터(batchSize, transactionSize)는 이 상한으로 줄여서 씁니다.
+ * 트랜잭션 하나에 모이는 요청 수와 커밋 전까지 미뤄지는 캐시 / 통계 / 변경 스트림 작업이 클라이언트 값에 따라 커지지 않도록.
+ */
+@ConfigurationProperties(prefix = "blog.posts.ingest")
+@Getter
+@Setter
+public class IngestProperties {
+
+    // flush/clear 간격 (JDBC 배치 크기와 맞춤)
+    private int maxBatchSize = 1_000;
+
+    // 한 트랜잭션에 저장하는 최대 줄 수 (메모리에 올라가는 요청 수), maxBatchSize 이상
+    private int maxTransactionSize = 10_000;
+}
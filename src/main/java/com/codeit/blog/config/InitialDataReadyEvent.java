@@ -0,0 +1,12 @@
+package com.codeit.blog.config;
+
+/**
+ * DataInitializer가 끝났음을 알리는 이벤트
+ *
+ * 기본 모드에서는 ApplicationReadyEvent 전에, 지연 모드(blog.startup.defer-data-initialization)에서는
+ * 백그라운드 스레드에서 발행됩니다. 초기 데이터가 있어야 하는 작업(PostIdFilter 생성 등)은 이 이벤트를 기다립니다.
+ *
+ * @param seeded 이번 실행에서 데이터를 새로 넣었으면 true (이미 있어서 건너뛰었으면 false)
+ */
+public record InitialDataReadyEvent(boolean seeded) {
+}
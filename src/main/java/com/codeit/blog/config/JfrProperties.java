@@ -0,0 +1,28 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * JFR 이벤트 설정 (blog.jfr.*)
+ *
+ * 녹화가 켜질 때만 적용되고, .jfc / -XX:StartFlightRecording 에 직접 지정한 값이 우선합니다.
+ * 예) -XX:StartFlightRecording:settings=profile,+com.codeit.blog.CacheLookup#threshold=1ms
+ */
+@ConfigurationProperties(prefix = "blog.jfr")
+@Getter
+@Setter
+public class JfrProperties {
+
+    // 이벤트에 스택 트레이스를 남길지 (켜면 이벤트당 비용이 크게 늘어남)
+    private boolean stackTrace = false;
+
+    // 이 시간보다 짧은 캐시 조회는 기록하지 않음 (0이면 HIT까지 모두)
+    private Duration cacheLookupThreshold = Duration.ZERO;
+
+    // 이 시간보다 짧은 리포지토리 호출은 기록하지 않음
+    private Duration repositoryQueryThreshold = Duration.ZERO;
+}
@@ -0,0 +1,25 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 좋아요 설정 (blog.likes.*)
+ */
+@ConfigurationProperties(prefix = "blog.likes")
+@Getter
+@Setter
+public class LikeProperties {
+
+    // 변경된 좋아요 집합을 DB에 저장하는 주기
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    // 한 트랜잭션에서 저장하는 게시글 수
+    private int flushBatchSize = 500;
+
+    // 메모리에 올려두는 게시글 집합 수 (넘으면 최근에 안 쓴 저장 완료 집합부터 내림)
+    private int maxResidentSets = 10_000;
+}
@@ -0,0 +1,37 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Period;
+
+/**
+ * posts 월별 파티션 / 본문 보관 설정 (blog.posts.partitioning.*, PostgreSQL 전용)
+ */
+@ConfigurationProperties(prefix = "blog.posts.partitioning")
+@Getter
+@Setter
+public class PartitioningProperties {
+
+    // 파티션 생성 / 보관 작업 사용 여부 (posts가 파티션 테이블일 때만 동작)
+    private boolean enabled = false;
+
+    // 시작 시 일반 테이블인 posts를 파티션 테이블로 바꿀지 (전체 복사, 테이블 잠금)
+    private boolean convertOnStartup = false;
+
+    // 이번 달 이후 몇 달치 파티션을 미리 만들지
+    private int monthsAhead = 3;
+
+    // 끝난 지 이만큼 지난 파티션은 본문을 posts_content_archive로 옮김 (null이면 보관하지 않음)
+    private Period archiveAfter = Period.ofMonths(12);
+
+    // 보관 작업 한 트랜잭션당 행 수
+    private int archiveBatchSize = 500;
+
+    // 파티션 생성 / 보관 작업 실행 시각 (PostPartitionService @Scheduled)
+    private String maintenanceCron = "0 15 3 * * *";
+
+    // 목록 조회(카테고리별, 인기)를 최근 기간으로 제한해 오래된 파티션을 건너뜀 (null이면 전체 기간)
+    private Period hotWindow;
+}
@@ -0,0 +1,47 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * posts 캐시 노드 간 분할 설정 (blog.cache.peer.*)
+ *
+ * 노드 목록은 고정입니다. 모든 노드가 같은 peers 목록(순서 무관)을 가져야 담당 노드 계산이 일치합니다.
+ * 로컬에서 여러 JVM으로 확인할 때는 포트만 다르게 띄우면 됩니다.
+ *   --server.port=8081 --blog.cache.peer.self=http://localhost:8081
+ */
+@ConfigurationProperties(prefix = "blog.cache.peer")
+@Getter
+@Setter
+public class PeerCacheProperties {
+
+    private boolean enabled = false;
+
+    // 이 노드의 주소 (peers 목록 안의 값과 같아야 함)
+    private String self = "http://localhost:8080";
+
+    // 노드 간 /internal/cache 요청에 붙이는 공유 비밀 (모든 노드가 같은 값, enabled면 필수)
+    // 설정 파일에 적지 말고 환경 변수(BLOG_CACHE_PEER_SECRET)로 넣습니다
+    private String secret;
+
+    // 링에 올릴 전체 노드 주소 (self 포함)
+    private List<String> peers = new ArrayList<>(List.of("http://localhost:8080"));
+
+    // 노드당 가상 노드 수
+    private int virtualNodes = 128;
+
+    // 다른 노드가 담당하는 키 중 자주 읽는 것을 잠깐 들고 있는 near cache
+    // 담당 노드에서 바뀐 값은 ttl 동안 늦게 보일 수 있으므로 짧게 둡니다
+    private long nearCacheMaximumSize = 200;
+    private Duration nearCacheTtl = Duration.ofSeconds(2);
+
+    private Duration connectTimeout = Duration.ofMillis(200);
+
+    // 담당 노드 응답 대기 시간, 담당 노드에서 DB 로드까지 하므로 로드 시간보다 길게
+    private Duration requestTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,36 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게시글 id 존재 여부 필터 설정 (blog.posts.id-filter.*)
+ *
+ * Bloom filter 크기는 max(expectedInsertions, 현재 게시글 수 * 2)로 다시 만들 때마다 정합니다.
+ */
+@ConfigurationProperties(prefix = "blog.posts.id-filter")
+@Getter
+@Setter
+public class PostIdFilterProperties {
+
+    private boolean enabled = true;
+
+    // 최소 크기 (이만큼 넣었을 때 오탐률이 falsePositiveRate)
+    private long expectedInsertions = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    // Bloom filter에 없는 id 중 마지막 재구성 때의 최대 id보다 큰 id만 DB에서 PK로 확인 (다른 노드에서 생성된 게시글)
+    // 노드가 하나이고 JDBC로 직접 넣는 데이터가 없으면 false로 꺼서 확인 쿼리를 없앨 수 있습니다
+    private boolean verifyMisses = true;
+
+    // 삭제된 id를 비우고 크기를 다시 맞추는 주기
+    private Duration rebuildInterval = Duration.ofHours(6);
+
+    // Bloom filter를 통과했지만 DB에 없던 id를 기억하는 시간 / 개수
+    private Duration negativeTtl = Duration.ofSeconds(30);
+    private long negativeMaximumSize = 100_000;
+}
@@ -0,0 +1,266 @@
+package com.codeit.blog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 종류에 따라 primary / 복제본 풀을 고르는 DataSource
+ *
+ * - 쓰기 트랜잭션: primary
+ * - 읽기 전용 트랜잭션: 복제본 (ROUND_ROBIN / LEAST_BUSY)
+ *   단, 복제 지연이 maxLag을 넘은 복제본은 제외하고, 남은 복제본이 없으면 primary
+ *   쓰기 직후 readYourWritesWindow 동안은 같은 클라이언트(쿠키) / 같은 스레드의 읽기도 primary
+ *
+ * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 골라야 readOnly 여부를 알 수 있으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다. (DataSourceRoutingConfig)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    static final String READ_YOUR_WRITES_COOKIE = "blog-rw-until";
+    private static final String READ_YOUR_WRITES_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".pinnedUntil";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> threadPinnedUntil = new ThreadLocal<>();
+    private final Map<String, Counter> routingCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (HikariDataSource replica : replicas) {
+            targets.put(replica.getPoolName(), replica);
+            healthy.put(replica.getPoolName(), true);
+            lagMillis.put(replica.getPoolName(), 0L);
+
+            Gauge.builder("blog.datasource.replica.lag", lagMillis, m -> m.getOrDefault(replica.getPoolName(), 0L))
+                    .tag("pool", replica.getPoolName())
+                    .baseUnit("milliseconds")
+                    .description("복제본 복제 지연")
+                    .register(meterRegistry);
+            Gauge.builder("blog.datasource.replica.healthy", healthy, m -> m.getOrDefault(replica.getPoolName(), false) ? 1 : 0)
+                    .tag("pool", replica.getPoolName())
+                    .description("복제본 라우팅 대상 여부 (1: 사용, 0: 제외)")
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteCallback();
+            return route(PRIMARY, "write");
+        }
+        if (isReadYourWritesPinned()) {
+            return route(PRIMARY, "read-your-writes");
+        }
+
+        HikariDataSource replica = chooseReplica();
+        if (replica == null) {
+            return route(PRIMARY, "replica-unavailable");
+        }
+        return route(replica.getPoolName(), "read");
+    }
+
+    private String route(String target, String reason) {
+        routingCounters.computeIfAbsent(target + " " + reason, name -> Counter.builder("blog.datasource.routing")
+                        .tag("target", target)
+                        .tag("reason", reason)
+                        .description("DataSource 라우팅 횟수")
+                        .register(meterRegistry))
+                .increment();
+        return target;
+    }
+
+    private HikariDataSource chooseReplica() {
+        List<HikariDataSource> candidates = replicas.stream()
+                .filter(replica -> healthy.getOrDefault(replica.getPoolName(), false))
+                .toList();
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        if (properties.getBalance() == ReplicaRoutingProperties.Balance.LEAST_BUSY) {
+            HikariDataSource best = candidates.get(0);
+            int bestActive = activeConnections(best);
+            for (int i = 1; i < candidates.size(); i++) {
+                int active = activeConnections(candidates.get(i));
+                if (active < bestActive) {
+                    best = candidates.get(i);
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+        return candidates.get(Math.floorMod(roundRobin.getAndIncrement(), candidates.size()));
+    }
+
+    private int activeConnections(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+
+    // ===== read-your-writes =====
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 고정 시간을 기록 (HTTP 요청이면 쿠키로 클라이언트에게도 전달)
+     */
+    private void registerWriteCallback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinReadsToPrimary();
+            }
+        });
+    }
+
+    private void pinReadsToPrimary() {
+        long until = System.currentTimeMillis() + properties.getReadYourWritesWindow().toMillis();
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            attributes.setAttribute(READ_YOUR_WRITES_ATTRIBUTE, until, RequestAttributes.SCOPE_REQUEST);
+            HttpServletResponse response = servletAttributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                Cookie cookie = new Cookie(READ_YOUR_WRITES_COOKIE, Long.toString(until));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge((int) Math.max(1, properties.getReadYourWritesWindow().toSeconds()));
+                response.addCookie(cookie);
+            }
+        } else {
+            threadPinnedUntil.set(until);
+        }
+    }
+
+    private boolean isReadYourWritesPinned() {
+        long now = System.currentTimeMillis();
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            Object pinned = attributes.getAttribute(READ_YOUR_WRITES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (pinned instanceof Long until && until > now) {
+                return true;
+            }
+            HttpServletRequest request = servletAttributes.getRequest();
+            if (request.getCookies() != null) {
+                for (Cookie cookie : request.getCookies()) {
+                    if (READ_YOUR_WRITES_COOKIE.equals(cookie.getName())) {
+                        // 쿠키 값은 클라이언트가 바꿀 수 있으므로 지금부터 readYourWritesWindow 안의 값만 믿음
+                        // (이 노드가 발급한 값은 항상 그 안에 있고, 먼 미래 값으로 모든 읽기를 primary에 고정하지 못하도록)
+                        try {
+                            long until = Long.parseLong(cookie.getValue());
+                            long maxUntil = now + properties.getReadYourWritesWindow().toMillis();
+                            return until > now && until <= maxUntil;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        Long until = threadPinnedUntil.get();
+        if (until == null) {
+            return false;
+        }
+        if (until <= now) {
+            threadPinnedUntil.remove();
+            return false;
+        }
+        return true;
+    }
+
+    // ===== 복제 지연 확인 =====
+
+    @Scheduled(fixedDelayString = "${blog.datasource.routing.lag-check-interval:2s}")
+    public void checkReplicationLag() {
+        String lagQuery = properties.getLagQuery();
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+
+        long maxLag = properties.getMaxLag().toMillis();
+        for (HikariDataSource replica : replicas) {
+            String name = replica.getPoolName();
+            boolean wasHealthy = healthy.getOrDefault(name, false);
+            boolean nowHealthy;
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                long lag = rs.next() ? rs.getLong(1) : 0L;
+                lagMillis.put(name, lag);
+                nowHealthy = lag <= maxLag;
+            } catch (Exception e) {
+                log.warn("복제본 지연 확인 실패: pool={}, {}", name, e.getMessage());
+                nowHealthy = false;
+            }
+            healthy.put(name, nowHealthy);
+
+            if (wasHealthy != nowHealthy) {
+                log.warn("복제본 라우팅 상태 변경: pool={}, healthy={}, lag={}ms", name, nowHealthy, lagMillis.get(name));
+            }
+        }
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("primary", Map.of("active", activeConnections(primary)));
+        for (HikariDataSource replica : replicas) {
+            String name = replica.getPoolName();
+            result.put(name, Map.of(
+                    "active", activeConnections(replica),
+                    "lagMs", lagMillis.getOrDefault(name, 0L),
+                    "healthy", healthy.getOrDefault(name, false)
+            ));
+        }
+        return result;
+    }
+
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
@@ -0,0 +1,59 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 (blog.datasource.routing.*)
+ *
+ * enabled가 true일 때만 DataSourceRoutingConfig가 동작하고,
+ * 아니면 기존처럼 spring.datasource 하나만 사용합니다.
+ */
+@ConfigurationProperties(prefix = "blog.datasource.routing")
+@Getter
+@Setter
+public class ReplicaRoutingProperties {
+
+    public enum Balance {
+        // 순서대로 돌아가며 선택
+        ROUND_ROBIN,
+        // 사용 중인 커넥션이 가장 적은 풀 선택
+        LEAST_BUSY
+    }
+
+    private boolean enabled = false;
+
+    private Balance balance = Balance.ROUND_ROBIN;
+
+    // 복제 지연이 이보다 크면 해당 복제본은 빼고, 모두 빠지면 primary로 읽습니다
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // 복제 지연 확인 주기
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    // 복제 지연(ms) 조회 쿼리, 비우면 확인하지 않습니다 (H2 등)
+    // primary에 연결된 경우(논리 복제본)는 NULL이 나오므로 0으로 봅니다
+    private String lagQuery = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000 END, 0)";
+
+    // 쓰기 후 이 시간 동안은 같은 클라이언트의 읽기를 primary로 보냅니다
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+    }
+}
@@ -0,0 +1,37 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 초기 데이터 생성 설정 (blog.seed.*)
+ */
+@ConfigurationProperties(prefix = "blog.seed")
+@Getter
+@Setter
+public class SeedProperties {
+
+    public enum Mode {
+        // 기존 방식: JPA saveAll (Hibernate JDBC 배치)
+        JPA,
+        // JDBC 배치 INSERT (PostgreSQL은 reWriteBatchedInserts로 multi-row INSERT)
+        JDBC_BATCH,
+        // PostgreSQL COPY (다른 DB에서는 JDBC_BATCH로 대체)
+        COPY
+    }
+
+    private Mode mode = Mode.JDBC_BATCH;
+
+    // 대량 생성할 게시글 수 (샘플 25개 제외)
+    private long rows = 10_000;
+
+    // 동시에 생성/저장하는 워커 수 (각자 커넥션 1개 사용, Hikari 풀 크기보다 작게)
+    private int parallelism = 4;
+
+    // 한 번에 전송하는 행 수 (워커는 batchSize * 10 행마다 커밋)
+    private int batchSize = 1_000;
+
+    // createdAt을 최근 며칠에 걸쳐 분산 (0이면 모두 현재 시각)
+    private int createdAtSpreadDays = 365;
+}
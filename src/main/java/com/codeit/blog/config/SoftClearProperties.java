@@ -0,0 +1,23 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 소프트 캐시 초기화 설정 (blog.cache.soft-clear.*)
+ *
+ * 소프트 초기화는 항목을 지우지 않고 stale로 표시만 한 뒤, 백그라운드에서 초당 reloadRate개씩 다시 읽어 교체합니다.
+ * 교체될 때까지는 기존 값을 그대로 응답하므로 초기화 직후 DB 로드가 몰리지 않습니다.
+ */
+@ConfigurationProperties(prefix = "blog.cache.soft-clear")
+@Getter
+@Setter
+public class SoftClearProperties {
+
+    // 초당 다시 읽는 항목 수 (모든 작업 합계)
+    private int reloadRate = 20;
+
+    // 진행 상황을 조회할 수 있도록 남겨두는 작업 수 (완료된 것부터 삭제)
+    private int jobHistory = 50;
+}
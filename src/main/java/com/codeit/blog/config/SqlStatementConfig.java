@@ -0,0 +1,56 @@
+package com.codeit.blog.config;
+
+import com.codeit.blog.sql.SqlStatementCounter;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * JPA가 사용하는 DataSource("dataSource" 빈)를 datasource-proxy로 감싸 SQL 실행을 셉니다.
+ *
+ * 라우팅을 켠 경우에도 LazyConnectionDataSourceProxy("dataSource")만 감싸므로
+ * primary / 복제본 어느 쪽으로 가든 한 번씩만 셉니다.
+ */
+@Configuration
+@Slf4j
+public class SqlStatementConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 두고 설정도 Binder로 직접 읽습니다.
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementDataSourcePostProcessor(Environment environment) {
+        SqlStatementProperties properties = Binder.get(environment)
+                .bindOrCreate("blog.sql", SqlStatementProperties.class);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!properties.isEnabled() || !DATA_SOURCE_BEAN.equals(beanName)
+                        || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                SqlStatementCounter counter = new SqlStatementCounter();
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(counter);
+                if (properties.isCountRows()) {
+                    builder.proxyResultSet().methodListener(counter);
+                }
+                log.info("SQL 실행 통계 활성화: countRows={}, debugHeaders={}, warnStatements={}",
+                        properties.isCountRows(), properties.isDebugHeaders(), properties.getWarnStatements());
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SQL 실행 통계 설정 (blog.sql.*)
+ *
+ * enabled가 false면 DataSource를 프록시로 감싸지 않으므로 비용이 없고 통계도 모두 0입니다.
+ */
+@ConfigurationProperties(prefix = "blog.sql")
+@Getter
+@Setter
+public class SqlStatementProperties {
+
+    private boolean enabled = true;
+
+    // 조회 행 수를 셀지 (ResultSet까지 프록시로 감싸므로 행이 많은 조회는 약간 느려짐)
+    private boolean countRows = true;
+
+    // 응답에 X-SQL-Statements 등 헤더를 붙일지 (개발 / 테스트용)
+    private boolean debugHeaders = false;
+
+    // 요청 하나의 SQL 실행 횟수가 이보다 많으면 경고 로그 + blog.sql.budget.exceeded (0이면 끔)
+    private int warnStatements = 20;
+}
@@ -0,0 +1,22 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시작 시간 관련 설정 (blog.startup.*)
+ *
+ * fast-start 프로필(application-fast-start.yml)에서 켜는 값들입니다.
+ */
+@ConfigurationProperties(prefix = "blog.startup")
+@Getter
+@Setter
+public class StartupProperties {
+
+    // true 면 DataInitializer를 ApplicationReadyEvent 이후 백그라운드 스레드에서 실행 (요청을 먼저 받기 시작)
+    private boolean deferDataInitialization = false;
+
+    // 시작 로그에 출력할 느린 빈 생성 개수 (0 이면 출력하지 않음)
+    private int slowBeanReportCount = 10;
+}
@@ -0,0 +1,34 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 트렌딩 게시글 설정 (blog.trending.*)
+ *
+ * 게시글 하나당 메모리: (window / bucket) * 12바이트 (기본 288칸 = 약 3.4KB)
+ * 최대 maxTrackedPosts개까지만 추적하고, window 동안 조회가 없는 게시글은 빠집니다.
+ */
+@ConfigurationProperties(prefix = "blog.trending")
+@Getter
+@Setter
+public class TrendingProperties {
+
+    // 카운터 한 칸의 시간 폭
+    private Duration bucket = Duration.ofMinutes(5);
+
+    // 최근 얼마 동안의 조회를 볼지 (ring buffer 길이 = window / bucket)
+    private Duration window = Duration.ofHours(24);
+
+    // 조회 가중치가 절반이 되는 시간
+    private Duration halfLife = Duration.ofHours(2);
+
+    // 동시에 추적하는 최대 게시글 수
+    private long maxTrackedPosts = 10_000;
+
+    // 변경된 게시글의 순위를 다시 계산하는 주기
+    private Duration refreshInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,26 @@
+package com.codeit.blog.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 고유 조회자 집계 설정 (blog.views.*)
+ */
+@ConfigurationProperties(prefix = "blog.views")
+@Getter
+@Setter
+public class UniqueViewerProperties {
+
+    // 메모리에 모인 조회자 sketch를 DB에 합치는 주기
+    private Duration flushInterval = Duration.ofSeconds(10);
+
+    // 한 트랜잭션에서 저장하는 (게시글, 일자) 수
+    private int flushBatchSize = 500;
+
+    // HyperLogLog precision (12: 게시글/일자당 4KB, 표준 오차 약 1.6%)
+    // 이미 저장된 sketch와 합쳐야 하므로 운영 중에는 바꾸지 않습니다
+    private int precision = 12;
+}
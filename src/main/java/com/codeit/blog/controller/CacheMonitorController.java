@@ -1,15 +1,19 @@
 package com.codeit.blog.controller;
 
+import com.codeit.blog.cache.SoftCacheClearService;
+import com.codeit.blog.config.EntityCacheConfig;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -19,7 +23,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CacheMonitorController {
 
+    // Hibernate 2차 캐시 region은 이 접두어를 붙여서 Spring 캐시와 같이 보여줍니다
+    static final String L2_PREFIX = "l2:";
+
     private final CacheManager cacheManager;
+    private final javax.cache.CacheManager entityCacheManager;
+    private final SoftCacheClearService softCacheClearService;
 
     /**
      * 전체 캐시 목록 및 간단한 통계
@@ -33,10 +42,9 @@ public class CacheMonitorController {
                         name -> name,
                         name -> {
                             Cache cache = cacheManager.getCache(name);
-                            if (cache instanceof CaffeineCache caffeineCache) {
-                                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
-                                        caffeineCache.getNativeCache();
-
+                            // 트랜잭션 데코레이터로 감싸져 있으므로 내부 Caffeine 캐시로 판단
+                            if (cache != null
+                                    && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
                                 CacheStats stats = nativeCache.stats();
                                 double hitRate = stats.requestCount() > 0
                                         ? stats.hitRate() * 100
@@ -52,6 +60,20 @@ public class CacheMonitorController {
                         }
                 ));
 
+        for (String region : entityCacheManager.getCacheNames()) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = entityRegion(region);
+            if (nativeCache == null) {
+                continue;
+            }
+            CacheStats stats = nativeCache.stats();
+            double hitRate = stats.requestCount() > 0 ? stats.hitRate() * 100 : 0.0;
+            caches.put(L2_PREFIX + region, Map.of(
+                    "size", nativeCache.estimatedSize(),
+                    "hitRate", String.format("%.2f%%", hitRate),
+                    "requestCount", stats.requestCount()
+            ));
+        }
+
         result.put("caches", caches);
         result.put("cacheCount", caches.size());
 
@@ -63,13 +85,22 @@ public class CacheMonitorController {
      */
     @GetMapping("/{cacheName}/stats")
     public ResponseEntity<Map<String, Object>> getCacheStats(@PathVariable String cacheName) {
+        if (cacheName.startsWith(L2_PREFIX)) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                    entityRegion(cacheName.substring(L2_PREFIX.length()));
+            if (nativeCache == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(detailedStats(cacheName, nativeCache));
+        }
+
         Cache cache = cacheManager.getCache(cacheName);
 
         if (cache == null) {
             return ResponseEntity.notFound().build();
         }
 
-        if (!(cache instanceof CaffeineCache caffeineCache)) {
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
             return ResponseEntity.ok(Map.of(
                     "cacheName", cacheName,
                     "type", cache.getClass().getSimpleName(),
@@ -77,9 +108,13 @@ public class CacheMonitorController {
             ));
         }
 
-        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
-                caffeineCache.getNativeCache();
+        Map<String, Object> result = detailedStats(cacheName, nativeCache);
+        result.putAll(softCacheClearService.regionStatus(cacheName));
+        return ResponseEntity.ok(result);
+    }
 
+    private Map<String, Object> detailedStats(String cacheName,
+                                              com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
         CacheStats stats = nativeCache.stats();
         long requestCount = stats.requestCount();
         double hitRate = requestCount > 0 ? stats.hitRate() : 0.0;
@@ -101,20 +136,70 @@ public class CacheMonitorController {
         // 캐시 효율성 평가
         result.put("evaluation", evaluateCacheEfficiency(hitRate));
 
-        return ResponseEntity.ok(result);
+        return result;
     }
 
     /**
      * 특정 캐시 비우기
+     *
+     * mode=hard(기본): 바로 제거, mode=soft: stale 표시 후 백그라운드에서 다시 읽기 (202 + 작업 정보)
+     * prefix / tag를 주면 해당 항목만 대상으로 합니다.
+     * 예) DELETE /api/cache/posts?mode=soft&tag=category:Java
      */
     @DeleteMapping("/{cacheName}")
-    public ResponseEntity<Map<String, String>> clearCache(@PathVariable String cacheName) {
+    public ResponseEntity<Map<String, Object>> clearCache(@PathVariable String cacheName,
+                                                          @RequestParam(defaultValue = "hard") String mode,
+                                                          @RequestParam(required = false) String prefix,
+                                                          @RequestParam(required = false) String tag) {
+        Boolean soft = parseMode(mode);
+        if (soft == null) {
+            return invalidMode(mode);
+        }
+        boolean partial = prefix != null || tag != null;
+
+        if (cacheName.startsWith(L2_PREFIX)) {
+            if (soft || partial) {
+                return ResponseEntity.badRequest().body(Map.of(
+                        "message", "2차 캐시 region은 전체 즉시 초기화만 지원합니다"
+                ));
+            }
+            String region = cacheName.substring(L2_PREFIX.length());
+            javax.cache.Cache<Object, Object> cache = entityCacheManager.getCache(region);
+            if (cache == null) {
+                return ResponseEntity.notFound().build();
+            }
+            clearEntityRegion(cache);
+            log.info("2차 캐시 region '{}' 초기화 완료", region);
+            return ResponseEntity.ok(Map.of(
+                    "message", cacheName + " 캐시가 초기화되었습니다"
+            ));
+        }
+
         Cache cache = cacheManager.getCache(cacheName);
 
         if (cache == null) {
             return ResponseEntity.notFound().build();
         }
 
+        if (soft) {
+            if (!softCacheClearService.supportsSoftClear(cacheName)) {
+                return ResponseEntity.badRequest().body(Map.of(
+                        "message", "소프트 초기화를 지원하지 않는 캐시입니다: " + cacheName,
+                        "supported", softCacheClearService.softClearableCaches()
+                ));
+            }
+            SoftCacheClearService.SoftClearJob job = softCacheClearService.softClear(cacheName, prefix, tag);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job.toMap());
+        }
+
+        if (partial) {
+            int evicted = softCacheClearService.evictMatching(cacheName, prefix, tag);
+            return ResponseEntity.ok(Map.of(
+                    "message", cacheName + " 캐시에서 " + evicted + "개 항목이 제거되었습니다",
+                    "evicted", evicted
+            ));
+        }
+
         cache.clear();
         log.info("캐시 '{}' 초기화 완료", cacheName);
 
@@ -125,9 +210,28 @@ public class CacheMonitorController {
 
     /**
      * 모든 캐시 비우기
+     *
+     * mode=soft: 다시 읽을 수 있는 Spring 캐시만 소프트 초기화하고 2차 캐시는 건드리지 않습니다
      */
     @DeleteMapping
-    public ResponseEntity<Map<String, Object>> clearAllCaches() {
+    public ResponseEntity<Map<String, Object>> clearAllCaches(@RequestParam(defaultValue = "hard") String mode) {
+        Boolean soft = parseMode(mode);
+        if (soft == null) {
+            return invalidMode(mode);
+        }
+        if (soft) {
+            List<Map<String, Object>> jobs = new ArrayList<>();
+            for (String cacheName : softCacheClearService.softClearableCaches()) {
+                if (cacheManager.getCache(cacheName) != null) {
+                    jobs.add(softCacheClearService.softClear(cacheName, null, null).toMap());
+                }
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "message", "소프트 초기화가 등록되었습니다",
+                    "jobs", jobs
+            ));
+        }
+
         int count = 0;
         for (String cacheName : cacheManager.getCacheNames()) {
             Cache cache = cacheManager.getCache(cacheName);
@@ -136,6 +240,13 @@ public class CacheMonitorController {
                 count++;
             }
         }
+        for (String region : entityCacheManager.getCacheNames()) {
+            javax.cache.Cache<Object, Object> cache = entityCacheManager.getCache(region);
+            if (cache != null) {
+                clearEntityRegion(cache);
+                count++;
+            }
+        }
 
         log.info("전체 캐시 초기화 완료: {}개", count);
 
@@ -145,6 +256,88 @@ public class CacheMonitorController {
         ));
     }
 
+    /**
+     * 소프트 초기화 작업 목록 (최근 것부터)
+     */
+    @GetMapping("/clear-jobs")
+    public ResponseEntity<Map<String, Object>> getClearJobs() {
+        List<Map<String, Object>> jobs = softCacheClearService.jobs().stream()
+                .map(SoftCacheClearService.SoftClearJob::toMap)
+                .toList();
+        return ResponseEntity.ok(Map.of(
+                "jobs", jobs,
+                "count", jobs.size()
+        ));
+    }
+
+    /**
+     * 소프트 초기화 작업 진행 상황
+     */
+    @GetMapping("/clear-jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getClearJob(@PathVariable long jobId) {
+        return softCacheClearService.findJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toMap()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 소프트 초기화 작업 취소 (남은 항목은 기존 값 그대로 유지)
+     */
+    @DeleteMapping("/clear-jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> cancelClearJob(@PathVariable long jobId) {
+        if (!softCacheClearService.cancel(jobId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(softCacheClearService.findJob(jobId)
+                .map(SoftCacheClearService.SoftClearJob::toMap)
+                .orElseGet(Map::of));
+    }
+
+    /**
+     * soft: true, hard: false, 그 외: null
+     */
+    private Boolean parseMode(String mode) {
+        if ("soft".equalsIgnoreCase(mode)) {
+            return true;
+        }
+        if ("hard".equalsIgnoreCase(mode)) {
+            return false;
+        }
+        return null;
+    }
+
+    private ResponseEntity<Map<String, Object>> invalidMode(String mode) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "message", "mode는 hard 또는 soft여야 합니다: " + mode
+        ));
+    }
+
+    /**
+     * 2차 캐시 region의 내부 Caffeine 캐시 (통계 조회용)
+     */
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> entityRegion(String region) {
+        javax.cache.Cache<Object, Object> cache = entityCacheManager.getCache(region);
+        if (cache == null) {
+            return null;
+        }
+        return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+    }
+
+    /**
+     * 변경 시각 region만 비우면 Hibernate가 오래된 쿼리 결과를 최신으로 판단하므로 쿼리 결과 region도 같이 비웁니다
+     */
+    private void clearEntityRegion(javax.cache.Cache<Object, Object> cache) {
+        cache.clear();
+        if (EntityCacheConfig.UPDATE_TIMESTAMPS_REGION.equals(cache.getName())) {
+            javax.cache.Cache<Object, Object> queryResults =
+                    entityCacheManager.getCache(EntityCacheConfig.QUERY_RESULTS_REGION);
+            if (queryResults != null) {
+                queryResults.clear();
+            }
+        }
+    }
+
     /**
      * 캐시 효율성 평가
      */
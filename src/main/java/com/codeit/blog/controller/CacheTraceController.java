@@ -0,0 +1,78 @@
+package com.codeit.blog.controller;
+
+import com.codeit.blog.trace.CacheAccessTracer;
+import com.codeit.blog.trace.CacheSimulator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache/trace")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheTraceController {
+
+    private final CacheAccessTracer cacheAccessTracer;
+
+    /**
+     * 트레이스 기록 상태
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(cacheAccessTracer.status());
+    }
+
+    /**
+     * 트레이스 기록 시작
+     */
+    @PostMapping("/start")
+    public ResponseEntity<Map<String, Object>> startTrace() throws IOException {
+        try {
+            return ResponseEntity.ok(cacheAccessTracer.start());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 트레이스 기록 종료 (남은 이벤트를 모두 쓰고 파일 경로를 돌려줍니다)
+     */
+    @PostMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stopTrace() throws InterruptedException {
+        try {
+            return ResponseEntity.ok(cacheAccessTracer.stop());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 기록된 트레이스를 여러 크기 / TTL / 정책으로 재생
+     * tracePath는 트레이스 디렉터리(blog.cache.trace.directory) 안의 파일 이름만 받습니다. (stop 응답의 name)
+     *
+     * 예) {"tracePath": "cache-trace-20260101-120000.btrc", "region": "posts",
+     *      "sizes": [100, 500, 1000], "ttlSeconds": [10, 60], "policies": ["LRU", "W_TINYLFU"]}
+     */
+    @PostMapping("/simulate")
+    public ResponseEntity<CacheSimulator.Report> simulate(@RequestBody CacheSimulator.Options options)
+            throws IOException {
+        Path trace;
+        try {
+            trace = cacheAccessTracer.resolveTrace(options.tracePath());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (!Files.isRegularFile(trace)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "트레이스 파일이 없습니다: " + options.tracePath());
+        }
+        return ResponseEntity.ok(CacheSimulator.simulate(trace, options));
+    }
+}
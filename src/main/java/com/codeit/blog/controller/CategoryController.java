@@ -0,0 +1,68 @@
+package com.codeit.blog.controller;
+
+import com.codeit.blog.entity.CategoryStats;
+import com.codeit.blog.service.CategoryStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 집계 조회
+ * COUNT/SUM 쿼리 없이 category_stats 행을 그대로 읽습니다.
+ */
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryController {
+
+    private final CategoryStatsService categoryStatsService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getAllStats() {
+        List<Map<String, Object>> categories = categoryStatsService.findAll().stream()
+                .map(this::toMap)
+                .toList();
+
+        return ResponseEntity.ok(Map.of(
+                "categories", categories,
+                "count", categories.size()
+        ));
+    }
+
+    @GetMapping("/{category}/stats")
+    public ResponseEntity<Map<String, Object>> getStats(@PathVariable String category) {
+        return categoryStatsService.find(category)
+                .map(stats -> ResponseEntity.ok(toMap(stats)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * posts 테이블과 즉시 대조 (주기 실행: blog.category-stats.reconcile-interval)
+     */
+    @PostMapping("/stats/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcile() {
+        int corrected = categoryStatsService.reconcile();
+        return ResponseEntity.ok(Map.of(
+                "message", "카테고리 집계 대조 완료",
+                "corrected", corrected
+        ));
+    }
+
+    private Map<String, Object> toMap(CategoryStats stats) {
+        // maxCreatedAt은 게시글이 없으면 null이라 Map.of 대신 HashMap 사용
+        Map<String, Object> result = new HashMap<>();
+        result.put("category", stats.getCategory());
+        result.put("postCount", stats.getPostCount());
+        result.put("totalViews", stats.getTotalViews());
+        result.put("totalLikes", stats.getTotalLikes());
+        result.put("maxCreatedAt", stats.getMaxCreatedAt());
+        result.put("updatedAt", stats.getUpdatedAt());
+        return result;
+    }
+}
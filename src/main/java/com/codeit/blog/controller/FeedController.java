@@ -0,0 +1,46 @@
+package com.codeit.blog.controller;
+
+import com.codeit.blog.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 홈 피드 (인기 게시글 + 카테고리별 첫 페이지)
+ * 홈 화면에서 7번 나눠 하던 요청을 한 번으로 합칩니다.
+ */
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+@Slf4j
+public class FeedController {
+
+    private final FeedService feedService;
+
+    /**
+     * 예산(blog.feed.time-budget) 안에 못 가져온 조각은 missing에 이름이 들어가고 partial=true
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getFeed() {
+        long start = System.currentTimeMillis();
+
+        Map<String, Object> response = new LinkedHashMap<>(feedService.homeFeed());
+
+        response.put("responseTime", (System.currentTimeMillis() - start) + "ms");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 합친 결과만 초기화 (조각 캐시는 /api/cache 로)
+     */
+    @DeleteMapping("/cache")
+    public ResponseEntity<Map<String, Object>> invalidate() {
+        feedService.invalidate();
+        log.info("홈 피드 캐시 초기화");
+        return ResponseEntity.ok(Map.of("message", "홈 피드 캐시가 초기화되었습니다"));
+    }
+}
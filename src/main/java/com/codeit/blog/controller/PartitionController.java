@@ -0,0 +1,50 @@
+package com.codeit.blog.controller;
+
+import com.codeit.blog.service.PostPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * posts 월별 파티션 상태 / 정리 작업 (blog.posts.partitioning.enabled=true, PostgreSQL)
+ */
+@RestController
+@RequestMapping("/api/posts/partitions")
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionController {
+
+    private final PostPartitionService postPartitionService;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getPartitions() {
+        List<Map<String, Object>> partitions = postPartitionService.status();
+        return ResponseEntity.ok(Map.of(
+                "partitioned", postPartitionService.isPartitionedTable(),
+                "partitions", partitions,
+                "count", partitions.size()
+        ));
+    }
+
+    /**
+     * 정리 작업 즉시 실행 (파티션 미리 생성 + 오래된 파티션 본문 보관)
+     */
+    @PostMapping("/maintenance")
+    public ResponseEntity<Map<String, Object>> runMaintenance() {
+        if (!postPartitionService.isPartitionedTable()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "message", "posts가 파티션 테이블이 아닙니다"
+            ));
+        }
+        long archived = postPartitionService.maintain();
+        return ResponseEntity.ok(Map.of(
+                "archived", archived,
+                "partitions", postPartitionService.status()
+        ));
+    }
+}
@@ -0,0 +1,92 @@
+package com.codeit.blog.controller;
+
+import com.codeit.blog.cache.PeerCacheClient;
+import com.codeit.blog.cache.PeerPartitionedCache;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.service.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 노드 분할 posts 캐시 (blog.cache.peer.enabled=true)
+ *
+ * /internal/cache/posts/** 는 다른 노드의 PeerCacheClient만 호출합니다. (공유 비밀 헤더를 PeerCacheAuthFilter가 확인)
+ * 요청은 모두 이 노드의 로컬 캐시로 처리합니다. (PeerPartitionedCache.serveLocally)
+ */
+@RestController
+@ConditionalOnProperty(name = "blog.cache.peer.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class PeerCacheController {
+
+    private static final String POSTS = "posts";
+
+    private final PeerCacheClient peerCacheClient;
+    private final PostService postService;
+    private final CacheManager cacheManager;
+
+    /**
+     * 링 구성과 노드별 담당 비율, key를 주면 그 키의 담당 노드
+     */
+    @GetMapping("/api/cache/peers")
+    public ResponseEntity<Map<String, Object>> status(@RequestParam(required = false) String key) {
+        Map<String, Object> status = peerCacheClient.status();
+        if (key != null) {
+            status.put("key", key);
+            status.put("owner", peerCacheClient.ownerOf(key));
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * 캐시에 없으면 DB에서 읽어 캐시한 뒤 응답 (클러스터 전체에서 키당 한 노드만 로드)
+     */
+    @GetMapping(PeerCacheClient.PATH + POSTS + "/{id}")
+    public ResponseEntity<byte[]> get(@PathVariable Long id) {
+        Post post;
+        try {
+            post = PeerPartitionedCache.serveLocally(() -> postService.findById(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(peerCacheClient.encode(post));
+    }
+
+    @PutMapping(PeerCacheClient.PATH + POSTS + "/{id}")
+    public ResponseEntity<Void> put(@PathVariable Long id, @RequestBody byte[] body) {
+        Post post = peerCacheClient.decode(body, Post.class);
+        PeerPartitionedCache.serveLocally(() -> postsCache().put(id, post));
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping(PeerCacheClient.PATH + POSTS + "/{id}")
+    public ResponseEntity<Void> evict(@PathVariable Long id) {
+        PeerPartitionedCache.serveLocally(() -> postsCache().evict(id));
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping(PeerCacheClient.PATH + POSTS)
+    public ResponseEntity<Void> clear() {
+        PeerPartitionedCache.serveLocally(() -> postsCache().clear());
+        log.info("다른 노드 요청으로 posts 캐시 초기화");
+        return ResponseEntity.noContent().build();
+    }
+
+    private Cache postsCache() {
+        Cache cache = cacheManager.getCache(POSTS);
+        if (cache == null) {
+            throw new IllegalStateException("posts 캐시가 없습니다");
+        }
+        return cache;
+    }
+}
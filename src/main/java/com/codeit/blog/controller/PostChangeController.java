@@ -0,0 +1,46 @@
+package com.codeit.blog.controller;
+
+import com.codeit.blog.service.PostChangeStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 변경 스트림 (Server-Sent Events)
+ *
+ * 예) const source = new EventSource("/api/posts/changes?category=Java&category=Spring");
+ *     source.addEventListener("updated", e => ...);   // created / updated / deleted / views / likes / resync
+ * 연결이 끊기면 브라우저가 Last-Event-ID 헤더로 다시 연결하고, 그 뒤의 이벤트부터 받습니다.
+ * resync를 받으면 가진 캐시를 버리고 다시 조회해야 합니다.
+ */
+@RestController
+@RequestMapping("/api/posts/changes")
+@RequiredArgsConstructor
+public class PostChangeController {
+
+    private final PostChangeStream postChangeStream;
+
+    /**
+     * @param category    받을 카테고리 (여러 개 가능, 없으면 전체)
+     * @param lastEventId 재연결 시 브라우저가 보내는 헤더, 헤더를 못 보내는 클라이언트는 lastEventId 파라미터
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) List<String> category,
+                                @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam) {
+        return postChangeStream.subscribe(
+                category != null ? new HashSet<>(category) : new HashSet<>(),
+                lastEventId != null ? lastEventId : lastEventIdParam);
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(postChangeStream.status());
+    }
+}
@@ -1,22 +1,31 @@
 package com.codeit.blog.controller;
 
+import com.codeit.blog.dto.BulkIngestResponse;
 import com.codeit.blog.dto.PostRequest;
 import com.codeit.blog.dto.PostResponse;
+import com.codeit.blog.dto.TrendingPostResponse;
 import com.codeit.blog.entity.Post;
+import com.codeit.blog.service.PostGroupCommitWriter;
+import com.codeit.blog.service.PostIngestService;
+import com.codeit.blog.service.PostLikeService;
 import com.codeit.blog.service.PostService;
+import com.codeit.blog.service.TrendingService;
+import com.codeit.blog.service.UniqueViewerService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -25,6 +34,11 @@ import java.util.concurrent.TimeUnit;
 public class PostController {
 
     private final PostService postService;
+    private final PostIngestService postIngestService;
+    private final PostGroupCommitWriter postGroupCommitWriter;
+    private final PostLikeService postLikeService;
+    private final UniqueViewerService uniqueViewerService;
+    private final TrendingService trendingService;
 
     /**
      * 전체 게시글 조회
@@ -87,6 +101,63 @@ public class PostController {
         ));
     }
 
+    /**
+     * 트렌딩 게시글 (최근 조회일수록 가중치가 큰 순위, 메모리에서 계산)
+     * 예) GET /api/posts/trending?limit=10&category=Java
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<Map<String, Object>> getTrendingPosts(@RequestParam(defaultValue = "10") int limit,
+                                                                @RequestParam(required = false) String category) {
+        List<TrendingPostResponse> posts = trendingService.trending(limit, category);
+        return ResponseEntity.ok(Map.of(
+                "posts", posts,
+                "count", posts.size(),
+                "category", category != null ? category : "ALL"
+        ));
+    }
+
+    /**
+     * 게시글 단건 비동기 조회
+     * 캐시 미스 동안 Tomcat 워커 스레드를 반납하고, 로드가 끝나면 응답합니다.
+     */
+    @GetMapping("/async/{id}")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getPostAsync(@PathVariable Long id) {
+        long start = System.currentTimeMillis();
+
+        CompletableFuture<Post> future = postService.findByIdAsync(id);
+        boolean fromCache = future.isDone() && !future.isCompletedExceptionally();
+
+        return future.thenApply(post -> {
+            long duration = System.currentTimeMillis() - start;
+            return ResponseEntity.ok(Map.of(
+                    "post", PostResponse.from(post, fromCache),
+                    "responseTime", duration + "ms",
+                    "fromCache", fromCache
+            ));
+        });
+    }
+
+    @GetMapping("/async/category/{category}")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> getPostsByCategoryAsync(@PathVariable String category) {
+        long start = System.currentTimeMillis();
+
+        CompletableFuture<List<Post>> future = postService.findByCategoryAsync(category);
+        boolean fromCache = future.isDone() && !future.isCompletedExceptionally();
+
+        return future.thenApply(posts -> {
+            long duration = System.currentTimeMillis() - start;
+            List<PostResponse> responses = posts.stream()
+                    .map(post -> PostResponse.from(post, fromCache))
+                    .toList();
+            return ResponseEntity.ok(Map.of(
+                    "posts", responses,
+                    "count", responses.size(),
+                    "responseTime", duration + "ms",
+                    "fromCache", fromCache
+            ));
+        });
+    }
+
     /**
      * 게시글 수정
      *
@@ -101,68 +172,99 @@ public class PostController {
 
     /**
      * 게시글 생성
+     * 동시에 들어온 생성 요청은 PostGroupCommitWriter가 모아서 한 트랜잭션으로 저장합니다.
      *
      * @return
      */
     @PostMapping
     public ResponseEntity<PostResponse> createPost(@Valid @RequestBody PostRequest postRequest) {
-        Post post = postService.create(postRequest);
+        Post post = postGroupCommitWriter.create(postRequest);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(PostResponse.from(post));
     }
 
+    /**
+     * 게시글 대량 등록 (NDJSON: 한 줄에 PostRequest JSON 하나)
+     *
+     * 예) curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @posts.ndjson \
+     *       'localhost:8080/api/posts/bulk?batchSize=500&transactionSize=5000&populateCache=false'
+     * batchSize / transactionSize는 blog.posts.ingest.* 상한을 넘으면 상한으로 줄이고, 0 이하면 400
+     */
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "application/jsonl", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<BulkIngestResponse> bulkCreatePosts(
+            InputStream body,
+            @RequestParam(defaultValue = "500") int batchSize,
+            @RequestParam(defaultValue = "5000") int transactionSize,
+            @RequestParam(defaultValue = "false") boolean populateCache
+    ) throws IOException {
+        PostIngestService.Options options;
+        try {
+            options = postIngestService.options(batchSize, transactionSize, populateCache);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.ok(postIngestService.ingest(body, options));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(@PathVariable Long id) {
         postService.delete(id);
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping("/test-cache-stampede/{id}")
-    public ResponseEntity<Map<String, Object>> testCacheStampede(
-            @PathVariable Long id,
-            @RequestParam(defaultValue = "100") int threadCount
-    ) throws InterruptedException {
-        log.info("========================================");
-        log.info("Cache Stampede 테스트 시작: id={}, threadCount={}", id, threadCount);
-        log.info("========================================");
-
-        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
-        CountDownLatch latch = new CountDownLatch(threadCount);
-
-        long startTime = System.currentTimeMillis();
-
-        // 동시 요청 시작
-        for (int i = 0; i < threadCount; i++) {
-            final int requestNum = i + 1;
-            executor.submit(() -> {
-                try {
-                    latch.countDown(); // 모든 스레드가 준비될 때까지 대기
-                    latch.await();     // 동시 시작!
-
-                    postService.findByIdWithLoadingCache(id);
-                    log.debug("요청 {} 완료", requestNum);
-                } catch (Exception e) {
-                    log.error("요청 {} 실패", requestNum, e);
-                }
-            });
-        }
+    /**
+     * 조회수 증가
+     * viewerId가 없으면 클라이언트 IP로 조회자를 구분합니다
+     */
+    @PostMapping("/{id}/view")
+    public ResponseEntity<Void> increaseViewCount(@PathVariable Long id,
+                                                  @RequestParam(required = false) String viewerId,
+                                                  HttpServletRequest request) {
+        String viewerKey = viewerId != null ? "user:" + viewerId : "ip:" + request.getRemoteAddr();
+        postService.incrementViewCount(id, viewerKey);
+        return ResponseEntity.noContent().build();
+    }
 
-        executor.shutdown();
-        executor.awaitTermination(30, TimeUnit.SECONDS);
+    /**
+     * 최근 days일 동안의 고유 조회자 수 (일자별 HyperLogLog를 합친 추정값)
+     */
+    @GetMapping("/{id}/viewers")
+    public ResponseEntity<Map<String, Object>> getUniqueViewers(@PathVariable Long id,
+                                                                @RequestParam(defaultValue = "7") int days) {
+        return ResponseEntity.ok(Map.of(
+                "postId", id,
+                "days", days,
+                "uniqueViewers", uniqueViewerService.uniqueViewers(id, days)
+        ));
+    }
 
-        long duration = System.currentTimeMillis() - startTime;
+    /**
+     * 좋아요 (같은 사용자가 여러 번 요청해도 한 번만 반영)
+     * likeCount는 바로 반영된 값이고, 게시글 조회 결과에는 다음 저장 주기(blog.likes.flush-interval) 후 반영됩니다.
+     */
+    @PostMapping("/{id}/like")
+    public ResponseEntity<PostLikeService.LikeResult> like(@PathVariable Long id, @RequestParam long userId) {
+        return ResponseEntity.ok(postLikeService.like(id, userId));
+    }
 
-        log.info("========================================");
-        log.info("Cache Stampede 테스트 완료!");
-        log.info("- 총 요청 수: {}", threadCount);
-        log.info("- 소요 시간: {}ms", duration);
-        log.info("========================================");
+    /**
+     * 좋아요 취소
+     */
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<PostLikeService.LikeResult> unlike(@PathVariable Long id, @RequestParam long userId) {
+        return ResponseEntity.ok(postLikeService.unlike(id, userId));
+    }
 
+    /**
+     * 여러 게시글의 좋아요 여부를 한 번에 조회 (피드 렌더링용)
+     * 예) GET /api/posts/likes?userId=7&postIds=1,2,3
+     */
+    @GetMapping("/likes")
+    public ResponseEntity<Map<String, Object>> hasLiked(@RequestParam long userId,
+                                                        @RequestParam List<Long> postIds) {
         return ResponseEntity.ok(Map.of(
-                "message", "Cache Stampede 테스트 완료",
-                "id", id,
-                "threadCount", threadCount,
-                "duration", duration + "ms"
+                "userId", userId,
+                "liked", postLikeService.hasLiked(userId, postIds)
         ));
     }
 
@@ -0,0 +1,47 @@
+package com.codeit.blog.controller;
+
+import com.codeit.blog.loadtest.WorkloadReport;
+import com.codeit.blog.loadtest.WorkloadRunner;
+import com.codeit.blog.loadtest.WorkloadSpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/workload")
+@RequiredArgsConstructor
+@Slf4j
+public class WorkloadController {
+
+    private final WorkloadRunner workloadRunner;
+
+    /**
+     * 워크로드 실행 (실행이 끝날 때까지 응답을 기다립니다)
+     *
+     * 예) {"distribution": "ZIPF", "zipfSkew": 1.1, "concurrency": 32, "durationSeconds": 60}
+     * 본문을 비우면 기본 명세로 실행합니다.
+     */
+    @PostMapping
+    public ResponseEntity<?> runWorkload(@RequestBody(required = false) WorkloadSpec spec)
+            throws InterruptedException {
+        if (workloadRunner.isRunning()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", "이미 실행 중인 워크로드가 있습니다"));
+        }
+
+        WorkloadReport report = workloadRunner.run(spec != null ? spec : WorkloadSpec.defaults());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * 워크로드 실행 여부
+     */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(Map.of("running", workloadRunner.isRunning()));
+    }
+}
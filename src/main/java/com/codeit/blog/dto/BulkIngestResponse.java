@@ -0,0 +1,25 @@
+package com.codeit.blog.dto;
+
+import java.util.List;
+
+/**
+ * NDJSON 대량 등록 결과 DTO (Record 사용)
+ *
+ * errors는 최대 개수까지만 담고, 넘치면 errorsTruncated = true
+ */
+public record BulkIngestResponse(
+        long lines,
+        long inserted,
+        long failed,
+        List<LineError> errors,
+        boolean errorsTruncated,
+        double elapsedSeconds,
+        double rowsPerSecond
+) {
+
+    /**
+     * 실패한 줄 (line은 1부터 시작)
+     */
+    public record LineError(long line, String message) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.codeit.blog.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 변경 이벤트 (GET /api/posts/changes 로 전송)
+ *
+ * 본문은 담지 않습니다. 클라이언트는 fields를 보고 가진 캐시를 고치거나 해당 게시글만 다시 조회합니다.
+ * - sequence: 이벤트 순번 (SSE id, 재연결 시 Last-Event-ID)
+ * - updatedAt: 게시글 버전 (좋아요 수는 저장 주기(blog.likes.flush-interval)에 반영될 때 이벤트)
+ * - fields: 바뀐 필드 이름, values: 그중 작은 값 (title, category, viewCount, likeCount)
+ * - previousCategory: 카테고리가 바뀐 경우 이전 카테고리 (두 카테고리 구독자 모두 받음)
+ * - RESYNC: 놓친 이벤트가 있으니 가진 캐시를 버리고 다시 조회하라는 뜻 (sequence부터 이어짐)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostChangeEvent(
+        long sequence,
+        Type type,
+        Long postId,
+        String category,
+        String previousCategory,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime updatedAt,
+        List<String> fields,
+        Map<String, Object> values
+) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, VIEWS, LIKES, RESYNC
+    }
+
+    public PostChangeEvent withSequence(long sequence) {
+        return new PostChangeEvent(sequence, type, postId, category, previousCategory, updatedAt, fields, values);
+    }
+
+    public static PostChangeEvent resync(long sequence, String reason) {
+        return new PostChangeEvent(sequence, Type.RESYNC, null, null, null, null, List.of(), Map.of("reason", reason));
+    }
+
+    /**
+     * 카테고리 구독 조건 (비어 있으면 전체, RESYNC는 항상)
+     */
+    public boolean matches(Set<String> categories) {
+        return categories.isEmpty()
+                || type == Type.RESYNC
+                || (category != null && categories.contains(category))
+                || (previousCategory != null && categories.contains(previousCategory));
+    }
+}
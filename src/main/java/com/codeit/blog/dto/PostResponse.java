@@ -16,6 +16,7 @@ public record PostResponse(
         String category,
         Integer viewCount,
         Integer likeCount,
+        Integer uniqueViewers,
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         LocalDateTime createdAt,
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
@@ -35,6 +36,7 @@ public record PostResponse(
                 post.getCategory(),
                 post.getViewCount(),
                 post.getLikeCount(),
+                post.getUniqueViewers(),
                 post.getCreatedAt(),
                 post.getUpdatedAt(),
                 fromCache
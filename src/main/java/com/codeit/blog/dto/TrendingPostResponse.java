@@ -0,0 +1,14 @@
+package com.codeit.blog.dto;
+
+/**
+ * 트렌딩 게시글 응답
+ *
+ * score: 지수 감쇠를 적용한 조회 수 (지금 들어온 조회 1회 = 1.0)
+ * windowViews: 추적 기간(blog.trending.window) 동안의 조회 수
+ */
+public record TrendingPostResponse(
+        PostResponse post,
+        double score,
+        long windowViews
+) {
+}
@@ -0,0 +1,66 @@
+package com.codeit.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 카테고리별 집계 (게시글 수, 조회수 합, 좋아요 합, 최신 작성 시각)
+ *
+ * 게시글 변경과 같은 트랜잭션에서 증감하고 (CategoryStatsService),
+ * 주기적으로 posts 테이블과 대조해서 어긋난 값을 바로잡습니다.
+ */
+@Entity
+@Table(name = "category_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryStats {
+
+    @Id
+    @Column(length = 50)
+    private String category;
+
+    @Column(nullable = false)
+    private Long postCount;
+
+    @Column(nullable = false)
+    private Long totalViews;
+
+    @Column(nullable = false)
+    private Long totalLikes;
+
+    private LocalDateTime maxCreatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public CategoryStats(String category) {
+        this.category = category;
+        this.postCount = 0L;
+        this.totalViews = 0L;
+        this.totalLikes = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 대조 결과로 덮어쓰기
+     */
+    public void reconcile(long postCount, long totalViews, long totalLikes, LocalDateTime maxCreatedAt) {
+        this.postCount = postCount;
+        this.totalViews = totalViews;
+        this.totalLikes = totalLikes;
+        this.maxCreatedAt = maxCreatedAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean matches(long postCount, long totalViews, long totalLikes, LocalDateTime maxCreatedAt) {
+        return this.postCount == postCount
+                && this.totalViews == totalViews
+                && this.totalLikes == totalLikes
+                && Objects.equals(this.maxCreatedAt, maxCreatedAt);
+    }
+}
@@ -4,13 +4,26 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 /**
  * 블로그 게시글 엔티티
+ *
+ * Hibernate 2차 캐시 대상 (region 설정은 EntityCacheConfig)
+ *
+ * 파티션 보관(PostPartitionService)으로 본문이 posts_content_archive로 옮겨진 게시글은 content 컬럼이 NULL이고,
+ * 로드될 때 PostContentArchiveListener가 보관 본문을 archivedContent에 채웁니다. (@Transient라 다시 저장되지 않음)
+ * 보관 전에 읽힌 엔티티(content가 남아 있음)로 조회수 등을 저장해도 본문을 다시 쓰지 않도록 바뀐 컬럼만 UPDATE 합니다. (@DynamicUpdate)
  */
 @Entity
+@DynamicUpdate
+@EntityListeners(PostContentArchiveListener.class)
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Post.CACHE_REGION)
 @Table(name = "posts", indexes = {
         @Index(name = "idx_category", columnList = "category"),
         @Index(name = "idx_view_count", columnList = "viewCount"),
@@ -20,16 +33,28 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
 
+    // 시퀀스 한 번 조회로 id 50개를 미리 할당 (IDENTITY는 INSERT마다 즉시 실행되어 JDBC 배치가 꺼집니다)
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String ID_SEQUENCE = "posts_seq";
+
+    public static final String CACHE_REGION = "post-entity";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // 보관된 게시글은 NULL (getContent()는 보관 본문을 돌려줌)
+    @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private String archivedContent;
+
     @Column(nullable = false, length = 100)
     private String author;
 
@@ -42,6 +67,11 @@ public class Post {
     @Column(nullable = false)
     private Integer likeCount = 0;
 
+    // 고유 조회자 수 추정값 (UniqueViewerService 저장 시점에 갱신, 기존 행은 0)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer uniqueViewers = 0;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -60,6 +90,34 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 초기 데이터용 생성자 (조회수, 좋아요 수를 바로 지정)
+    public Post(String title, String content, String author, String category,
+                int viewCount, int likeCount, LocalDateTime createdAt) {
+        this.title = title;
+        this.content = content;
+        this.author = author;
+        this.category = category;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    public String getContent() {
+        return content != null ? content : archivedContent;
+    }
+
+    /**
+     * 본문이 보관 테이블로 옮겨졌는지 (content 컬럼이 NULL)
+     */
+    public boolean isContentArchived() {
+        return content == null;
+    }
+
+    void restoreArchivedContent(String archivedContent) {
+        this.archivedContent = archivedContent;
+    }
+
     // 비즈니스 로직
     public void update(String title, String content, String category) {
         this.title = title;
@@ -73,8 +131,17 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void incrementLikeCount() {
-        this.likeCount++;
-        this.updatedAt = LocalDateTime.now();
+    public void applyUniqueViewers(int uniqueViewers) {
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    /**
+     * 좋아요 수는 사용자별 좋아요 집합 크기로 정해집니다 (PostLikeService 저장 시점)
+     */
+    public void applyLikeCount(int likeCount) {
+        if (this.likeCount != likeCount) {
+            this.likeCount = likeCount;
+            this.updatedAt = LocalDateTime.now();
+        }
     }
 }
\ No newline at end of file
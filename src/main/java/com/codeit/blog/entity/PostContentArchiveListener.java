@@ -0,0 +1,28 @@
+package com.codeit.blog.entity;
+
+import com.codeit.blog.repository.PostContentArchiveRepository;
+import jakarta.persistence.PostLoad;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 보관된 게시글의 본문을 로드 시점에 채웁니다.
+ *
+ * Spring Boot가 Hibernate에 SpringBeanContainer를 설정하므로 생성자 주입을 받을 수 있습니다.
+ * EntityManagerFactory를 만드는 중에 생성되므로 저장소는 처음 쓸 때 꺼냅니다. (ObjectProvider)
+ * 보관된 게시글은 오래된 파티션에만 있어서 자주 불리지 않고, 본문이 있는 게시글은 쿼리 없이 통과합니다.
+ */
+public class PostContentArchiveListener {
+
+    private final ObjectProvider<PostContentArchiveRepository> archiveRepository;
+
+    public PostContentArchiveListener(ObjectProvider<PostContentArchiveRepository> archiveRepository) {
+        this.archiveRepository = archiveRepository;
+    }
+
+    @PostLoad
+    public void restoreContent(Post post) {
+        if (post.isContentArchived()) {
+            archiveRepository.getObject().findContent(post.getId()).ifPresent(post::restoreArchivedContent);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.codeit.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 좋아요 사용자 집합 (RoaringBitmap 직렬화 값)
+ *
+ * likeCount = legacyLikeCount + bitmap 원소 수
+ * legacyLikeCount는 사용자 구분 없이 쌓인 기존 좋아요 수로, 집합이 처음 만들어질 때 posts.likeCount에서 가져옵니다.
+ */
+@Entity
+@Table(name = "post_like_sets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostLikeSet {
+
+    // 직렬화된 bitmap 최대 크기 (사용자 id 4억 개가 흩어져 있어도 넘지 않는 값)
+    public static final int MAX_BITMAP_BYTES = 64 * 1024 * 1024;
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false, length = MAX_BITMAP_BYTES)
+    private byte[] bitmap;
+
+    @Column(nullable = false)
+    private Integer cardinality;
+
+    @Column(nullable = false)
+    private Integer legacyLikeCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public PostLikeSet(Long postId, int legacyLikeCount) {
+        this.postId = postId;
+        this.bitmap = new byte[0];
+        this.cardinality = 0;
+        this.legacyLikeCount = legacyLikeCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updateBitmap(byte[] bitmap, int cardinality) {
+        this.bitmap = bitmap;
+        this.cardinality = cardinality;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public int likeCount() {
+        return legacyLikeCount + cardinality;
+    }
+}
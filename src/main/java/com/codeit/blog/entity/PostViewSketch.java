@@ -0,0 +1,63 @@
+package com.codeit.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 일자별 고유 조회자 HyperLogLog sketch
+ *
+ * day = ALL_TIME(1970-01-01) 행은 전체 기간을 합친 sketch로, 조회 때마다 일자 행을 모두 합치지 않도록 같이 갱신합니다.
+ */
+@Entity
+@Table(name = "post_view_sketches")
+@IdClass(PostViewSketch.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostViewSketch {
+
+    public static final LocalDate ALL_TIME = LocalDate.EPOCH;
+
+    @Id
+    private Long postId;
+
+    @Id
+    private LocalDate day;
+
+    @Column(nullable = false, length = 65_538)
+    private byte[] registers;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public PostViewSketch(Long postId, LocalDate day, byte[] registers) {
+        this.postId = postId;
+        this.day = day;
+        this.registers = registers;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updateRegisters(byte[] registers) {
+        this.registers = registers;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long postId;
+        private LocalDate day;
+
+        public Key(Long postId, LocalDate day) {
+            this.postId = postId;
+            this.day = day;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.codeit.blog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 캐시 항목 제거 (순간 이벤트)
+ *
+ * cause: Caffeine RemovalCause 이름 (SIZE, EXPIRED, COLLECTED) 또는 EXPLICIT(@CacheEvict), CLEAR
+ * 제거를 일으킨 스레드에서 바로 기록되므로 같은 스레드의 락/GC 이벤트와 맞춰볼 수 있습니다.
+ */
+@Name(CacheEvictionEvent.NAME)
+@Label("Cache Eviction")
+@Category({"Blog", "Cache"})
+@Description("캐시 항목 제거와 원인")
+@StackTrace(false)
+public class CacheEvictionEvent extends Event {
+
+    public static final String NAME = "com.codeit.blog.CacheEviction";
+
+    public static final String EXPLICIT = "EXPLICIT";
+    public static final String CLEAR = "CLEAR";
+
+    @Label("Region")
+    public String region;
+
+    @Label("Key Hash")
+    public int keyHash;
+
+    @Label("Cause")
+    public String cause;
+}
@@ -0,0 +1,45 @@
+package com.codeit.blog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * 캐시 조회 한 번 (이벤트 시간 = 조회 전체, loadDuration = 그중 로더 실행 시간)
+ *
+ * outcome: HIT, MISS(@Cacheable 조회 실패 → 이후 메서드 실행), LOADED, LOAD_FAILED
+ * LoadingCache / AsyncLoadingCache는 로더만 감쌀 수 있으므로 LOADED, LOAD_FAILED만 남습니다.
+ */
+@Name(CacheLookupEvent.NAME)
+@Label("Cache Lookup")
+@Category({"Blog", "Cache"})
+@Description("캐시 조회 결과와 로드 시간")
+@StackTrace(false)
+@Threshold("0 ms")
+public class CacheLookupEvent extends Event {
+
+    public static final String NAME = "com.codeit.blog.CacheLookup";
+
+    public static final String HIT = "HIT";
+    public static final String MISS = "MISS";
+    public static final String LOADED = "LOADED";
+    public static final String LOAD_FAILED = "LOAD_FAILED";
+
+    @Label("Region")
+    public String region;
+
+    @Label("Key Hash")
+    public int keyHash;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Load Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long loadDuration;
+}
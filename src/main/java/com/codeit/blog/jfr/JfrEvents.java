@@ -0,0 +1,65 @@
+package com.codeit.blog.jfr;
+
+import com.github.benmanes.caffeine.cache.RemovalListener;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 캐시 설정 코드에서 JFR 이벤트를 남기기 위한 도우미
+ *
+ * 녹화 중이 아니면 begin/end/shouldCommit 모두 비어 있는 호출이라 JIT가 객체 생성까지 제거합니다.
+ * 필드(region, keyHash 등)는 shouldCommit()이 true일 때만 채웁니다.
+ */
+public final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    public static int keyHash(Object key) {
+        return Objects.hashCode(key);
+    }
+
+    /**
+     * Caffeine evictionListener용 (SIZE, EXPIRED, COLLECTED)
+     * 제거를 일으킨 스레드에서 동기로 호출되므로 removalListener 대신 사용합니다.
+     */
+    public static RemovalListener<Object, Object> evictionListener(String region) {
+        return (key, value, cause) -> evicted(region, key, cause.name());
+    }
+
+    public static void evicted(String region, Object key, String cause) {
+        CacheEvictionEvent event = new CacheEvictionEvent();
+        if (event.shouldCommit()) {
+            event.region = region;
+            event.keyHash = keyHash(key);
+            event.cause = cause;
+            event.commit();
+        }
+    }
+
+    /**
+     * LoadingCache / AsyncLoadingCache 로더를 감싸서 LOADED / LOAD_FAILED 이벤트를 남깁니다.
+     */
+    public static <K, V> V load(String region, K key, Function<? super K, ? extends V> loader) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = CacheLookupEvent.LOAD_FAILED;
+        try {
+            V value = loader.apply(key);
+            outcome = CacheLookupEvent.LOADED;
+            return value;
+        } finally {
+            long loadDuration = System.nanoTime() - start;
+            event.end();
+            if (event.shouldCommit()) {
+                event.region = region;
+                event.keyHash = keyHash(key);
+                event.outcome = outcome;
+                event.loadDuration = loadDuration;
+                event.commit();
+            }
+        }
+    }
+}
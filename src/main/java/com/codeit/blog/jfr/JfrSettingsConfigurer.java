@@ -0,0 +1,89 @@
+package com.codeit.blog.jfr;
+
+import com.codeit.blog.config.JfrProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 녹화가 시작될 때 blog.jfr.* 값을 이벤트 설정(threshold, stackTrace)으로 넣습니다.
+ *
+ * -XX:StartFlightRecording, jcmd JFR.start 어느 쪽으로 시작해도 적용되고,
+ * .jfc 파일이나 옵션에 이미 지정된 항목은 건드리지 않습니다.
+ * 애플리케이션보다 먼저 시작된 녹화는 빈 초기화 시점에 한 번 적용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JfrSettingsConfigurer implements FlightRecorderListener {
+
+    private final JfrProperties properties;
+
+    @PostConstruct
+    public void register() {
+        if (!FlightRecorder.isAvailable()) {
+            log.info("JFR을 사용할 수 없는 JVM이라 이벤트 설정을 건너뜁니다.");
+            return;
+        }
+        FlightRecorder.addListener(this);
+        // 이미 초기화된 경우에만 조회 (getFlightRecorder()는 JFR을 새로 초기화함)
+        if (FlightRecorder.isInitialized()) {
+            FlightRecorder.getFlightRecorder().getRecordings().stream()
+                    .filter(recording -> recording.getState() == RecordingState.RUNNING)
+                    .forEach(this::apply);
+        }
+    }
+
+    @PreDestroy
+    public void unregister() {
+        if (FlightRecorder.isAvailable()) {
+            FlightRecorder.removeListener(this);
+        }
+    }
+
+    @Override
+    public void recordingStateChanged(Recording recording) {
+        if (recording.getState() == RecordingState.RUNNING) {
+            apply(recording);
+        }
+    }
+
+    private void apply(Recording recording) {
+        Map<String, String> settings = new HashMap<>(recording.getSettings());
+        String stackTrace = Boolean.toString(properties.isStackTrace());
+
+        int before = settings.size();
+        settings.putIfAbsent(CacheLookupEvent.NAME + "#threshold", threshold(properties.getCacheLookupThreshold()));
+        settings.putIfAbsent(CacheLookupEvent.NAME + "#stackTrace", stackTrace);
+        settings.putIfAbsent(CacheEvictionEvent.NAME + "#stackTrace", stackTrace);
+        settings.putIfAbsent(RepositoryQueryEvent.NAME + "#threshold", threshold(properties.getRepositoryQueryThreshold()));
+        settings.putIfAbsent(RepositoryQueryEvent.NAME + "#stackTrace", stackTrace);
+
+        if (settings.size() == before) {
+            return;
+        }
+        try {
+            recording.setSettings(settings);
+            log.info("JFR 녹화 '{}'에 blog 이벤트 설정 적용: cacheLookupThreshold={}, repositoryQueryThreshold={}, stackTrace={}",
+                    recording.getName(), properties.getCacheLookupThreshold(),
+                    properties.getRepositoryQueryThreshold(), stackTrace);
+        } catch (IllegalStateException e) {
+            // 그 사이 녹화가 끝난 경우
+            log.debug("JFR 녹화 '{}' 설정 적용 실패: {}", recording.getName(), e.getMessage());
+        }
+    }
+
+    private String threshold(Duration duration) {
+        return duration.toNanos() + " ns";
+    }
+}
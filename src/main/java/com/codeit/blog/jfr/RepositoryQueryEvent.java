@@ -0,0 +1,37 @@
+package com.codeit.blog.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 리포지토리 메서드 호출 한 번 (2차 캐시에서 끝난 조회도 포함)
+ *
+ * rows: 결과 건수 (컬렉션/Page 크기, Optional은 0 또는 1, 그 외 -1)
+ */
+@Name(RepositoryQueryEvent.NAME)
+@Label("Repository Query")
+@Category({"Blog", "Database"})
+@Description("리포지토리 쿼리 실행 시간과 결과 건수")
+@StackTrace(false)
+@Threshold("0 ms")
+public class RepositoryQueryEvent extends Event {
+
+    public static final String NAME = "com.codeit.blog.RepositoryQuery";
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Exception")
+    public String exception;
+}
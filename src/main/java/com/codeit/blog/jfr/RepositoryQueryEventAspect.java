@@ -0,0 +1,67 @@
+package com.codeit.blog.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * PostRepository 호출마다 RepositoryQueryEvent를 남깁니다.
+ *
+ * 상속받은 메서드(findById, saveAll 등)도 포함하도록 target()으로 지정합니다.
+ * 녹화 중이 아니면 isEnabled() 확인 후 바로 proceed 합니다.
+ */
+@Aspect
+@Component
+public class RepositoryQueryEventAspect {
+
+    private static final String REPOSITORY = "PostRepository";
+
+    @Around("target(com.codeit.blog.repository.PostRepository)")
+    public Object recordQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = REPOSITORY;
+                event.method = joinPoint.getSignature().getName();
+                event.rows = failure != null ? -1 : rows(result);
+                event.exception = failure != null ? failure.getClass().getName() : null;
+                event.commit();
+            }
+        }
+    }
+
+    private int rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,257 @@
+package com.codeit.blog.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 지연 시간으로 동시 실행 한도를 조정하는 리미터
+ *
+ * 한도 안이면 tryAcquire()가 Permit을 주고, 넘으면 기다리지 않고 null을 돌려줍니다. (호출하는 쪽에서 거절 / stale 응답)
+ * 끝나면 Permit.success() / dropped() / ignore() 중 하나를 반드시 호출해야 합니다.
+ *
+ * GRADIENT: 장기 평균 지연(longRtt)과 이번 지연(shortRtt)의 비율로 한도를 줄이거나 늘립니다.
+ *   gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ *   newLimit = limit * gradient + 1   (+1: 지연이 평소 수준이면 한도를 조금씩 늘려봄)
+ *   지연이 평소의 tolerance배 안이면 한도가 늘어나고, 그보다 느려지면 한 번에 최대 절반까지 줄어듭니다.
+ *   DB 커넥션 풀(10개)을 나눠 쓰는 작은 한도에 맞춰 Netflix Gradient2의 sqrt(limit) 대신 1을 더합니다.
+ * AIMD: 실패하거나 latencyThreshold를 넘으면 limit * backoffRatio, 아니면 +1
+ *
+ * 어느 쪽이든 동시 실행이 한도의 절반도 안 될 때는 늘리지 않습니다. (여유가 있는데 한도만 커지는 것 방지)
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    public enum Algorithm {
+        GRADIENT,
+        AIMD
+    }
+
+    // longRtt 지수 이동 평균 계수 (최근 약 100개 샘플)
+    private static final double LONG_RTT_ALPHA = 2.0 / (100 + 1);
+
+    private final Algorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    // update()에서만 바뀌고 (synchronized) tryAcquire()는 volatile로 읽습니다
+    private volatile double limit;
+    private volatile double longRttNanos;
+    private volatile long lastRttNanos;
+
+    private AdaptiveConcurrencyLimiter(Builder builder) {
+        if (builder.minLimit < 1 || builder.maxLimit < builder.minLimit) {
+            throw new IllegalArgumentException("한도 범위가 잘못되었습니다: min=" + builder.minLimit + ", max=" + builder.maxLimit);
+        }
+        this.algorithm = builder.algorithm;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.tolerance = builder.tolerance;
+        this.smoothing = builder.smoothing;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyThresholdNanos = builder.latencyThresholdNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, builder.initialLimit));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return 한도 안이면 Permit, 가득 찼으면 null
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1);
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    public double longRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+
+    public double lastRttMillis() {
+        return lastRttNanos / 1_000_000.0;
+    }
+
+    public Algorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 샘플 하나로 한도 갱신
+     *
+     * @param inflightAtStart 이 호출이 시작될 때의 동시 실행 수 (자신 포함)
+     */
+    synchronized void update(long rttNanos, int inflightAtStart, boolean dropped) {
+        // 타이머 해상도보다 짧은 호출은 0으로 잴 수 있음, 0으로 나누면 한도가 NaN이 되어 모든 요청을 거절하므로 1ns로 올림
+        rttNanos = Math.max(1, rttNanos);
+        lastRttNanos = rttNanos;
+        double current = limit;
+        double next = switch (algorithm) {
+            case GRADIENT -> gradient(current, rttNanos, inflightAtStart);
+            case AIMD -> aimd(current, rttNanos, inflightAtStart, dropped);
+        };
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    private double gradient(double current, long rttNanos, int inflightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos = longRttNanos + LONG_RTT_ALPHA * (rttNanos - longRttNanos);
+            // 평소보다 훨씬 빨라졌으면(부하가 빠진 뒤) 장기 평균이 천천히 따라오도록 당겨줌
+            if (longRttNanos / rttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+        }
+        if (inflightAtStart < current / 2) {
+            return current;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double target = current * gradient + 1;
+        return current * (1 - smoothing) + target * smoothing;
+    }
+
+    private double aimd(double current, long rttNanos, int inflightAtStart, boolean dropped) {
+        if (dropped || rttNanos > latencyThresholdNanos) {
+            return current * backoffRatio;
+        }
+        if (inflightAtStart * 2 >= current) {
+            return current + 1;
+        }
+        return current;
+    }
+
+    public final class Permit {
+
+        private final long startNanos = System.nanoTime();
+        private final int inflightAtStart;
+        private boolean released;
+
+        private Permit(int inflightAtStart) {
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * 정상 완료, 걸린 시간을 한도 계산에 반영
+         */
+        public void success() {
+            release(false, true);
+        }
+
+        /**
+         * 실패 / 타임아웃, AIMD는 한도를 줄입니다
+         */
+        public void dropped() {
+            release(true, true);
+        }
+
+        /**
+         * 지연과 무관한 종료 (예: DB까지 가지 않은 경우), 한도는 그대로
+         */
+        public void ignore() {
+            release(false, false);
+        }
+
+        private void release(boolean dropped, boolean sample) {
+            if (released) {
+                return;
+            }
+            released = true;
+            inflight.decrementAndGet();
+            if (sample) {
+                update(System.nanoTime() - startNanos, inflightAtStart, dropped);
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private Algorithm algorithm = Algorithm.GRADIENT;
+        private int initialLimit = 4;
+        private int minLimit = 1;
+        private int maxLimit = 8;
+        private double tolerance = 1.5;
+        private double smoothing = 0.2;
+        private double backoffRatio = 0.9;
+        private long latencyThresholdNanos = TimeUnit.SECONDS.toNanos(2);
+
+        private Builder() {
+        }
+
+        public Builder algorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * GRADIENT: 평소 지연의 몇 배까지를 정상으로 볼지
+         */
+        public Builder tolerance(double tolerance) {
+            this.tolerance = tolerance;
+            return this;
+        }
+
+        /**
+         * GRADIENT: 새 한도를 얼마나 빨리 반영할지 (0 ~ 1)
+         */
+        public Builder smoothing(double smoothing) {
+            this.smoothing = smoothing;
+            return this;
+        }
+
+        /**
+         * AIMD: 실패 / 지연 초과 시 곱할 비율
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * AIMD: 이 시간을 넘으면 실패로 봄
+         */
+        public Builder latencyThreshold(long amount, TimeUnit unit) {
+            this.latencyThresholdNanos = unit.toNanos(amount);
+            return this;
+        }
+
+        public AdaptiveConcurrencyLimiter build() {
+            return new AdaptiveConcurrencyLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.codeit.blog.limit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 작업 하나(예: findByCategory)의 DB 로드를 AdaptiveConcurrencyLimiter로 제한합니다.
+ *
+ * 한도가 가득 차면 기다리지 않고
+ * 1) 같은 키로 최근에 성공한 값(staleTtl 이내)이 있으면 그 값을 응답하고
+ * 2) 없으면 BulkheadFullException (503)
+ *
+ * 메트릭 (operation=이름)
+ * - blog.bulkhead.limit / blog.bulkhead.inflight: 현재 한도와 동시 실행 수
+ * - blog.bulkhead.latency{window=long|last}: 한도 계산에 쓰는 평균 / 마지막 지연 (ms)
+ * - blog.bulkhead.calls{result=success|error|stale|rejected}
+ */
+@Slf4j
+public class Bulkhead {
+
+    private final String operation;
+    private final AdaptiveConcurrencyLimiter limiter;
+    // staleTtl이 0이면 null (거절만)
+    private final Cache<Object, Object> lastGoodValues;
+
+    private final Counter success;
+    private final Counter error;
+    private final Counter stale;
+    private final Counter rejected;
+
+    public Bulkhead(String operation, AdaptiveConcurrencyLimiter limiter,
+                    Duration staleTtl, long staleMaximumSize, MeterRegistry meterRegistry) {
+        this.operation = operation;
+        this.limiter = limiter;
+        this.lastGoodValues = staleTtl.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(staleMaximumSize)
+                .expireAfterWrite(staleTtl)
+                .build();
+
+        Gauge.builder("blog.bulkhead.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .tag("operation", operation)
+                .description("현재 동시 실행 한도")
+                .register(meterRegistry);
+        Gauge.builder("blog.bulkhead.inflight", limiter, AdaptiveConcurrencyLimiter::inflight)
+                .tag("operation", operation)
+                .description("실행 중인 DB 로드 수")
+                .register(meterRegistry);
+        Gauge.builder("blog.bulkhead.latency", limiter, AdaptiveConcurrencyLimiter::longRttMillis)
+                .tag("operation", operation)
+                .tag("window", "long")
+                .baseUnit("milliseconds")
+                .description("한도 계산에 쓰는 지연")
+                .register(meterRegistry);
+        Gauge.builder("blog.bulkhead.latency", limiter, AdaptiveConcurrencyLimiter::lastRttMillis)
+                .tag("operation", operation)
+                .tag("window", "last")
+                .baseUnit("milliseconds")
+                .description("한도 계산에 쓰는 지연")
+                .register(meterRegistry);
+        this.success = callCounter(meterRegistry, "success");
+        this.error = callCounter(meterRegistry, "error");
+        this.stale = callCounter(meterRegistry, "stale");
+        this.rejected = callCounter(meterRegistry, "rejected");
+    }
+
+    private Counter callCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("blog.bulkhead.calls")
+                .tag("operation", operation)
+                .tag("result", result)
+                .description("Bulkhead를 거친 DB 로드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key stale 응답에 쓸 키, null이면 stale 응답 없이 거절만
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> load) {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            Object lastGood = key != null && lastGoodValues != null ? lastGoodValues.getIfPresent(key) : null;
+            if (lastGood != null) {
+                stale.increment();
+                log.debug("동시 조회 한도 초과, 이전 값으로 응답: operation={}, key={}, limit={}", operation, key, limiter.limit());
+                return (T) lastGood;
+            }
+            rejected.increment();
+            log.warn("동시 조회 한도 초과로 거절: operation={}, key={}, limit={}", operation, key, limiter.limit());
+            throw new BulkheadFullException(operation, limiter.limit());
+        }
+
+        T value;
+        try {
+            value = load.get();
+        } catch (RuntimeException | Error e) {
+            permit.dropped();
+            error.increment();
+            throw e;
+        }
+        permit.success();
+        success.increment();
+        if (key != null && value != null && lastGoodValues != null) {
+            lastGoodValues.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 수정 / 삭제된 키의 이전 값을 버림 (삭제된 게시글을 stale로 응답하지 않도록)
+     */
+    public void invalidate(Object key) {
+        if (lastGoodValues != null) {
+            lastGoodValues.invalidate(key);
+        }
+    }
+
+    public String operation() {
+        return operation;
+    }
+
+    public AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+}
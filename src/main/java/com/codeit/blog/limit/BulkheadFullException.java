@@ -0,0 +1,28 @@
+package com.codeit.blog.limit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 동시 실행 한도가 가득 차서 기다리지 않고 거절된 호출 (HTTP 503)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class BulkheadFullException extends RuntimeException {
+
+    private final String operation;
+    private final int limit;
+
+    public BulkheadFullException(String operation, int limit) {
+        super("동시 조회 한도 초과: operation=" + operation + ", limit=" + limit);
+        this.operation = operation;
+        this.limit = limit;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
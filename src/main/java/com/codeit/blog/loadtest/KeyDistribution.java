@@ -0,0 +1,115 @@
+package com.codeit.blog.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 워크로드에서 요청할 게시글 id를 뽑는 분포
+ *
+ * 구현체는 상태를 공유하지 않으므로 여러 워커 스레드가 같이 써도 됩니다.
+ * (난수 생성기는 워커마다 따로 넘겨줍니다)
+ */
+public interface KeyDistribution {
+
+    /**
+     * @param random        워커 전용 난수 생성기
+     * @param elapsedNanos  워크로드 시작 후 경과 시간 (핫셋 이동에 사용)
+     * @return 1 ~ keySpace 사이의 id
+     */
+    long nextKey(RandomGenerator random, long elapsedNanos);
+
+    static KeyDistribution from(WorkloadSpec spec) {
+        return switch (spec.distribution()) {
+            case UNIFORM -> new Uniform(spec.keySpace());
+            case ZIPF -> new Zipf(spec.keySpace(), spec.zipfSkew());
+            case HOTSET_SHIFT -> new HotSetShift(
+                    spec.keySpace(),
+                    spec.hotSetSize(),
+                    spec.hotSetTrafficRatio(),
+                    spec.hotSetShiftSeconds() * 1_000_000_000L
+            );
+        };
+    }
+
+    /**
+     * 균등 분포: 모든 id가 같은 확률
+     */
+    final class Uniform implements KeyDistribution {
+
+        private final long keySpace;
+
+        Uniform(long keySpace) {
+            this.keySpace = keySpace;
+        }
+
+        @Override
+        public long nextKey(RandomGenerator random, long elapsedNanos) {
+            return 1 + random.nextLong(keySpace);
+        }
+    }
+
+    /**
+     * Zipf 분포: 순위 k의 확률이 1/k^s 에 비례
+     * 누적 분포(CDF)를 미리 계산해두고 이진 탐색으로 뽑습니다. (keySpace 100만 기준 약 8MB)
+     */
+    final class Zipf implements KeyDistribution {
+
+        private final double[] cdf;
+
+        Zipf(long keySpace, double skew) {
+            if (keySpace > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Zipf 분포의 keySpace가 너무 큽니다: " + keySpace);
+            }
+            int n = (int) keySpace;
+            this.cdf = new double[n];
+
+            double sum = 0;
+            for (int k = 1; k <= n; k++) {
+                sum += 1.0 / Math.pow(k, skew);
+                cdf[k - 1] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        @Override
+        public long nextKey(RandomGenerator random, long elapsedNanos) {
+            double u = random.nextDouble();
+            int idx = Arrays.binarySearch(cdf, u);
+            if (idx < 0) {
+                idx = -idx - 1;
+            }
+            return Math.min(idx, cdf.length - 1) + 1L;
+        }
+    }
+
+    /**
+     * 핫셋 이동 분포: 트래픽 대부분이 작은 핫셋에 몰리고, 핫셋이 주기적으로 옆으로 이동
+     * 인기 글이 바뀌는 상황(새 글 등록, 외부 유입)에서 캐시가 얼마나 빨리 따라가는지 확인할 때 사용합니다.
+     */
+    final class HotSetShift implements KeyDistribution {
+
+        private final long keySpace;
+        private final long hotSetSize;
+        private final double hotTrafficRatio;
+        private final long shiftIntervalNanos;
+
+        HotSetShift(long keySpace, long hotSetSize, double hotTrafficRatio, long shiftIntervalNanos) {
+            this.keySpace = keySpace;
+            this.hotSetSize = Math.min(hotSetSize, keySpace);
+            this.hotTrafficRatio = hotTrafficRatio;
+            this.shiftIntervalNanos = shiftIntervalNanos;
+        }
+
+        @Override
+        public long nextKey(RandomGenerator random, long elapsedNanos) {
+            if (random.nextDouble() >= hotTrafficRatio) {
+                return 1 + random.nextLong(keySpace);
+            }
+            long generation = elapsedNanos / shiftIntervalNanos;
+            long offset = (generation * hotSetSize) % keySpace;
+            return 1 + (offset + random.nextLong(hotSetSize)) % keySpace;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.codeit.blog.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마이크로초 단위 지연 시간 히스토그램 (log-linear 버킷)
+ *
+ * 2의 거듭제곱 구간마다 64개 버킷으로 나누므로 상대 오차는 약 1.6% 이내입니다.
+ * 모든 값을 저장하지 않아서 요청 수와 관계없이 메모리가 일정하고, 여러 스레드가 동시에 기록해도 됩니다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;       // 64
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;           // 128 미만은 1µs 단위
+    private static final int MAX_SHIFT = 40;
+    private static final int BUCKET_COUNT = (MAX_SHIFT + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long maxMicros() {
+        return max.get();
+    }
+
+    public double meanMicros() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * 백분위 값 (예: 0.99 → p99), 해당 버킷의 상한값을 돌려줍니다.
+     */
+    public long percentileMicros(double quantile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * 비어 있지 않은 버킷만 (버킷 상한 µs → 개수) 형태로 반환
+     */
+    public Map<Long, Long> nonEmptyBuckets() {
+        Map<Long, Long> result = new TreeMap<>();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = buckets.get(i);
+            if (c > 0) {
+                result.put(upperBoundOf(i), c);
+            }
+        }
+        return result;
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = Math.min(msb - SUB_BUCKET_BITS, MAX_SHIFT);
+        long sub = Math.min(value >>> shift, LINEAR_LIMIT - 1);
+        return shift * SUB_BUCKET_COUNT + (int) sub;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long sub = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,64 @@
+package com.codeit.blog.loadtest;
+
+import java.util.Map;
+
+/**
+ * 워크로드 실행 결과 (JSON으로 저장해서 실행끼리 비교)
+ */
+public record WorkloadReport(
+        WorkloadSpec spec,
+        String targetUrl,
+        long startedAt,
+        double elapsedSeconds,
+        long totalRequests,
+        long totalErrors,
+        double throughput,
+        Map<String, EndpointReport> endpoints,
+        Map<String, CacheReport> caches
+) {
+
+    /**
+     * 엔드포인트별 지연 시간 (단위: ms, 히스토그램 키는 버킷 상한 µs)
+     */
+    public record EndpointReport(
+            long count,
+            long errors,
+            double meanMs,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            Map<Long, Long> histogramMicros
+    ) {
+
+        public static EndpointReport from(LatencyHistogram histogram, long errors) {
+            return new EndpointReport(
+                    histogram.count(),
+                    errors,
+                    histogram.meanMicros() / 1000.0,
+                    histogram.percentileMicros(0.50) / 1000.0,
+                    histogram.percentileMicros(0.95) / 1000.0,
+                    histogram.percentileMicros(0.99) / 1000.0,
+                    histogram.percentileMicros(0.999) / 1000.0,
+                    histogram.maxMicros() / 1000.0,
+                    histogram.nonEmptyBuckets()
+            );
+        }
+    }
+
+    /**
+     * 워크로드 실행 동안의 캐시별 적중률 (실행 전후 통계 차이)
+     */
+    public record CacheReport(
+            long hitCount,
+            long missCount,
+            double hitRate
+    ) {
+
+        public static CacheReport of(long hitCount, long missCount) {
+            long requests = hitCount + missCount;
+            return new CacheReport(hitCount, missCount, requests > 0 ? (double) hitCount / requests : 0.0);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.codeit.blog.loadtest;
+
+import com.codeit.blog.dto.PostRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 워크로드 드라이버
+ *
+ * 키 분포와 요청 비율에 따라 HTTP 요청을 보내고, 엔드포인트별 지연 시간과 캐시별 적중률을 수집합니다.
+ * targetUrl이 없으면 현재 실행 중인 서버(in-process)에 요청하고, 있으면 외부 서버(PostgreSQL 환경 등)에 요청합니다.
+ *
+ * 목표 처리량(targetRate)이 있으면 "보내려고 했던 시각"부터 지연 시간을 재서
+ * 서버가 밀릴 때 대기한 시간까지 포함합니다. (coordinated omission 보정)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkloadRunner {
+
+    private static final List<String> CATEGORIES = List.of("Java", "Spring", "Database", "Architecture", "DevOps");
+
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 요청 종류
+     */
+    enum Operation {
+        READ("GET /api/posts/{id}"),
+        WRITE("PUT /api/posts/{id}"),
+        VIEW("POST /api/posts/{id}/view");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    /**
+     * 엔드포인트별 수집기
+     */
+    private static class EndpointStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public WorkloadReport run(WorkloadSpec spec) throws InterruptedException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 실행 중인 워크로드가 있습니다");
+        }
+        try {
+            return execute(spec);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private WorkloadReport execute(WorkloadSpec spec) throws InterruptedException {
+        String baseUrl = resolveBaseUrl(spec);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        KeyDistribution keys = KeyDistribution.from(spec);
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation op : Operation.values()) {
+            stats.put(op, new EndpointStats());
+        }
+
+        log.info("========================================");
+        log.info("워크로드 시작: target={}, distribution={}, concurrency={}, targetRate={}/s, duration={}s",
+                baseUrl, spec.distribution(), spec.concurrency(), spec.targetRate(), spec.durationSeconds());
+        log.info("========================================");
+
+        Map<String, long[]> cacheBefore = snapshotCacheStats(client, baseUrl);
+
+        long startedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(spec.durationSeconds());
+        long intervalNanos = spec.targetRate() > 0
+                ? (long) (1_000_000_000.0 * spec.concurrency() / spec.targetRate())
+                : 0;
+        AtomicLong sequence = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(spec.concurrency());
+        for (int w = 0; w < spec.concurrency(); w++) {
+            SplittableRandom random = new SplittableRandom(spec.seed() + w);
+            // 워커마다 시작 시각을 조금씩 어긋나게 해서 요청이 한꺼번에 몰리지 않게 합니다
+            long firstSend = start + (intervalNanos * w) / spec.concurrency();
+
+            executor.submit(() -> {
+                long next = firstSend;
+                while (!Thread.currentThread().isInterrupted()) {
+                    long intended;
+                    if (intervalNanos > 0) {
+                        long wait = next - System.nanoTime();
+                        if (wait > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                        intended = next;
+                        next += intervalNanos;
+                    } else {
+                        intended = System.nanoTime();
+                    }
+                    if (intended >= deadline) {
+                        break;
+                    }
+
+                    Operation op = pickOperation(spec, random);
+                    long id = keys.nextKey(random, intended - start);
+                    boolean ok = send(client, baseUrl, op, id, sequence.incrementAndGet());
+
+                    EndpointStats s = stats.get(op);
+                    s.histogram.recordNanos(System.nanoTime() - intended);
+                    if (!ok) {
+                        s.errors.increment();
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(spec.durationSeconds() + 60L, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Map<String, long[]> cacheAfter = snapshotCacheStats(client, baseUrl);
+
+        Map<String, WorkloadReport.EndpointReport> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        long errors = 0;
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats s = entry.getValue();
+            endpoints.put(entry.getKey().endpoint,
+                    WorkloadReport.EndpointReport.from(s.histogram, s.errors.sum()));
+            total += s.histogram.count();
+            errors += s.errors.sum();
+        }
+
+        Map<String, WorkloadReport.CacheReport> caches = new LinkedHashMap<>();
+        cacheAfter.forEach((name, after) -> {
+            long[] before = cacheBefore.getOrDefault(name, new long[2]);
+            caches.put(name, WorkloadReport.CacheReport.of(after[0] - before[0], after[1] - before[1]));
+        });
+
+        WorkloadReport report = new WorkloadReport(
+                spec,
+                baseUrl,
+                startedAt,
+                elapsedSeconds,
+                total,
+                errors,
+                total / elapsedSeconds,
+                endpoints,
+                caches
+        );
+
+        log.info("========================================");
+        log.info("워크로드 완료: 총 {}건, 오류 {}건, {} req/s", total, errors, String.format("%.1f", report.throughput()));
+        endpoints.forEach((endpoint, r) -> log.info("- {}: p50={}ms, p99={}ms, p999={}ms",
+                endpoint, r.p50Ms(), r.p99Ms(), r.p999Ms()));
+        log.info("========================================");
+
+        writeReport(spec, report);
+        return report;
+    }
+
+    private String resolveBaseUrl(WorkloadSpec spec) {
+        if (spec.targetUrl() != null && !spec.targetUrl().isBlank()) {
+            String url = spec.targetUrl();
+            return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        }
+        // local.server.port는 서버가 뜬 뒤에 설정되므로 실행 시점에 조회합니다
+        String port = environment.getProperty("local.server.port",
+                environment.getProperty("server.port", "8080"));
+        return "http://localhost:" + port;
+    }
+
+    private Operation pickOperation(WorkloadSpec spec, SplittableRandom random) {
+        double total = spec.readRatio() + spec.writeRatio() + spec.viewRatio();
+        double r = random.nextDouble() * total;
+        if (r < spec.readRatio()) {
+            return Operation.READ;
+        }
+        if (r < spec.readRatio() + spec.writeRatio()) {
+            return Operation.WRITE;
+        }
+        return Operation.VIEW;
+    }
+
+    private boolean send(HttpClient client, String baseUrl, Operation op, long id, long seq) {
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + "/api/posts/" + id + (op == Operation.VIEW ? "/view" : "")))
+                    .timeout(Duration.ofSeconds(30));
+
+            HttpRequest request = switch (op) {
+                case READ -> builder.GET().build();
+                case WRITE -> builder
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(new PostRequest(
+                                "워크로드 수정 #" + seq,
+                                "워크로드 드라이버가 수정한 게시글입니다. seq=" + seq,
+                                "workload",
+                                CATEGORIES.get((int) (id % CATEGORIES.size()))
+                        ))))
+                        .build();
+                case VIEW -> builder.POST(HttpRequest.BodyPublishers.noBody()).build();
+            };
+
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.debug("워크로드 요청 실패: {} id={}", op.endpoint, id, e);
+            return false;
+        }
+    }
+
+    /**
+     * 대상 서버의 /api/cache 통계에서 캐시별 (hitCount, missCount) 수집
+     */
+    private Map<String, long[]> snapshotCacheStats(HttpClient client, String baseUrl) {
+        Map<String, long[]> result = new LinkedHashMap<>();
+        try {
+            JsonNode caches = getJson(client, baseUrl + "/api/cache").path("caches");
+            List<String> names = new ArrayList<>();
+            caches.fieldNames().forEachRemaining(names::add);
+
+            for (String name : names) {
+                Map<String, Object> stats = objectMapper.convertValue(
+                        getJson(client, baseUrl + "/api/cache/" + name + "/stats"),
+                        new TypeReference<Map<String, Object>>() {
+                        });
+                result.put(name, new long[]{
+                        ((Number) stats.getOrDefault("hitCount", 0)).longValue(),
+                        ((Number) stats.getOrDefault("missCount", 0)).longValue()
+                });
+            }
+        } catch (Exception e) {
+            log.warn("캐시 통계 수집 실패: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    private JsonNode getJson(HttpClient client, String url) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body());
+    }
+
+    private void writeReport(WorkloadSpec spec, WorkloadReport report) {
+        if (spec.outputFile() == null || spec.outputFile().isBlank()) {
+            return;
+        }
+        try {
+            Path path = Path.of(spec.outputFile());
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+            log.info("워크로드 결과 저장: {}", path.toAbsolutePath());
+        } catch (IOException e) {
+            log.error("워크로드 결과 저장 실패: {}", spec.outputFile(), e);
+        }
+    }
+}
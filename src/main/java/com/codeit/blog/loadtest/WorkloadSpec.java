@@ -0,0 +1,75 @@
+package com.codeit.blog.loadtest;
+
+/**
+ * 부하 테스트 워크로드 명세 (Record 사용)
+ *
+ * 값이 비어 있으면 compact constructor에서 기본값을 채웁니다.
+ * JSON 요청 본문이나 blog.workload.* 프로퍼티 어디서든 바인딩할 수 있습니다.
+ */
+public record WorkloadSpec(
+        // 대상 서버 주소 (비어 있으면 현재 실행 중인 서버에 요청)
+        String targetUrl,
+
+        // 키 분포: UNIFORM, ZIPF, HOTSET_SHIFT
+        KeyDistributionType distribution,
+        // 게시글 id 범위 (1 ~ keySpace)
+        Long keySpace,
+        // Zipf 분포의 기울기 (1에 가까울수록 소수 키에 집중)
+        Double zipfSkew,
+        // 핫셋 크기와 핫셋으로 가는 트래픽 비율, 핫셋 이동 주기(초)
+        Integer hotSetSize,
+        Double hotSetTrafficRatio,
+        Integer hotSetShiftSeconds,
+
+        // 요청 구성 비율 (합이 1이 아니어도 비율로 정규화)
+        Double readRatio,
+        Double writeRatio,
+        Double viewRatio,
+
+        // 동시 실행 워커 수와 목표 처리량(초당 요청 수, 0이면 제한 없음)
+        Integer concurrency,
+        Integer targetRate,
+        // 실행 시간(초)
+        Integer durationSeconds,
+
+        // 난수 시드 (같은 시드면 같은 키 순서)
+        Long seed,
+        // 결과 JSON 저장 경로 (비어 있으면 저장하지 않음)
+        String outputFile
+) {
+
+    public enum KeyDistributionType {
+        UNIFORM, ZIPF, HOTSET_SHIFT
+    }
+
+    public WorkloadSpec {
+        if (distribution == null) distribution = KeyDistributionType.ZIPF;
+        if (keySpace == null || keySpace < 1) keySpace = 10_000L;
+        if (zipfSkew == null) zipfSkew = 0.99;
+        if (hotSetSize == null || hotSetSize < 1) hotSetSize = 100;
+        if (hotSetTrafficRatio == null) hotSetTrafficRatio = 0.9;
+        if (hotSetShiftSeconds == null || hotSetShiftSeconds < 1) hotSetShiftSeconds = 10;
+        if (readRatio == null) readRatio = 0.9;
+        if (writeRatio == null) writeRatio = 0.05;
+        if (viewRatio == null) viewRatio = 0.05;
+        if (concurrency == null || concurrency < 1) concurrency = 16;
+        if (targetRate == null || targetRate < 0) targetRate = 0;
+        if (durationSeconds == null || durationSeconds < 1) durationSeconds = 30;
+        if (seed == null) seed = System.nanoTime();
+
+        if (readRatio < 0 || writeRatio < 0 || viewRatio < 0 || readRatio + writeRatio + viewRatio <= 0) {
+            throw new IllegalArgumentException("요청 비율은 0 이상이어야 하고 합이 0보다 커야 합니다");
+        }
+        if (hotSetTrafficRatio < 0 || hotSetTrafficRatio > 1) {
+            throw new IllegalArgumentException("hotSetTrafficRatio는 0과 1 사이여야 합니다: " + hotSetTrafficRatio);
+        }
+    }
+
+    /**
+     * 모든 값을 기본값으로 채운 명세
+     */
+    public static WorkloadSpec defaults() {
+        return new WorkloadSpec(null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.codeit.blog.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 직후 워크로드를 한 번 실행
+ *
+ * 예) ./gradlew bootRun --args='--spring.profiles.active=h2 --blog.workload.run-on-startup=true
+ *       --blog.workload.distribution=HOTSET_SHIFT --blog.workload.output-file=build/workload/h2.json'
+ *
+ * DataInitializer 등 ApplicationRunner가 모두 끝난 뒤(ApplicationReadyEvent)에 시작합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "blog.workload.run-on-startup", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class WorkloadStartupRunner {
+
+    private final WorkloadRunner workloadRunner;
+    private final Environment environment;
+    private final ApplicationContext applicationContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() throws InterruptedException {
+        WorkloadSpec spec = Binder.get(environment)
+                .bind("blog.workload", WorkloadSpec.class)
+                .orElseGet(WorkloadSpec::defaults);
+
+        workloadRunner.run(spec);
+
+        if (environment.getProperty("blog.workload.exit-after-run", Boolean.class, false)) {
+            log.info("워크로드 완료 후 애플리케이션을 종료합니다");
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+}
@@ -7,7 +7,6 @@ import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
@@ -29,10 +28,8 @@ public class CacheHealthCheckIndicator implements HealthIndicator {
             for (String cacheName : cacheManager.getCacheNames()) {
                 Cache cache = cacheManager.getCache(cacheName);
 
-                if (cache instanceof CaffeineCache caffeineCache) {
-                    com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
-                            caffeineCache.getNativeCache();
-
+                if (cache != null
+                        && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
                     CacheStats stats = nativeCache.stats();
                     double hitRate = stats.hitRate();
                     long size = nativeCache.estimatedSize();
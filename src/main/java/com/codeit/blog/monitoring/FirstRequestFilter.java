@@ -0,0 +1,41 @@
+package com.codeit.blog.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 첫 응답 완료 시각을 StartupTimingReporter에 알립니다. (time-to-first-request)
+ *
+ * 한 번 기록한 뒤에는 volatile 읽기 하나로 통과합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class FirstRequestFilter extends OncePerRequestFilter {
+
+    private final StartupTimingReporter startupTimingReporter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return startupTimingReporter.isFirstRequestRecorded();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            startupTimingReporter.firstRequestCompleted(request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+}
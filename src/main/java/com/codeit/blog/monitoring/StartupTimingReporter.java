@@ -0,0 +1,163 @@
+package com.codeit.blog.monitoring;
+
+import com.codeit.blog.config.StartupProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 단계별 시간 기록 (JVM 시작 기준 경과 시간)
+ *
+ * - jvm: JVM 시작 → SpringApplication.run() 진입 (클래스 로딩, CDS 효과가 여기서 보입니다)
+ * - web-server: 내장 Tomcat이 포트를 연 시점
+ * - context-refreshed: 빈 생성 완료 (AOT 효과가 여기서 보입니다)
+ * - started / ready: ApplicationRunner 전 / 후 (DataInitializer를 미루면 둘 사이가 줄어듭니다)
+ * - first-request: 첫 응답 완료 (FirstRequestFilter)
+ *
+ * ready 시점에 한 번 로그로 남기고 blog.startup.phase{phase} 게이지로도 노출합니다.
+ * BufferingApplicationStartup으로 실행했으면 가장 오래 걸린 빈 생성도 같이 출력합니다. (/actuator/startup 에서 전체 확인)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StartupTimingReporter {
+
+    private final ConfigurableApplicationContext applicationContext;
+    private final StartupProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private volatile long firstRequestMillis = -1;
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        if (event.getApplicationContext() == applicationContext) {
+            record("web-server", event.getTimestamp());
+        }
+    }
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() == applicationContext) {
+            record("context-refreshed", event.getTimestamp());
+        }
+    }
+
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        if (event.getApplicationContext() == applicationContext) {
+            // run() 진입 시각은 이벤트로 받을 수 없으므로 started까지 걸린 시간으로 역산
+            if (event.getTimeTaken() != null) {
+                record("jvm", event.getTimestamp() - event.getTimeTaken().toMillis());
+            }
+            record("started", event.getTimestamp());
+        }
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        record("ready", event.getTimestamp());
+
+        Map<String, Long> snapshot;
+        synchronized (phases) {
+            snapshot = new LinkedHashMap<>(phases);
+        }
+        StringBuilder summary = new StringBuilder();
+        snapshot.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(phase -> {
+                    summary.append(String.format("%n  - %-18s +%,dms", phase.getKey(), phase.getValue()));
+                    registerGauge(phase.getKey());
+                });
+        log.info("===== 시작 단계별 시간 (JVM 시작 기준) ====={}", summary);
+
+        reportSlowBeans();
+    }
+
+    /**
+     * 첫 응답이 끝났을 때 한 번만 호출됩니다. (FirstRequestFilter)
+     */
+    void firstRequestCompleted(String request) {
+        synchronized (phases) {
+            if (firstRequestMillis >= 0) {
+                return;
+            }
+            firstRequestMillis = System.currentTimeMillis() - jvmStartMillis;
+            phases.put("first-request", firstRequestMillis);
+        }
+        registerGauge("first-request");
+        log.info("첫 요청 처리 완료: JVM 시작 후 {}ms ({})", firstRequestMillis, request);
+    }
+
+    boolean isFirstRequestRecorded() {
+        return firstRequestMillis >= 0;
+    }
+
+    private void record(String phase, long timestamp) {
+        synchronized (phases) {
+            phases.putIfAbsent(phase, timestamp - jvmStartMillis);
+        }
+    }
+
+    private void registerGauge(String phase) {
+        TimeGauge.builder("blog.startup.phase", phases, TimeUnit.MILLISECONDS, p -> phaseMillis(phase))
+                .tag("phase", phase)
+                .description("JVM 시작부터 각 시작 단계까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    private double phaseMillis(String phase) {
+        synchronized (phases) {
+            Long millis = phases.get(phase);
+            return millis != null ? millis : Double.NaN;
+        }
+    }
+
+    /**
+     * 빈 생성 단계 중 오래 걸린 것 (하위 빈 생성 시간 포함)
+     */
+    private void reportSlowBeans() {
+        int limit = properties.getSlowBeanReportCount();
+        if (limit <= 0 || !(applicationContext.getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        StringBuilder slowBeans = new StringBuilder();
+        startup.getBufferedTimeline().getEvents().stream()
+                .filter(event -> "spring.beans.instantiate".equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(limit)
+                .forEach(event -> slowBeans.append(String.format("%n  - %-45s %,dms",
+                        beanName(event.getStartupStep()), event.getDuration().toMillis())));
+        log.info("오래 걸린 빈 생성 상위 {}개:{}", limit, slowBeans);
+    }
+
+    private String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "(unknown)";
+    }
+}
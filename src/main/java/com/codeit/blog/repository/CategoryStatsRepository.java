@@ -0,0 +1,49 @@
+package com.codeit.blog.repository;
+
+import com.codeit.blog.entity.CategoryStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, String> {
+
+    /**
+     * 증감을 DB에서 바로 더함 (읽고 쓰는 사이에 다른 트랜잭션 변경을 덮어쓰지 않도록)
+     */
+    @Modifying
+    @Query("UPDATE CategoryStats s SET s.postCount = s.postCount + :posts, s.totalViews = s.totalViews + :views, "
+            + "s.totalLikes = s.totalLikes + :likes, s.updatedAt = :now WHERE s.category = :category")
+    int addDelta(@Param("category") String category, @Param("posts") long posts, @Param("views") long views,
+                 @Param("likes") long likes, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE CategoryStats s SET s.maxCreatedAt = :createdAt "
+            + "WHERE s.category = :category AND (s.maxCreatedAt IS NULL OR s.maxCreatedAt < :createdAt)")
+    int raiseMaxCreatedAt(@Param("category") String category, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE CategoryStats s SET s.maxCreatedAt = :createdAt WHERE s.category = :category")
+    int setMaxCreatedAt(@Param("category") String category, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 처음 보는 카테고리의 빈 행 생성 (이미 있으면 아무것도 안 함)
+     * 같은 카테고리를 동시에 만드는 트랜잭션은 먼저 넣은 쪽이 끝날 때까지 기다렸다가 넘어가므로 실패하지 않습니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO category_stats (category, post_count, total_views, total_likes, updated_at) "
+            + "VALUES (:category, 0, 0, 0, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("category") String category, @Param("now") LocalDateTime now);
+
+    /**
+     * 대조 중에는 이 카테고리의 증감이 끼어들지 않도록 행을 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CategoryStats s WHERE s.category = :category")
+    Optional<CategoryStats> findByIdForUpdate(@Param("category") String category);
+}
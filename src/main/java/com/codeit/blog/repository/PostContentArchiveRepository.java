@@ -0,0 +1,107 @@
+package com.codeit.blog.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 게시글 본문 보관 테이블 (posts_content_archive, PostgreSQL)
+ *
+ * 본문은 gzip으로 압축해 bytea로 저장하고, 이미 압축했으므로 TOAST 압축은 끕니다. (STORAGE EXTERNAL)
+ * posts 쪽 content는 NULL로 바뀌고, 로드 시 PostContentArchiveListener가 여기서 읽어 채웁니다.
+ */
+@Repository
+public class PostContentArchiveRepository {
+
+    public static final String TABLE = "posts_content_archive";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostContentArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record ArchivedContent(Long id, LocalDateTime createdAt, String content) {
+    }
+
+    public void createTableIfMissing() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+                + "id BIGINT PRIMARY KEY, "
+                + "created_at TIMESTAMP(6) NOT NULL, "
+                + "content_gzip BYTEA NOT NULL, "
+                + "original_bytes INTEGER NOT NULL, "
+                + "archived_at TIMESTAMP(6) NOT NULL DEFAULT now())");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN content_gzip SET STORAGE EXTERNAL");
+    }
+
+    public Optional<String> findContent(Long id) {
+        List<byte[]> rows = jdbcTemplate.query("SELECT content_gzip FROM " + TABLE + " WHERE id = ?",
+                (rs, rowNum) -> rs.getBytes(1), id);
+        return rows.isEmpty() ? Optional.empty() : Optional.of(decompress(rows.get(0)));
+    }
+
+    /**
+     * @return 압축 후 바이트 합계
+     */
+    public long saveAll(List<ArchivedContent> contents) {
+        long[] compressedBytes = new long[1];
+        jdbcTemplate.batchUpdate("INSERT INTO " + TABLE + " (id, created_at, content_gzip, original_bytes) VALUES (?, ?, ?, ?) "
+                        + "ON CONFLICT (id) DO UPDATE SET content_gzip = EXCLUDED.content_gzip, "
+                        + "original_bytes = EXCLUDED.original_bytes, archived_at = now()",
+                contents, contents.size(), (ps, content) -> {
+                    byte[] original = content.content().getBytes(StandardCharsets.UTF_8);
+                    byte[] compressed = compress(original);
+                    compressedBytes[0] += compressed.length;
+                    ps.setLong(1, content.id());
+                    ps.setTimestamp(2, Timestamp.valueOf(content.createdAt()));
+                    ps.setBytes(3, compressed);
+                    ps.setInt(4, original.length);
+                });
+        return compressedBytes[0];
+    }
+
+    /**
+     * 더 이상 필요 없는 보관 본문 삭제
+     * - 게시글이 삭제된 경우
+     * - 수정되어 posts.content가 다시 채워진 경우
+     * (id와 created_at을 같이 비교하므로 posts 파티션 하나만 확인합니다)
+     */
+    public int deleteStale() {
+        return jdbcTemplate.update("DELETE FROM " + TABLE + " a WHERE NOT EXISTS ("
+                + "SELECT 1 FROM posts p WHERE p.id = a.id AND p.created_at = a.created_at AND p.content IS NULL)");
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class);
+        return count != null ? count : 0;
+    }
+
+    static byte[] compress(byte[] original) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, original.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(original);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static String decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
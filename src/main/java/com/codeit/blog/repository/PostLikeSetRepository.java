@@ -0,0 +1,7 @@
+package com.codeit.blog.repository;
+
+import com.codeit.blog.entity.PostLikeSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostLikeSetRepository extends JpaRepository<PostLikeSet, Long> {
+}
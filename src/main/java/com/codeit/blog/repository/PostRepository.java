@@ -1,35 +1,113 @@
 package com.codeit.blog.repository;
 
 import com.codeit.blog.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
      * 카테고리별 게시글 조회
+     * 쿼리 캐시에는 id 목록만 남고, 엔티티는 2차 캐시에서 채웁니다
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Post> findByCategory(String category);
 
     /**
      * 조회수 기준 인기 게시글 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Post> findTop10ByOrderByViewCountDesc();
 
+    /**
+     * createdAt 조건이 있어 posts가 월별 파티션이면 since 이전 파티션은 읽지 않습니다
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Post> findByCategoryAndCreatedAtGreaterThanEqual(String category, LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Post> findTop10ByCreatedAtGreaterThanEqualOrderByViewCountDesc(LocalDateTime since);
+
+    /**
+     * 최근 hotWindow 안의 카테고리별 게시글 (hotWindow가 null이면 findByCategory)
+     * 기준 시각을 날짜 단위로 맞춰서 하루 동안은 쿼리 캐시 키가 같습니다
+     */
+    default List<Post> findHotByCategory(String category, Period hotWindow) {
+        return hotWindow == null
+                ? findByCategory(category)
+                : findByCategoryAndCreatedAtGreaterThanEqual(category, LocalDate.now().minus(hotWindow).atStartOfDay());
+    }
+
+    /**
+     * 최근 hotWindow 안의 인기 게시글 (hotWindow가 null이면 findTop10ByOrderByViewCountDesc)
+     */
+    default List<Post> findHotPopular(Period hotWindow) {
+        return hotWindow == null
+                ? findTop10ByOrderByViewCountDesc()
+                : findTop10ByCreatedAtGreaterThanEqualOrderByViewCountDesc(LocalDate.now().minus(hotWindow).atStartOfDay());
+    }
+
     /**
      * 좋아요 수 기준 인기 게시글 조회
      */
     List<Post> findTop10ByOrderByLikeCountDesc();
 
+    /**
+     * 게시글이 하나라도 있는지 (count()와 달리 첫 행에서 멈춤)
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM posts)", nativeQuery = true)
+    boolean existsAny();
+
     /**
      * 카테고리별 게시글 수 조회
      */
     @Query("SELECT COUNT(p) FROM Post p WHERE p.category = :category")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     long countByCategory(@Param("category") String category);
 
+    /**
+     * 카테고리 최신 작성 시각 (가장 최근 게시글이 삭제/이동됐을 때 집계 보정용)
+     */
+    @Query("SELECT MAX(p.createdAt) FROM Post p WHERE p.category = :category")
+    LocalDateTime findMaxCreatedAtByCategory(@Param("category") String category);
+
+    /**
+     * 카테고리별 집계 (CategoryStatsService 대조용 전체 스캔)
+     */
+    @Query("SELECT p.category AS category, COUNT(p) AS postCount, SUM(p.viewCount) AS totalViews, "
+            + "SUM(p.likeCount) AS totalLikes, MAX(p.createdAt) AS maxCreatedAt FROM Post p GROUP BY p.category")
+    List<CategoryAggregate> aggregateByCategory();
+
+    /**
+     * 카테고리 하나의 집계 (대조에서 집계 행을 잠근 뒤 다시 확인할 때, 게시글이 없으면 empty)
+     */
+    @Query("SELECT p.category AS category, COUNT(p) AS postCount, SUM(p.viewCount) AS totalViews, "
+            + "SUM(p.likeCount) AS totalLikes, MAX(p.createdAt) AS maxCreatedAt FROM Post p "
+            + "WHERE p.category = :category GROUP BY p.category")
+    Optional<CategoryAggregate> aggregateCategory(@Param("category") String category);
+
+    interface CategoryAggregate {
+        String getCategory();
+
+        Long getPostCount();
+
+        Long getTotalViews();
+
+        Long getTotalLikes();
+
+        LocalDateTime getMaxCreatedAt();
+    }
+
     /**
      * 제목 검색
      */
@@ -0,0 +1,29 @@
+package com.codeit.blog.repository;
+
+import com.codeit.blog.entity.PostViewSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PostViewSketchRepository extends JpaRepository<PostViewSketch, PostViewSketch.Key> {
+
+    /**
+     * 저장할 게시글들의 행을 잠그고 조회 (여러 노드가 같은 행을 합칠 때 덮어쓰지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostViewSketch s WHERE s.postId IN :postIds AND s.day IN :days")
+    List<PostViewSketch> findForUpdate(@Param("postIds") List<Long> postIds, @Param("days") List<LocalDate> days);
+
+    /**
+     * 기간별 고유 조회자 계산용 일자 sketch
+     */
+    @Query("SELECT s FROM PostViewSketch s WHERE s.postId = :postId AND s.day BETWEEN :from AND :to")
+    List<PostViewSketch> findDaily(@Param("postId") Long postId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    void deleteByPostId(Long postId);
+}
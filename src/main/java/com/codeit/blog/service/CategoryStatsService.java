@@ -0,0 +1,319 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.entity.CategoryStats;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.repository.CategoryStatsRepository;
+import com.codeit.blog.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 집계 관리
+ *
+ * 변경 메서드(on*)는 게시글을 바꾸는 트랜잭션 안에서만 호출할 수 있고(MANDATORY), 그 트랜잭션과 함께 커밋/롤백됩니다.
+ * 한 트랜잭션에서 여러 카테고리 행을 바꿀 때는 카테고리 이름 순서로 잠가서 트랜잭션끼리 교착되지 않게 합니다.
+ * 조회수는 요청마다 행을 잠그지 않도록 메모리에 모았다가 flushViews()가 주기적으로 반영합니다. (UniqueViewerService와 같은 방식)
+ * 조회는 category_stats 행을 그대로 읽으므로 COUNT/SUM 쿼리가 필요 없습니다.
+ *
+ * JDBC로 직접 넣은 데이터(BulkPostSeeder)나 누락된 증감은 reconcile()이 posts 테이블 기준으로 바로잡습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryStatsService {
+
+    private final CategoryStatsRepository categoryStatsRepository;
+    private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 아직 반영하지 않은 카테고리별 조회수 (모든 변경은 ConcurrentHashMap의 merge/remove로)
+    private final Map<String, Long> pendingViews = new ConcurrentHashMap<>();
+
+    // flushViews와 reconcile이 겹치지 않도록 (반영 중인 조회수를 대조가 pendingViews에서도 posts에서도 못 보고 덮어쓰지 않게)
+    private final Object viewFlushLock = new Object();
+
+    private final Map<String, Counter> corrections = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("blog.category.stats.pending-views", pendingViews, Map::size)
+                .description("조회수 반영을 기다리는 카테고리 수")
+                .register(meterRegistry);
+    }
+
+    // ===== 조회 =====
+
+    @Transactional(readOnly = true)
+    public List<CategoryStats> findAll() {
+        return categoryStatsRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CategoryStats> find(String category) {
+        return categoryStatsRepository.findById(category);
+    }
+
+    // ===== 증감 (게시글 변경 트랜잭션 안에서) =====
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Post post) {
+        addDelta(post.getCategory(), 1, post.getViewCount(), post.getLikeCount());
+        categoryStatsRepository.raiseMaxCreatedAt(post.getCategory(), post.getCreatedAt());
+    }
+
+    /**
+     * 여러 게시글 생성 (대량 등록), 카테고리별로 모아서 한 번씩 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Collection<Post> posts) {
+        Map<String, List<Post>> byCategory = posts.stream()
+                .collect(Collectors.groupingBy(Post::getCategory, TreeMap::new, Collectors.toList()));
+        byCategory.forEach((category, group) -> {
+            addDelta(category, group.size(),
+                    group.stream().mapToLong(Post::getViewCount).sum(),
+                    group.stream().mapToLong(Post::getLikeCount).sum());
+            group.stream().map(Post::getCreatedAt).max(LocalDateTime::compareTo)
+                    .ifPresent(max -> categoryStatsRepository.raiseMaxCreatedAt(category, max));
+        });
+    }
+
+    /**
+     * 게시글 삭제 (삭제 직전의 게시글 상태로 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(Post post) {
+        addDelta(post.getCategory(), -1, -post.getViewCount(), -post.getLikeCount());
+        refreshMaxCreatedAt(post.getCategory(), post.getCreatedAt());
+    }
+
+    /**
+     * 카테고리 변경 (post는 이미 새 카테고리로 바뀐 상태)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCategoryChanged(Post post, String previousCategory) {
+        if (previousCategory.equals(post.getCategory())) {
+            return;
+        }
+        // 두 행을 카테고리 이름 순서로 잠금
+        if (previousCategory.compareTo(post.getCategory()) < 0) {
+            addDelta(previousCategory, -1, -post.getViewCount(), -post.getLikeCount());
+            addDelta(post.getCategory(), 1, post.getViewCount(), post.getLikeCount());
+        } else {
+            addDelta(post.getCategory(), 1, post.getViewCount(), post.getLikeCount());
+            addDelta(previousCategory, -1, -post.getViewCount(), -post.getLikeCount());
+        }
+        categoryStatsRepository.raiseMaxCreatedAt(post.getCategory(), post.getCreatedAt());
+        refreshMaxCreatedAt(previousCategory, post.getCreatedAt());
+    }
+
+    /**
+     * 조회수는 메모리에만 더하고 flushViews()에서 반영 (트랜잭션 밖에서도 호출 가능)
+     * 트랜잭션 안이면 커밋 후에 더합니다. (pendingViews에는 posts에 커밋된 조회수만 있도록, reconcile()이 그 값을 빼서 비교)
+     */
+    public void onViewed(String category, long views) {
+        if (views == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingViews.merge(category, views, Long::sum);
+                }
+            });
+        } else {
+            pendingViews.merge(category, views, Long::sum);
+        }
+    }
+
+    /**
+     * 좋아요 증감 여러 건 (카테고리별로 합쳐서 이름 순서로 반영)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onLikesChanged(Map<String, Long> likesByCategory) {
+        new TreeMap<>(likesByCategory).forEach((category, likes) -> {
+            if (likes != 0) {
+                addDelta(category, 0, 0, likes);
+            }
+        });
+    }
+
+    private void addDelta(String category, long posts, long views, long likes) {
+        if (categoryStatsRepository.addDelta(category, posts, views, likes, LocalDateTime.now()) == 0) {
+            categoryStatsRepository.insertIfAbsent(category, LocalDateTime.now());
+            categoryStatsRepository.addDelta(category, posts, views, likes, LocalDateTime.now());
+        }
+    }
+
+    // ===== 조회수 반영 =====
+
+    /**
+     * 모인 조회수를 한 트랜잭션에서 카테고리 이름 순서로 반영, 실패하면 다음 주기에 다시
+     */
+    @Scheduled(fixedDelayString = "${blog.category-stats.view-flush-interval:5s}")
+    public void flushViews() {
+        synchronized (viewFlushLock) {
+            applyPendingViews();
+        }
+    }
+
+    private void applyPendingViews() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+        Map<String, Long> deltas = new TreeMap<>();
+        for (String category : new TreeSet<>(pendingViews.keySet())) {
+            Long views = pendingViews.remove(category);
+            if (views != null) {
+                deltas.put(category, views);
+            }
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    deltas.forEach((category, views) -> addDelta(category, 0, views, 0)));
+        } catch (RuntimeException e) {
+            log.warn("카테고리 조회수 반영 실패, 다음 주기에 재시도: {}개 카테고리, {}", deltas.size(), e.getMessage());
+            deltas.forEach((category, views) -> pendingViews.merge(category, views, Long::sum));
+        }
+    }
+
+    /**
+     * 최신 게시글이 빠졌을 수 있으면 다시 계산 (빠진 게시글이 최신이 아니었다면 그대로)
+     */
+    private void refreshMaxCreatedAt(String category, LocalDateTime removedCreatedAt) {
+        Optional<CategoryStats> stats = categoryStatsRepository.findById(category);
+        if (stats.isEmpty() || removedCreatedAt == null) {
+            return;
+        }
+        LocalDateTime current = stats.get().getMaxCreatedAt();
+        if (current == null || !removedCreatedAt.isBefore(current)) {
+            categoryStatsRepository.setMaxCreatedAt(category, postRepository.findMaxCreatedAtByCategory(category));
+        }
+    }
+
+    // ===== 대조 =====
+
+    /**
+     * posts 테이블 집계와 비교해서 어긋난 카테고리를 덮어씀
+     *
+     * 1. 잠금 없이 전체 집계를 읽어 어긋나 보이는 카테고리를 고름 (스캔 동안 증감은 막히지 않음)
+     * 2. 고른 카테고리마다 짧은 트랜잭션에서 그 행만 잠그고 그 카테고리를 다시 집계해서 덮어씀
+     *    행을 먼저 잠그므로, 그 사이 커밋되지 않은 게시글 변경은 대조가 끝난 뒤 증감으로 반영됩니다.
+     * 조회수는 posts에 먼저 커밋되고 집계 행에는 flushViews()로 나중에 더해지므로,
+     * 비교할 때 posts 조회수 합에서 아직 반영하지 않은 조회수(pendingViews)를 뺍니다.
+     * 대조하는 동안에는 flushViews()가 돌지 않습니다.
+     *
+     * @return 바로잡은 카테고리 수
+     */
+    @Scheduled(fixedDelayString = "${blog.category-stats.reconcile-interval:10m}")
+    public int reconcile() {
+        synchronized (viewFlushLock) {
+            return reconcileAll();
+        }
+    }
+
+    private int reconcileAll() {
+        // 모아둔 조회수를 먼저 반영 (이후에 들어온 조회수는 pendingViews를 빼서 비교)
+        applyPendingViews();
+
+        Map<String, CategoryStats> rows = categoryStatsRepository.findAll().stream()
+                .collect(Collectors.toMap(CategoryStats::getCategory, Function.identity()));
+        Map<String, PostRepository.CategoryAggregate> actual = postRepository.aggregateByCategory().stream()
+                .collect(Collectors.toMap(PostRepository.CategoryAggregate::getCategory, Function.identity()));
+
+        TreeSet<String> suspects = new TreeSet<>();
+        actual.forEach((category, aggregate) -> {
+            CategoryStats row = rows.get(category);
+            if (row == null || !matches(row, aggregate)) {
+                suspects.add(category);
+            }
+        });
+        // 게시글이 모두 사라진 카테고리
+        rows.forEach((category, row) -> {
+            if (!actual.containsKey(category) && !row.matches(0, 0, 0, null)) {
+                suspects.add(category);
+            }
+        });
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int corrected = 0;
+        for (String category : suspects) {
+            if (Boolean.TRUE.equals(tx.execute(status -> reconcile(category)))) {
+                countCorrection(category);
+                corrected++;
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("카테고리 집계 대조 완료: {}개 카테고리 보정", corrected);
+        }
+        return corrected;
+    }
+
+    /**
+     * 카테고리 하나를 잠그고 다시 집계해서 덮어씀 (트랜잭션 안에서)
+     *
+     * @return 실제로 바꿨으면 true
+     */
+    private boolean reconcile(String category) {
+        categoryStatsRepository.insertIfAbsent(category, LocalDateTime.now());
+        CategoryStats row = categoryStatsRepository.findByIdForUpdate(category).orElseThrow();
+        // 커밋된 뒤 아직 집계 행에 더하지 않은 조회수, posts 합에는 들어 있으므로 빼고 비교 (집계 직전에 읽음)
+        long pending = pendingViews.getOrDefault(category, 0L);
+        Optional<PostRepository.CategoryAggregate> aggregate = postRepository.aggregateCategory(category);
+
+        long postCount = aggregate.map(PostRepository.CategoryAggregate::getPostCount).orElse(0L);
+        long totalViews = aggregate.map(PostRepository.CategoryAggregate::getTotalViews).orElse(0L) - pending;
+        long totalLikes = aggregate.map(PostRepository.CategoryAggregate::getTotalLikes).orElse(0L);
+        LocalDateTime maxCreatedAt = aggregate.map(PostRepository.CategoryAggregate::getMaxCreatedAt).orElse(null);
+
+        if (row.matches(postCount, totalViews, totalLikes, maxCreatedAt)) {
+            return false;
+        }
+        log.warn("카테고리 집계 보정: {} (posts {} → {}, views {} → {}, likes {} → {})",
+                category, row.getPostCount(), postCount, row.getTotalViews(), totalViews,
+                row.getTotalLikes(), totalLikes);
+        row.reconcile(postCount, totalViews, totalLikes, maxCreatedAt);
+        return true;
+    }
+
+    private boolean matches(CategoryStats row, PostRepository.CategoryAggregate aggregate) {
+        return row.matches(aggregate.getPostCount(),
+                (aggregate.getTotalViews() != null ? aggregate.getTotalViews() : 0)
+                        - pendingViews.getOrDefault(aggregate.getCategory(), 0L),
+                aggregate.getTotalLikes() != null ? aggregate.getTotalLikes() : 0,
+                aggregate.getMaxCreatedAt());
+    }
+
+    private void countCorrection(String category) {
+        corrections.computeIfAbsent(category, key -> Counter.builder("blog.category.stats.corrections")
+                        .tag("category", key)
+                        .description("대조에서 바로잡은 카테고리 집계 수")
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,266 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.FeedProperties;
+import com.codeit.blog.dto.PostResponse;
+import com.codeit.blog.entity.Post;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 홈 피드 (인기 게시글 + 카테고리별 첫 페이지를 한 번에)
+ *
+ * 조각(popular, 카테고리 5개)은 기존 @Cacheable 메서드를 feed 전용 풀에서 병렬로 호출하고,
+ * 합친 결과는 따로 캐시합니다. 합친 결과에는 어떤 조각 캐시 값으로 만들었는지(참조)를 같이 저장해두고,
+ * 꺼낼 때 popularPosts / postsByCategory 캐시의 현재 값과 하나라도 다르면(만료, 삭제, @CachePut, 소프트 초기화) 다시 만듭니다.
+ *
+ * timeBudget 안에 끝나지 않은 조각은 빼고 partial로 응답하며, partial 결과는 캐시하지 않습니다.
+ * 늦은 조각도 취소하지 않으므로 다음 요청에서는 조각 캐시에 적중합니다.
+ *
+ * 메트릭
+ * - blog.feed.requests{result=hit|built|partial|joined|invalidated}
+ * - blog.feed.parts{part, result=ok|timeout|error}
+ */
+@Service
+@Slf4j
+public class FeedService {
+
+    public static final String POPULAR = "popular";
+    private static final String POPULAR_CACHE = "popularPosts";
+    private static final String CATEGORY_CACHE = "postsByCategory";
+    private static final String HOME = "home";
+
+    private final PostService postService;
+    private final CacheManager cacheManager;
+    private final FeedProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor feedExecutor;
+    private final Cache<String, ComposedFeed> composedFeeds;
+    // 동시에 비어 있는 피드를 요청하면 하나만 만들고 나머지는 기다림
+    private final AtomicReference<CompletableFuture<ComposedFeed>> building = new AtomicReference<>();
+    private final Map<String, Counter> requestCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> partCounters = new ConcurrentHashMap<>();
+
+    public FeedService(PostService postService, CacheManager cacheManager,
+                       FeedProperties properties, MeterRegistry meterRegistry) {
+        this.postService = postService;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.feedExecutor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "feed-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy() // 큐가 가득 차면 해당 조각만 빠짐
+        );
+        this.feedExecutor.allowCoreThreadTimeOut(true);
+        ExecutorServiceMetrics.monitor(meterRegistry, feedExecutor, "feed");
+
+        this.composedFeeds = Caffeine.newBuilder()
+                .maximumSize(16)
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        feedExecutor.shutdown();
+    }
+
+    /**
+     * @return popular, categories, missing, partial, generatedAt, cached
+     */
+    public Map<String, Object> homeFeed() {
+        ComposedFeed cached = composedFeeds.getIfPresent(HOME);
+        if (cached != null) {
+            if (partsUnchanged(cached)) {
+                count("hit");
+                return cached.toResponse(true);
+            }
+            composedFeeds.asMap().remove(HOME, cached);
+            count("invalidated");
+        }
+
+        CompletableFuture<ComposedFeed> mine = new CompletableFuture<>();
+        CompletableFuture<ComposedFeed> inProgress = building.compareAndExchange(null, mine);
+        if (inProgress != null) {
+            count("joined");
+            return inProgress.join().toResponse(false);
+        }
+        try {
+            ComposedFeed feed = compose();
+            if (feed.missing().isEmpty()) {
+                composedFeeds.put(HOME, feed);
+                count("built");
+            } else {
+                count("partial");
+            }
+            mine.complete(feed);
+            return feed.toResponse(false);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.compareAndSet(mine, null);
+        }
+    }
+
+    /**
+     * 합친 결과만 버림 (조각 캐시는 그대로)
+     */
+    public void invalidate() {
+        composedFeeds.invalidateAll();
+    }
+
+    private ComposedFeed compose() {
+        long deadline = System.nanoTime() + properties.getTimeBudget().toNanos();
+
+        List<Part> parts = new ArrayList<>();
+        parts.add(new Part(POPULAR, POPULAR_CACHE, SimpleKey.EMPTY, postService::findPopularPosts));
+        for (String category : properties.getCategories()) {
+            parts.add(new Part(category, CATEGORY_CACHE, category, () -> postService.findByCategory(category)));
+        }
+
+        Map<Part, CompletableFuture<List<Post>>> futures = new LinkedHashMap<>();
+        for (Part part : parts) {
+            futures.put(part, submit(part));
+        }
+
+        List<PostResponse> popular = List.of();
+        Map<String, List<PostResponse>> categories = new LinkedHashMap<>();
+        Map<Part, Object> sources = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (Map.Entry<Part, CompletableFuture<List<Post>>> entry : futures.entrySet()) {
+            Part part = entry.getKey();
+            try {
+                List<Post> posts = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sources.put(part, posts);
+                if (part.name().equals(POPULAR)) {
+                    popular = toResponses(posts, posts.size());
+                } else {
+                    categories.put(part.name(), toResponses(posts, properties.getCategorySliceSize()));
+                }
+                countPart(part, "ok");
+            } catch (TimeoutException e) {
+                missing.add(part.name());
+                countPart(part, "timeout");
+                log.debug("피드 조각 시간 초과, 빼고 응답: part={}", part.name());
+            } catch (ExecutionException e) {
+                missing.add(part.name());
+                countPart(part, "error");
+                log.warn("피드 조각 조회 실패: part={}, {}", part.name(), e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                missing.add(part.name());
+                countPart(part, "error");
+            }
+        }
+
+        return new ComposedFeed(popular, Collections.unmodifiableMap(categories), List.copyOf(missing), sources,
+                LocalDateTime.now());
+    }
+
+    private CompletableFuture<List<Post>> submit(Part part) {
+        try {
+            return CompletableFuture.supplyAsync(part.loader(), feedExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 합칠 때 쓴 조각 값이 아직 그대로 캐시에 있는지 (asMap 조회라 적중률 통계에는 잡히지 않음)
+     */
+    private boolean partsUnchanged(ComposedFeed feed) {
+        for (Map.Entry<Part, Object> source : feed.sources().entrySet()) {
+            Part part = source.getKey();
+            org.springframework.cache.Cache cache = cacheManager.getCache(part.cacheName());
+            if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+                return false;
+            }
+            if (nativeCache.asMap().get(part.cacheKey()) != source.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<PostResponse> toResponses(List<Post> posts, int limit) {
+        return posts.stream()
+                .limit(limit)
+                .map(post -> PostResponse.from(post, true))
+                .toList();
+    }
+
+    private void count(String result) {
+        requestCounters.computeIfAbsent(result, key -> Counter.builder("blog.feed.requests")
+                        .tag("result", key)
+                        .description("홈 피드 요청 수")
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private void countPart(Part part, String result) {
+        partCounters.computeIfAbsent(part.name() + " " + result, key -> Counter.builder("blog.feed.parts")
+                        .tag("part", part.name())
+                        .tag("result", result)
+                        .description("홈 피드 조각 조회 결과")
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private record Part(String name, String cacheName, Object cacheKey, Supplier<List<Post>> loader) {
+    }
+
+    private record ComposedFeed(List<PostResponse> popular,
+                                Map<String, List<PostResponse>> categories,
+                                List<String> missing,
+                                Map<Part, Object> sources,
+                                LocalDateTime generatedAt) {
+
+        Map<String, Object> toResponse(boolean cached) {
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("popular", popular);
+            response.put("categories", categories);
+            response.put("missing", missing);
+            response.put("partial", !missing.isEmpty());
+            response.put("generatedAt", generatedAt);
+            response.put("cached", cached);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.ChangeStreamProperties;
+import com.codeit.blog.dto.PostChangeEvent;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.limit.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 변경 스트림 (SSE, GET /api/posts/changes)
+ *
+ * 클라이언트가 게시글/카테고리 목록을 주기적으로 다시 조회하지 않고, 변경 이벤트를 받아 자기 캐시를 고치게 합니다.
+ * 생성 / 수정 / 삭제, 조회수·좋아요 수가 단위(viewCountStep, likeCountStep)를 넘을 때 이벤트를 만들고
+ * 트랜잭션 안이면 커밋 후에 보냅니다. (롤백된 변경은 나가지 않음)
+ *
+ * - 연결은 서블릿 비동기(SseEmitter)로 유지하므로 연결마다 스레드를 잡지 않습니다.
+ *   실제 쓰기는 senderThreads개 스레드가 보낼 이벤트가 있는 구독자만 돌아가며 처리합니다.
+ * - 구독자마다 대기 이벤트 subscriberBufferSize개까지, 넘치면 쌓인 이벤트를 버리고 RESYNC 하나만 보냅니다.
+ *   (느린 클라이언트 때문에 메모리가 늘거나 다른 구독자가 늦어지지 않도록)
+ * - 최근 replayBufferSize개 이벤트를 링 버퍼에 두고, Last-Event-ID로 다시 연결하면 그 뒤부터 보냅니다.
+ *   버퍼보다 오래 끊겼거나 이전 실행의 id면 RESYNC부터 보냅니다.
+ * - 이벤트 순번은 시작 시각(ms) * 1000부터 시작하므로 재시작 후에도 이전 실행의 id보다 큽니다.
+ *
+ * 메트릭
+ * - blog.posts.changes.subscribers: 연결된 구독자 수
+ * - blog.posts.changes.events{type}: 만든 이벤트 수
+ * - blog.posts.changes.sent: 구독자에게 보낸 이벤트 수
+ * - blog.posts.changes.resyncs{reason=overflow|expired|unknown-id}
+ */
+@Service
+@Slf4j
+public class PostChangeStream {
+
+    private final ChangeStreamProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor sender;
+    private final Counter sent;
+    private final Map<PostChangeEvent.Type, Counter> events = new EnumMap<>(PostChangeEvent.Type.class);
+    private final Map<String, Counter> resyncs = new ConcurrentHashMap<>();
+
+    // 발행 순서, 링 버퍼, 구독자별 대기열에 넣는 순서를 하나로 맞추는 잠금
+    private final Object lock = new Object();
+    private final PostChangeEvent[] replay;
+    private final long firstSequence = System.currentTimeMillis() * 1000 + 1;
+    private long lastSequence = firstSequence - 1;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public PostChangeStream(ChangeStreamProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getReplayBufferSize() < 1 || properties.getSubscriberBufferSize() < 1) {
+            throw new IllegalStateException("blog.posts.changes.replay-buffer-size / subscriber-buffer-size는 1 이상이어야 합니다");
+        }
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.replay = new PostChangeEvent[properties.getReplayBufferSize()];
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(
+                properties.getSenderThreads(), properties.getSenderThreads(),
+                60, TimeUnit.SECONDS,
+                // 구독자당 작업은 최대 하나씩만 들어가므로 구독자 수 이상 쌓이지 않음
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "change-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.sent = Counter.builder("blog.posts.changes.sent")
+                .description("구독자에게 보낸 변경 이벤트 수")
+                .register(meterRegistry);
+        for (PostChangeEvent.Type type : PostChangeEvent.Type.values()) {
+            events.put(type, Counter.builder("blog.posts.changes.events")
+                    .tag("type", type.name())
+                    .description("만든 변경 이벤트 수")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("blog.posts.changes.subscribers", subscribers, Set::size)
+                .description("변경 스트림 구독자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdown();
+    }
+
+    // ===== 발행 =====
+
+    public void created(Post post) {
+        publish(event(PostChangeEvent.Type.CREATED, post, null,
+                List.of("title", "content", "author", "category"),
+                values("title", post.getTitle(), "category", post.getCategory())));
+    }
+
+    public void created(Collection<Post> posts) {
+        posts.forEach(this::created);
+    }
+
+    /**
+     * 바뀐 필드가 없으면 보내지 않습니다
+     */
+    public void updated(Post post, String previousTitle, String previousContent, String previousCategory) {
+        List<String> fields = new ArrayList<>();
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (!Objects.equals(previousTitle, post.getTitle())) {
+            fields.add("title");
+            values.put("title", post.getTitle());
+        }
+        if (!Objects.equals(previousContent, post.getContent())) {
+            fields.add("content");
+        }
+        boolean categoryChanged = !Objects.equals(previousCategory, post.getCategory());
+        if (categoryChanged) {
+            fields.add("category");
+            values.put("category", post.getCategory());
+        }
+        if (fields.isEmpty()) {
+            return;
+        }
+        publish(event(PostChangeEvent.Type.UPDATED, post, categoryChanged ? previousCategory : null, fields, values));
+    }
+
+    public void deleted(Post post) {
+        publish(event(PostChangeEvent.Type.DELETED, post, null, List.of(), Map.of()));
+    }
+
+    /**
+     * 조회수가 viewCountStep의 배수가 될 때만 (한 번에 1씩 증가)
+     */
+    public void viewed(Post post) {
+        int step = properties.getViewCountStep();
+        if (step > 0 && post.getViewCount() % step == 0) {
+            publish(event(PostChangeEvent.Type.VIEWS, post, null, List.of("viewCount"),
+                    values("viewCount", post.getViewCount())));
+        }
+    }
+
+    /**
+     * 좋아요 수가 likeCountStep 단위를 넘었을 때만 (저장 주기마다 여러 개씩 바뀜)
+     */
+    public void likesChanged(Post post, int previousLikeCount) {
+        int step = properties.getLikeCountStep();
+        if (step > 0 && Math.floorDiv(previousLikeCount, step) != Math.floorDiv(post.getLikeCount(), step)) {
+            publish(event(PostChangeEvent.Type.LIKES, post, null, List.of("likeCount"),
+                    values("likeCount", post.getLikeCount())));
+        }
+    }
+
+    private PostChangeEvent event(PostChangeEvent.Type type, Post post, @Nullable String previousCategory,
+                                  List<String> fields, Map<String, Object> values) {
+        return new PostChangeEvent(0, type, post.getId(), post.getCategory(), previousCategory,
+                post.getUpdatedAt(), fields, values);
+    }
+
+    private static Map<String, Object> values(Object... keyValues) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            values.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return values;
+    }
+
+    private void publish(PostChangeEvent draft) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(draft);
+                }
+            });
+        } else {
+            append(draft);
+        }
+    }
+
+    private void append(PostChangeEvent draft) {
+        synchronized (lock) {
+            PostChangeEvent event = draft.withSequence(++lastSequence);
+            replay[slot(event.sequence())] = event;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+        }
+        events.get(draft.type()).increment();
+    }
+
+    private int slot(long sequence) {
+        return (int) Math.floorMod(sequence, (long) replay.length);
+    }
+
+    // ===== 구독 =====
+
+    /**
+     * @param categories  받을 카테고리 (비어 있으면 전체)
+     * @param lastEventId 마지막으로 받은 이벤트 id, 있으면 그 뒤의 이벤트부터 보냄
+     */
+    public SseEmitter subscribe(Set<String> categories, @Nullable Long lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new BulkheadFullException("changeStream", properties.getMaxSubscribers());
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(categories));
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        synchronized (lock) {
+            if (lastEventId != null) {
+                replayTo(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        // 응답 헤더와 첫 주석을 바로 보내서 연결이 열렸음을 알림
+        subscriber.heartbeatDue = true;
+        subscriber.schedule();
+
+        log.debug("변경 스트림 구독: categories={}, lastEventId={}, subscribers={}",
+                categories, lastEventId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * lock 안에서 호출
+     */
+    private void replayTo(Subscriber subscriber, long lastEventId) {
+        // 이번 실행에서 처음 만든 이벤트보다 앞은 버퍼에 없음
+        long oldest = Math.max(lastSequence - replay.length + 1, firstSequence);
+        if (lastEventId > lastSequence) {
+            subscriber.requestResync("unknown-id");
+            return;
+        }
+        if (lastEventId < oldest - 1) {
+            subscriber.requestResync("expired");
+            return;
+        }
+        for (long sequence = lastEventId + 1; sequence <= lastSequence; sequence++) {
+            PostChangeEvent event = replay[slot(sequence)];
+            if (event != null && event.sequence() == sequence) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${blog.posts.changes.heartbeat:15s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            subscriber.schedule();
+        }
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        synchronized (lock) {
+            status.put("lastEventId", lastSequence);
+        }
+        status.put("subscribers", subscribers.size());
+        status.put("maxSubscribers", properties.getMaxSubscribers());
+        status.put("replayBufferSize", replay.length);
+        status.put("subscriberBufferSize", properties.getSubscriberBufferSize());
+        status.put("senderQueue", sender.getQueue().size());
+        return status;
+    }
+
+    private void countResync(String reason) {
+        resyncs.computeIfAbsent(reason, key -> Counter.builder("blog.posts.changes.resyncs")
+                        .tag("reason", key)
+                        .description("이벤트를 놓쳐 RESYNC를 보낸 횟수")
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * 연결 하나
+     * 대기열에 넣는 것(offer)은 lock 안에서, 보내는 것(drain)은 sender 스레드에서 한 번에 하나만 실행합니다.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> categories;
+        private final BlockingQueue<PostChangeEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile @Nullable String resyncReason;
+        private volatile boolean heartbeatDue;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, Set<String> categories) {
+            this.emitter = emitter;
+            this.categories = categories;
+            this.queue = new ArrayBlockingQueue<>(properties.getSubscriberBufferSize());
+        }
+
+        /**
+         * lock 안에서 호출
+         */
+        private void offer(PostChangeEvent event) {
+            if (closed || !event.matches(categories)) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                requestResync("overflow");
+            }
+            schedule();
+        }
+
+        /**
+         * lock 안에서 호출, 쌓인 이벤트는 버리고 다음 전송 때 RESYNC
+         */
+        private void requestResync(String reason) {
+            queue.clear();
+            if (resyncReason == null) {
+                countResync(reason);
+            }
+            resyncReason = reason;
+        }
+
+        private void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    if (resyncReason != null) {
+                        long resyncFrom;
+                        String reason;
+                        synchronized (lock) {
+                            // 여기까지의 이벤트는 RESYNC로 대신하고, 이후 이벤트만 대기열에 남김
+                            reason = resyncReason;
+                            resyncReason = null;
+                            queue.clear();
+                            resyncFrom = lastSequence;
+                        }
+                        send(PostChangeEvent.resync(resyncFrom, reason));
+                    }
+                    PostChangeEvent event;
+                    while (resyncReason == null && (event = queue.poll()) != null) {
+                        send(event);
+                    }
+                    if (heartbeatDue) {
+                        heartbeatDue = false;
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    scheduled.set(false);
+                    // 내보내는 사이에 들어온 작업이 있으면 이어서 (다른 스레드가 이미 예약했으면 그쪽에서)
+                } while (hasWork() && scheduled.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 이미 완료된 연결
+                log.debug("변경 스트림 전송 실패, 구독 해제: {}", e.getMessage());
+                fail(e);
+            } catch (RuntimeException e) {
+                // 직렬화 실패 등, 이 연결로는 이후 이벤트를 순서대로 보낼 수 없으므로 끊고 재연결(Last-Event-ID)에 맡김
+                log.warn("변경 스트림 전송 중 오류, 구독 해제", e);
+                fail(e);
+            }
+        }
+
+        /**
+         * 구독을 빼고 연결을 오류로 끝냄 (scheduled도 풀어서 이 구독자에 묶인 상태가 남지 않게)
+         */
+        private void fail(Throwable error) {
+            close();
+            scheduled.set(false);
+            try {
+                emitter.completeWithError(error);
+            } catch (RuntimeException alreadyCompleted) {
+                log.debug("이미 끝난 변경 스트림 연결: {}", alreadyCompleted.getMessage());
+            }
+        }
+
+        private boolean hasWork() {
+            return !closed && (resyncReason != null || heartbeatDue || !queue.isEmpty());
+        }
+
+        private void send(PostChangeEvent event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.sequence()))
+                    .name(event.type().name().toLowerCase())
+                    .data(event, MediaType.APPLICATION_JSON));
+            sent.increment();
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.GroupCommitProperties;
+import com.codeit.blog.dto.PostRequest;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.limit.BulkheadFullException;
+import com.codeit.blog.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시에 들어온 게시글 생성 요청을 모아 한 트랜잭션으로 저장 (group commit)
+ *
+ * 요청 스레드는 대기열에 넣고 커밋될 때까지 기다립니다. 전용 스레드 하나가
+ * 첫 요청부터 maxWait 동안 또는 maxBatchSize개가 찰 때까지 모아서 saveAll → 커밋합니다.
+ * id는 시퀀스(allocationSize 50)로 미리 받아두므로 INSERT는 JDBC 배치 하나로 나가고,
+ * PostgreSQL에서는 reWriteBatchedInserts로 multi-row INSERT가 됩니다.
+ *
+ * 부하가 없으면 요청 하나가 maxWait만큼 늦어지고, 몰릴수록 커밋 한 번에 더 많은 요청이 묶입니다.
+ * 묶음 저장이 실패하면 한 건씩 다시 저장해서 문제 있는 요청만 실패시킵니다. (PostIngestService와 같은 방식)
+ * 통계 / id 필터 / 변경 스트림 반영은 PostService.afterCreated를 같은 트랜잭션 안에서 호출하고,
+ * 커밋된 게시글은 PostService.create의 @CachePut과 같이 posts 캐시에 넣습니다.
+ * SQL은 전용 스레드에서 실행되므로 요청 단위 SQL 집계(blog.sql.*{scope=request})에는 잡히지 않습니다.
+ *
+ * 메트릭
+ * - blog.posts.group-commit.batch-size: 커밋 한 번에 묶인 요청 수
+ * - blog.posts.group-commit.wait: 대기열에 들어가서 저장이 시작될 때까지
+ * - blog.posts.group-commit.commit: 묶음 저장 트랜잭션 시간
+ * - blog.posts.group-commit.queue: 대기 중인 요청 수
+ * - blog.posts.group-commit.failures{reason=rejected|error|timeout}
+ * - blog.posts.group-commit.max-batch-size / max-wait: 현재 설정값
+ */
+@Service
+@Slf4j
+public class PostGroupCommitWriter {
+
+    private final PostService postService;
+    private final PostRepository postRepository;
+    private final CacheManager cacheManager;
+    private final GroupCommitProperties properties;
+    private final TransactionTemplate transaction;
+
+    private final BlockingQueue<PendingCreate> queue;
+    private final DistributionSummary batchSizes;
+    private final Timer waitTime;
+    private final Timer commitTime;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Counter timedOut;
+
+    private volatile boolean running = true;
+    private Thread writer;
+
+    private record PendingCreate(PostRequest request, CompletableFuture<Post> result, long enqueuedNanos) {
+    }
+
+    public PostGroupCommitWriter(PostService postService, PostRepository postRepository,
+                                 CacheManager cacheManager, GroupCommitProperties properties,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        if (properties.getMaxBatchSize() < 1) {
+            throw new IllegalStateException("blog.posts.group-commit.max-batch-size는 1 이상이어야 합니다: " + properties.getMaxBatchSize());
+        }
+        this.postService = postService;
+        this.postRepository = postRepository;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.batchSizes = DistributionSummary.builder("blog.posts.group-commit.batch-size")
+                .description("커밋 한 번에 묶인 생성 요청 수")
+                .register(meterRegistry);
+        this.waitTime = Timer.builder("blog.posts.group-commit.wait")
+                .description("대기열에 들어가서 저장이 시작될 때까지 걸린 시간")
+                .register(meterRegistry);
+        this.commitTime = Timer.builder("blog.posts.group-commit.commit")
+                .description("묶음 저장 트랜잭션 시간")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("blog.posts.group-commit.failures")
+                .tag("reason", "rejected")
+                .description("저장하지 못한 생성 요청 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("blog.posts.group-commit.failures")
+                .tag("reason", "error")
+                .description("저장하지 못한 생성 요청 수")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("blog.posts.group-commit.failures")
+                .tag("reason", "timeout")
+                .description("저장하지 못한 생성 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.group-commit.queue", queue, BlockingQueue::size)
+                .description("묶음 저장을 기다리는 생성 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.group-commit.max-batch-size", properties, GroupCommitProperties::getMaxBatchSize)
+                .description("설정된 최대 묶음 크기")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.group-commit.max-wait", properties, p -> p.getMaxWait().toNanos() / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .description("설정된 최대 대기 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::run, "post-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 남은 요청은 저장하고 종료합니다
+     * interrupt는 쓰지 않습니다. (저장 중에 걸리면 Hikari 커넥션 획득이 실패함, poll은 100ms마다 깨어남)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 묶음 커밋이 끝날 때까지 기다렸다가 저장된 게시글(id 포함)을 반환
+     * 실패하면 저장 중에 난 예외를 그대로 던집니다. (대기열이 가득 찼으면 BulkheadFullException, 503)
+     * commitTimeout 안에 끝나지 않으면 대기열에서 빼고 504를 응답합니다. (빠진 요청은 저장되지 않으므로 다시 시도해도 중복되지 않음)
+     * 이미 묶음에 들어가 저장 중이라 뺄 수 없으면 그 커밋 결과를 끝까지 기다립니다.
+     */
+    public Post create(PostRequest request) {
+        if (!properties.isEnabled()) {
+            return postService.create(request);
+        }
+        PendingCreate pending = enqueue(request);
+        while (true) {
+            try {
+                return await(pending.result(), properties.getCommitTimeout().toNanos());
+            } catch (TimeoutException e) {
+                if (queue.remove(pending)) {
+                    timedOut.increment();
+                    throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                            "게시글 저장 대기 시간 초과: " + properties.getCommitTimeout());
+                }
+                // 전용 스레드가 이미 꺼내서 저장 중이므로 커밋 결과가 나올 때까지 기다림
+                log.debug("게시글 저장 대기 시간 초과, 저장 중인 묶음의 결과를 기다립니다: title={}", request.title());
+            }
+        }
+    }
+
+    /**
+     * 커밋되면 저장된 게시글(id 포함)로 완료되는 Future
+     * 대기열이 가득 찼으면 BulkheadFullException(503)으로 실패합니다.
+     */
+    public CompletableFuture<Post> submit(PostRequest request) {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.completedFuture(postService.create(request));
+        }
+        return enqueue(request).result();
+    }
+
+    private PendingCreate enqueue(PostRequest request) {
+        PendingCreate pending = new PendingCreate(request, new CompletableFuture<>(), System.nanoTime());
+        if (!running || !queue.offer(pending)) {
+            rejected.increment();
+            pending.result().completeExceptionally(new BulkheadFullException("createPost", properties.getQueueCapacity()));
+        }
+        return pending;
+    }
+
+    private Post await(CompletableFuture<Post> result, long timeoutNanos) throws TimeoutException {
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("게시글 저장 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 저장 대기 중 interrupt", e);
+        }
+    }
+
+    private void run() {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long maxWaitNanos = properties.getMaxWait().toNanos();
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = running ? queue.poll(100, TimeUnit.MILLISECONDS) : queue.poll();
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = first.enqueuedNanos() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 && running
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // stop()은 interrupt하지 않으므로 그대로 진행 (모은 요청은 아래에서 저장)
+                log.debug("묶음 저장 스레드 interrupt 무시");
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    commit(batch);
+                } catch (Throwable e) {
+                    // 스레드가 죽으면 이후 요청이 모두 timeout까지 기다리게 되므로, 이 묶음만 실패시키고 계속
+                    log.error("게시글 묶음 저장 중 예상하지 못한 오류({}건)", batch.size(), e);
+                    for (PendingCreate pending : batch) {
+                        if (pending.result().completeExceptionally(e)) {
+                            failed.increment();
+                        }
+                    }
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void commit(List<PendingCreate> batch) {
+        long start = System.nanoTime();
+        batch.forEach(pending -> waitTime.record(start - pending.enqueuedNanos(), TimeUnit.NANOSECONDS));
+        batchSizes.record(batch.size());
+
+        List<Post> saved;
+        try {
+            saved = transaction.execute(status -> save(batch));
+        } catch (RuntimeException e) {
+            // 트랜잭션이 실패(롤백)한 경우에만 다시 저장 (커밋 뒤 단계에서 난 예외로 다시 저장하면 중복 생성)
+            log.warn("게시글 묶음 저장 실패({}건), 한 건씩 다시 저장합니다: {}", batch.size(), e.getMessage());
+            batch.forEach(this::commitOne);
+            return;
+        }
+        commitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        complete(batch, saved);
+    }
+
+    private void commitOne(PendingCreate pending) {
+        List<Post> saved;
+        try {
+            saved = transaction.execute(status -> save(List.of(pending)));
+        } catch (RuntimeException e) {
+            failed.increment();
+            pending.result().completeExceptionally(e);
+            return;
+        }
+        complete(List.of(pending), saved);
+    }
+
+    /**
+     * PostService.create와 같은 일을 여러 건에 대해 한 번에
+     */
+    private List<Post> save(List<PendingCreate> batch) {
+        List<Post> posts = batch.stream()
+                .map(pending -> new Post(
+                        pending.request().title(),
+                        pending.request().content(),
+                        pending.request().author(),
+                        pending.request().category()))
+                .toList();
+        List<Post> saved = postRepository.saveAll(posts);
+        postService.afterCreated(saved);
+        return saved;
+    }
+
+    /**
+     * 커밋 후에만 호출 (롤백된 게시글이 캐시에 남지 않도록)
+     * 이미 저장된 뒤이므로 캐시에 넣지 못해도 요청은 성공으로 완료합니다.
+     */
+    private void complete(List<PendingCreate> batch, List<Post> saved) {
+        Cache cache = cacheManager.getCache("posts");
+        for (int i = 0; i < batch.size(); i++) {
+            Post post = saved.get(i);
+            if (cache != null) {
+                try {
+                    cache.put(post.getId(), post);
+                } catch (RuntimeException e) {
+                    log.warn("저장된 게시글을 캐시에 넣지 못함: id={}, {}", post.getId(), e.getMessage());
+                }
+            }
+            batch.get(i).result().complete(post);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.InitialDataReadyEvent;
+import com.codeit.blog.config.PostIdFilterProperties;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.sketch.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 없는 게시글 id 조회를 DB 앞에서 거르는 필터
+ *
+ * 1) Bloom filter: 시작 시 posts.id 전체로 만들고 생성 시 추가합니다. 없다고 나오면 게시글 로드 없이 없음.
+ * 2) 부정 캐시: DB에 없다고 확인한 id를 negativeTtl 동안 기억합니다. (Bloom filter 오탐, 삭제된 id 포함)
+ *
+ * 이 노드에서 생성된 id는 커밋 전에 추가하므로 "있는데 없다고 판단"하는 경우는 없습니다. (롤백되면 오탐이 하나 늘 뿐)
+ * 다만 Bloom filter는 노드마다 따로 있어서 다른 노드에서 생성한 게시글은 다음 재구성 전까지 이 노드 필터에 없습니다.
+ * id는 시퀀스로 늘어나므로 그런 게시글은 재구성 때 본 최대 id보다 큽니다. 그래서 Bloom filter가 없다고 한 id 중
+ * 그보다 큰 id만 PK 존재 여부를 확인(verifyMisses, findById Bulkhead 안에서)해서 있으면 필터에 추가하고,
+ * 나머지는 DB를 보지 않고 거절합니다. 확인해서 없던 id는 부정 캐시에 넣어 다시 확인하지 않습니다.
+ * (다른 노드가 재구성 전에 받아둔 시퀀스 구간의 id를 재구성 뒤에 커밋하면, 그 id는 다음 재구성까지 없다고 나옵니다)
+ * 삭제는 Bloom filter에서 뺄 수 없으므로 부정 캐시가 맡고, rebuildInterval마다 새로 만들어 정리합니다.
+ *
+ * 메트릭
+ * - blog.posts.lookup.rejected{reason=bloom|negative-cache}: DB 조회 없이 없음으로 처리한 횟수
+ * - blog.posts.bloom.false-positives: Bloom filter를 통과했지만 DB에 없던 횟수
+ * - blog.posts.bloom.unknown-ids: Bloom filter에 없었지만 DB에 있던 횟수 (다른 노드 / JDBC로 생성된 게시글)
+ * - blog.posts.bloom.false-positive-rate: 오탐 / (오탐 + Bloom filter 거절), 없는 id 조회 중 DB까지 간 비율
+ * - blog.posts.bloom.expected-fpp: 채워진 비트로 계산한 이론 오탐률
+ */
+@Component
+@Slf4j
+public class PostIdFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PostLoadBulkheads postLoadBulkheads;
+    private final PostIdFilterProperties properties;
+
+    private final Cache<Long, Boolean> missingIds;
+    private final Counter rejectedByBloom;
+    private final Counter rejectedByNegativeCache;
+    private final Counter falsePositives;
+    private final Counter unknownIds;
+
+    // 아직 만들지 않았으면 null (모든 id 통과)
+    private volatile BloomFilter filter;
+
+    // 마지막 재구성 때 posts에서 읽은 최대 id, 이보다 큰 id만 다른 노드에서 생성됐을 수 있음
+    private volatile long maxIdAtRebuild;
+
+    // 다시 만드는 동안 추가된 id를 놓치지 않도록, 직전 재구성 시작 이후에 추가된 id를 모아둡니다 (lock으로 보호)
+    private final Object lock = new Object();
+    private long[] addedSincePreviousStart = new long[0];
+    private int addedSincePreviousStartCount;
+    private long[] addedSinceCurrentStart = new long[16];
+    private int addedSinceCurrentStartCount;
+
+    public PostIdFilter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        PostLoadBulkheads postLoadBulkheads, PostIdFilterProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.postLoadBulkheads = postLoadBulkheads;
+        this.properties = properties;
+
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(properties.getNegativeMaximumSize())
+                .expireAfterWrite(properties.getNegativeTtl())
+                .recordStats()
+                .build();
+
+        this.rejectedByBloom = rejectedCounter(meterRegistry, "bloom");
+        this.rejectedByNegativeCache = rejectedCounter(meterRegistry, "negative-cache");
+        this.falsePositives = Counter.builder("blog.posts.bloom.false-positives")
+                .description("Bloom filter를 통과했지만 DB에 없던 게시글 id 조회 수")
+                .register(meterRegistry);
+        this.unknownIds = Counter.builder("blog.posts.bloom.unknown-ids")
+                .description("Bloom filter에 없었지만 DB에 있던 게시글 id 조회 수 (다른 노드에서 생성 등)")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.bloom.false-positive-rate", this, PostIdFilter::observedFalsePositiveRate)
+                .description("없는 게시글 id 조회 중 Bloom filter를 통과해 DB까지 간 비율")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.bloom.expected-fpp", this,
+                        f -> f.filter != null ? f.filter.expectedFalsePositiveRate() : Double.NaN)
+                .description("채워진 비트로 계산한 Bloom filter 이론 오탐률")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.bloom.ids", this,
+                        f -> f.filter != null ? f.filter.approximateElementCount() : Double.NaN)
+                .description("Bloom filter에 들어 있는 게시글 id 수 (추정)")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.negative-cache.size", missingIds, Cache::estimatedSize)
+                .description("없는 게시글 id 부정 캐시 크기")
+                .register(meterRegistry);
+    }
+
+    private Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("blog.posts.lookup.rejected")
+                .tag("reason", reason)
+                .description("DB 조회 없이 없는 게시글로 처리한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 걸러지지 않은 id만 loader로 조회하고, DB에도 없으면 부정 캐시에 기록합니다.
+     */
+    public Optional<Post> find(Long id, Function<Long, Optional<Post>> loader) {
+        if (!mightExist(id)) {
+            return Optional.empty();
+        }
+        Optional<Post> post = loader.apply(id);
+        if (post.isEmpty()) {
+            recordMissing(id);
+        }
+        return post;
+    }
+
+    public boolean mightExist(long id) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        if (missingIds.getIfPresent(id) != null) {
+            rejectedByNegativeCache.increment();
+            return false;
+        }
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(id)) {
+            return verifyMiss(id);
+        }
+        return true;
+    }
+
+    /**
+     * Bloom filter에 없는 id 중 재구성 이후에 생성됐을 수 있는 id만 DB에서 PK로 확인
+     * 확인 쿼리도 findById 한도 안에서 실행하므로, 없는 id를 훑는 요청이 몰려도 DB 동시 실행 수는 늘지 않습니다.
+     * 있으면 다른 노드에서 만든 게시글이므로 이 노드 필터에도 추가합니다.
+     */
+    private boolean verifyMiss(long id) {
+        if (properties.isVerifyMisses() && id > maxIdAtRebuild && existsInDatabase(id)) {
+            synchronized (lock) {
+                BloomFilter current = filter;
+                if (current != null) {
+                    current.add(id);
+                }
+                appendAdded(id);
+            }
+            unknownIds.increment();
+            return true;
+        }
+        missingIds.put(id, Boolean.TRUE);
+        rejectedByBloom.increment();
+        return false;
+    }
+
+    private boolean existsInDatabase(long id) {
+        // key null: 한도를 넘으면 이전 값 없이 거절 (게시글 로드의 이전 값과 섞이지 않도록)
+        return Boolean.TRUE.equals(postLoadBulkheads.load(PostLoadBulkheads.FIND_BY_ID, null,
+                () -> jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM posts WHERE id = ?)", Boolean.class, id)));
+    }
+
+    private void recordMissing(long id) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        missingIds.put(id, Boolean.TRUE);
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * 게시글 생성 (id가 정해진 직후, 커밋 전에 호출)
+     * 같은 id가 부정 캐시에 있으면 지우고, 커밋 직전 다른 요청이 다시 넣었을 수 있으므로 커밋 후에도 한 번 더 지웁니다.
+     */
+    public void added(Collection<Long> ids) {
+        if (!properties.isEnabled() || ids.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            BloomFilter current = filter;
+            for (Long id : ids) {
+                if (current != null) {
+                    current.add(id);
+                }
+                appendAdded(id);
+            }
+        }
+        missingIds.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    missingIds.invalidateAll(ids);
+                }
+            });
+        }
+    }
+
+    private void appendAdded(long id) {
+        if (addedSinceCurrentStartCount == addedSinceCurrentStart.length) {
+            addedSinceCurrentStart = Arrays.copyOf(addedSinceCurrentStart, addedSinceCurrentStart.length * 2);
+        }
+        addedSinceCurrentStart[addedSinceCurrentStartCount++] = id;
+    }
+
+    /**
+     * 게시글 삭제 (커밋 후 부정 캐시에 넣어 다음 조회부터 DB를 보지 않음)
+     */
+    public void removed(long id) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    missingIds.put(id, Boolean.TRUE);
+                }
+            });
+        } else {
+            missingIds.put(id, Boolean.TRUE);
+        }
+    }
+
+    // ===== 재구성 =====
+
+    /**
+     * 초기 데이터(DataInitializer)가 들어간 뒤에 처음 만듭니다.
+     * 지연 모드에서는 data-initializer 스레드에서 호출되므로 시작 경로를 막지 않습니다.
+     */
+    @EventListener(InitialDataReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${blog.posts.id-filter.rebuild-interval:6h}",
+            fixedDelayString = "${blog.posts.id-filter.rebuild-interval:6h}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        synchronized (lock) {
+            addedSincePreviousStart = Arrays.copyOf(addedSinceCurrentStart, addedSinceCurrentStartCount);
+            addedSincePreviousStartCount = addedSinceCurrentStartCount;
+            addedSinceCurrentStart = new long[16];
+            addedSinceCurrentStartCount = 0;
+        }
+
+        long[] maxId = {0};
+        BloomFilter rebuilt = readOnlyTransaction.execute(status -> {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class);
+            long expected = Math.max(properties.getExpectedInsertions(), (count != null ? count : 0) * 2);
+            BloomFilter next = BloomFilter.create(expected, properties.getFalsePositiveRate());
+            // PostgreSQL은 트랜잭션 안에서만 fetchSize만큼 나눠 가져옵니다
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement("SELECT id FROM posts");
+                statement.setFetchSize(10_000);
+                return statement;
+            }, rs -> {
+                long id = rs.getLong(1);
+                next.add(id);
+                maxId[0] = Math.max(maxId[0], id);
+            });
+            return next;
+        });
+
+        synchronized (lock) {
+            // 조회 스냅샷 이후에 커밋된 id (직전 재구성 시작 이후 추가분 전체)
+            for (int i = 0; i < addedSincePreviousStartCount; i++) {
+                rebuilt.add(addedSincePreviousStart[i]);
+            }
+            for (int i = 0; i < addedSinceCurrentStartCount; i++) {
+                rebuilt.add(addedSinceCurrentStart[i]);
+            }
+            filter = rebuilt;
+            maxIdAtRebuild = maxId[0];
+        }
+        log.info("게시글 id Bloom filter 생성: id 약 {}개, {}비트 ({}KB), 해시 {}개, 이론 오탐률 {}, {}ms",
+                rebuilt.approximateElementCount(), rebuilt.bitSize(), rebuilt.bitSize() / 8 / 1024,
+                rebuilt.hashFunctions(), String.format("%.4f", rebuilt.expectedFalsePositiveRate()),
+                System.currentTimeMillis() - start);
+    }
+
+    private double observedFalsePositiveRate() {
+        double fp = falsePositives.count();
+        double denominator = fp + rejectedByBloom.count();
+        return denominator > 0 ? fp / denominator : 0.0;
+    }
+}
@@ -0,0 +1,236 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.IngestProperties;
+import com.codeit.blog.dto.BulkIngestResponse;
+import com.codeit.blog.dto.PostRequest;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON 스트림 대량 등록
+ *
+ * 한 줄씩 읽고 검증해서 transactionSize개가 모이면 한 트랜잭션으로 저장합니다.
+ * 트랜잭션 안에서는 batchSize개마다 flush/clear 하므로 영속성 컨텍스트가 커지지 않고,
+ * 메모리에는 최대 transactionSize개의 요청만 올라갑니다. (둘 다 blog.posts.ingest.* 상한으로 줄임)
+ *
+ * 잘못된 줄은 오류 목록에 남기고 다음 줄을 계속 처리합니다.
+ * 저장 중 DB 오류가 나면 해당 트랜잭션의 줄들을 한 건씩 다시 저장해서 문제 있는 줄만 골라냅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostIngestService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final PostService postService;
+    private final IngestProperties properties;
+
+    /**
+     * 대량 등록 옵션
+     */
+    public record Options(int batchSize, int transactionSize, boolean populateCache) {
+        public Options {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다: " + batchSize);
+            }
+            if (transactionSize < batchSize) {
+                throw new IllegalArgumentException("transactionSize는 batchSize 이상이어야 합니다: " + transactionSize);
+            }
+        }
+    }
+
+    /**
+     * 요청 파라미터로 옵션 생성, 상한을 넘는 값은 상한으로 줄임
+     *
+     * @throws IllegalArgumentException 0 이하이거나 transactionSize가 batchSize보다 작을 때
+     */
+    public Options options(int batchSize, int transactionSize, boolean populateCache) {
+        if (batchSize < 1 || transactionSize < 1) {
+            throw new IllegalArgumentException("batchSize와 transactionSize는 1 이상이어야 합니다: "
+                    + batchSize + ", " + transactionSize);
+        }
+        int clampedBatchSize = Math.min(batchSize, properties.getMaxBatchSize());
+        int clampedTransactionSize = Math.min(transactionSize, properties.getMaxTransactionSize());
+        if (clampedBatchSize != batchSize || clampedTransactionSize != transactionSize) {
+            log.info("대량 등록 옵션을 상한으로 줄임: batchSize {} → {}, transactionSize {} → {}",
+                    batchSize, clampedBatchSize, transactionSize, clampedTransactionSize);
+        }
+        return new Options(clampedBatchSize, clampedTransactionSize, populateCache);
+    }
+
+    private record PendingLine(long line, PostRequest request) {
+    }
+
+    /**
+     * 진행 상황 (요청 하나 동안만 사용)
+     */
+    private static class Progress {
+        private long lines;
+        private long inserted;
+        private long failed;
+        private boolean errorsTruncated;
+        private final List<BulkIngestResponse.LineError> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BulkIngestResponse.LineError(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    public BulkIngestResponse ingest(InputStream body, Options options) throws IOException {
+        long startTime = System.nanoTime();
+        Progress progress = new Progress();
+        List<PendingLine> pending = new ArrayList<>(options.transactionSize());
+
+        log.info("게시글 대량 등록 시작: batchSize={}, transactionSize={}, populateCache={}",
+                options.batchSize(), options.transactionSize(), options.populateCache());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                long line = ++progress.lines;
+                if (text.isBlank()) {
+                    continue;
+                }
+
+                PostRequest request = parse(text, line, progress);
+                if (request == null) {
+                    continue;
+                }
+                pending.add(new PendingLine(line, request));
+
+                if (pending.size() >= options.transactionSize()) {
+                    commit(pending, options, progress);
+                    pending.clear();
+                    log.debug("대량 등록 진행: {}줄 처리, {}건 저장", progress.lines, progress.inserted);
+                }
+            }
+        }
+        if (!pending.isEmpty()) {
+            commit(pending, options, progress);
+        }
+
+        double elapsed = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        double rowsPerSecond = progress.inserted / Math.max(elapsed, 1e-9);
+        log.info("게시글 대량 등록 완료: {}줄, 저장 {}건, 실패 {}건, {}초 ({} rows/s)",
+                progress.lines, progress.inserted, progress.failed,
+                String.format("%.2f", elapsed), String.format("%,.0f", rowsPerSecond));
+
+        return new BulkIngestResponse(
+                progress.lines,
+                progress.inserted,
+                progress.failed,
+                progress.errors,
+                progress.errorsTruncated,
+                elapsed,
+                rowsPerSecond
+        );
+    }
+
+    private PostRequest parse(String text, long line, Progress progress) {
+        PostRequest request;
+        try {
+            request = objectMapper.readValue(text, PostRequest.class);
+        } catch (JsonProcessingException e) {
+            progress.fail(line, "JSON 형식 오류: " + e.getOriginalMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<PostRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.fail(line, violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return request;
+    }
+
+    private void commit(List<PendingLine> lines, Options options, Progress progress) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        try {
+            List<Post> saved = tx.execute(status -> save(lines, options.batchSize()));
+            progress.inserted += lines.size();
+            populateCache(saved, options);
+        } catch (RuntimeException e) {
+            log.warn("대량 등록 트랜잭션 실패, 한 건씩 다시 저장합니다: {}", e.getMessage());
+            for (PendingLine line : lines) {
+                try {
+                    List<Post> saved = tx.execute(status -> save(List.of(line), 1));
+                    progress.inserted++;
+                    populateCache(saved, options);
+                } catch (RuntimeException single) {
+                    progress.fail(line.line(), "저장 실패: " + single.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 batchSize개씩 INSERT (시퀀스 id + hibernate.jdbc.batch_size로 JDBC 배치)
+     */
+    private List<Post> save(List<PendingLine> lines, int batchSize) {
+        List<Post> saved = new ArrayList<>(lines.size());
+        for (int from = 0; from < lines.size(); from += batchSize) {
+            List<Post> batch = lines.subList(from, Math.min(from + batchSize, lines.size())).stream()
+                    .map(line -> new Post(
+                            line.request().title(),
+                            line.request().content(),
+                            line.request().author(),
+                            line.request().category()))
+                    .toList();
+            saved.addAll(postRepository.saveAll(batch));
+            postService.afterCreated(batch);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return saved;
+    }
+
+    /**
+     * 커밋된 게시글만 캐시에 넣습니다 (롤백된 데이터가 캐시에 남지 않도록)
+     */
+    private void populateCache(List<Post> saved, Options options) {
+        if (!options.populateCache() || saved == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache("posts");
+        if (cache != null) {
+            saved.forEach(post -> cache.put(post.getId(), post));
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.LikeProperties;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.entity.PostLikeSet;
+import com.codeit.blog.repository.PostLikeSetRepository;
+import com.codeit.blog.repository.PostRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 좋아요 (중복 방지)
+ *
+ * 게시글마다 좋아요한 사용자 id를 RoaringBitmap으로 들고 있습니다.
+ * 사용자 id가 몰려 있으면 id 하나당 1~2바이트 수준이라 Set<Long>(원소당 수십 바이트)보다 훨씬 작습니다.
+ *
+ * - 좋아요/취소는 메모리의 bitmap만 바꾸고 (멱등, 같은 사용자가 여러 번 눌러도 한 번)
+ * - 변경된 게시글만 flushInterval마다 post_like_sets에 저장하면서 posts.likeCount를 원소 수로 맞춥니다
+ *   (likeCount가 바뀐 게시글은 커밋 후 posts / 비동기 캐시와 한도 초과 시 응답하는 이전 값에서 내림)
+ * - 저장이 끝난 집합은 maxResidentSets를 넘으면 메모리에서 내리고, 다음 접근 때 DB에서 다시 읽습니다
+ * - 삭제된 게시글은 잠시 tombstone으로 기억해서, 삭제 직전에 시작한 로드가 집합을 다시 올리지 못하게 합니다
+ *
+ * RoaringBitmap은 32비트(부호 없는) 정수 집합이므로 사용자 id는 0 ~ 4294967295 범위만 허용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostLikeService {
+
+    private static final long MAX_USER_ID = 0xFFFF_FFFFL;
+
+    // 삭제 전에 시작한 로드가 끝날 때까지 충분히 긴 시간
+    private static final Duration TOMBSTONE_TTL = Duration.ofMinutes(10);
+
+    private final PostRepository postRepository;
+    private final PostLikeSetRepository postLikeSetRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final CategoryStatsService categoryStatsService;
+    private final PostChangeStream postChangeStream;
+    private final CacheManager cacheManager;
+    private final AsyncLoadingCache<Long, Post> postAsyncLoadingCache;
+    private final PostLoadBulkheads postLoadBulkheads;
+    private final LikeProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, LikeSet> resident = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Cache<Long, Boolean> removed = Caffeine.newBuilder()
+            .expireAfterWrite(TOMBSTONE_TTL)
+            .maximumSize(100_000)
+            .build();
+
+    private final Map<String, Counter> requestCounters = new ConcurrentHashMap<>();
+    private Counter flushed;
+
+    public record LikeResult(long postId, long userId, boolean liked, boolean changed, int likeCount) {
+    }
+
+    /**
+     * 메모리에 올라온 게시글 하나의 좋아요 집합 (모든 접근은 synchronized(this))
+     */
+    private static final class LikeSet {
+        private final RoaringBitmap bitmap;
+        private final int legacyLikeCount;
+        private long version;
+        private long flushedVersion;
+        // 최근 접근 여부 (CLOCK 방식으로 내릴 집합 선택)
+        private boolean referenced = true;
+        // 메모리에서 내려간 집합, 이걸 잡은 스레드는 다시 가져와야 함
+        private boolean evicted;
+
+        private LikeSet(RoaringBitmap bitmap, int legacyLikeCount) {
+            this.bitmap = bitmap;
+            this.legacyLikeCount = legacyLikeCount;
+        }
+
+        private int likeCount() {
+            return legacyLikeCount + bitmap.getCardinality();
+        }
+    }
+
+    private record Snapshot(long postId, LikeSet set, long version, byte[] bytes, int cardinality, int legacyLikeCount) {
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("blog.likes.resident", resident, Map::size)
+                .description("메모리에 올라온 좋아요 집합 수")
+                .register(meterRegistry);
+        Gauge.builder("blog.likes.dirty", dirty, Set::size)
+                .description("저장 대기 중인 좋아요 집합 수")
+                .register(meterRegistry);
+        flushed = Counter.builder("blog.likes.flushed")
+                .description("저장한 좋아요 집합 수")
+                .register(meterRegistry);
+    }
+
+    public LikeResult like(Long postId, long userId) {
+        return change(postId, userId, true);
+    }
+
+    public LikeResult unlike(Long postId, long userId) {
+        return change(postId, userId, false);
+    }
+
+    private LikeResult change(Long postId, long userId, boolean like) {
+        int userKey = toUserKey(userId);
+        while (true) {
+            LikeSet set = acquire(postId);
+            synchronized (set) {
+                if (set.evicted) {
+                    continue;
+                }
+                set.referenced = true;
+                boolean changed = like ? set.bitmap.checkedAdd(userKey) : set.bitmap.checkedRemove(userKey);
+                if (changed) {
+                    set.version++;
+                    dirty.add(postId);
+                }
+                countRequest(like ? "like" : "unlike", changed);
+                return new LikeResult(postId, userId, like, changed, set.likeCount());
+            }
+        }
+    }
+
+    private void countRequest(String action, boolean changed) {
+        requestCounters.computeIfAbsent(action + " " + changed, name -> Counter.builder("blog.likes.requests")
+                        .tag("action", action)
+                        .tag("changed", Boolean.toString(changed))
+                        .description("좋아요/취소 요청 수 (changed=false는 중복 요청)")
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * 피드 렌더링용: 한 사용자가 여러 게시글에 좋아요했는지 한 번에 조회
+     * 메모리에 없는 게시글은 한 번의 쿼리로 읽어서 올려둡니다.
+     */
+    public Map<Long, Boolean> hasLiked(long userId, Collection<Long> postIds) {
+        int userKey = toUserKey(userId);
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long postId : postIds) {
+            LikeSet set = resident.get(postId);
+            if (set == null) {
+                result.put(postId, false);
+                missing.add(postId);
+                continue;
+            }
+            synchronized (set) {
+                set.referenced = true;
+                result.put(postId, set.bitmap.contains(userKey));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            // 행이 없는 게시글은 아직 아무도 (사용자 구분으로) 좋아요하지 않은 것
+            for (PostLikeSet row : postLikeSetRepository.findAllById(missing)) {
+                LikeSet set = makeResident(row.getPostId(), fromRow(row));
+                if (set == null) {
+                    // 삭제 중인 게시글
+                    continue;
+                }
+                synchronized (set) {
+                    result.put(row.getPostId(), set.bitmap.contains(userKey));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 게시글 삭제 시 호출 (호출한 트랜잭션 안에서 행도 삭제)
+     * tombstone을 먼저 남기고 집합을 내리므로, 동시에 로드 중이던 집합은 makeResident에서 다시 내려갑니다.
+     * 트랜잭션이 롤백되면 tombstone을 지웁니다.
+     */
+    public void remove(Long postId) {
+        removed.put(postId, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        removed.invalidate(postId);
+                    }
+                }
+            });
+        }
+        LikeSet set = resident.remove(postId);
+        if (set != null) {
+            synchronized (set) {
+                set.evicted = true;
+            }
+        }
+        dirty.remove(postId);
+        postLikeSetRepository.deleteById(postId);
+    }
+
+    // ===== 저장 =====
+
+    /**
+     * 마지막 저장 이후 바뀐 게시글만 저장 (flushBatchSize개씩 한 트랜잭션)
+     * 저장 중에 또 바뀐 집합은 version이 달라지므로 다음 주기에 다시 저장됩니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.likes.flush-interval:5s}")
+    public void flush() {
+        if (!dirty.isEmpty()) {
+            List<Long> postIds = new ArrayList<>(dirty);
+            int batchSize = Math.max(1, properties.getFlushBatchSize());
+            for (int from = 0; from < postIds.size(); from += batchSize) {
+                flushBatch(postIds.subList(from, Math.min(from + batchSize, postIds.size())));
+            }
+        }
+        trim();
+    }
+
+    private void flushBatch(List<Long> postIds) {
+        List<Snapshot> snapshots = new ArrayList<>(postIds.size());
+        for (Long postId : postIds) {
+            // 스냅샷 전에 빼야 이후 변경이 다시 dirty로 들어옵니다
+            dirty.remove(postId);
+            LikeSet set = resident.get(postId);
+            if (set == null) {
+                continue;
+            }
+            synchronized (set) {
+                if (set.evicted || set.version == set.flushedVersion) {
+                    continue;
+                }
+                set.bitmap.runOptimize();
+                snapshots.add(new Snapshot(postId, set, set.version, serialize(set.bitmap),
+                        set.bitmap.getCardinality(), set.legacyLikeCount));
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> write(snapshots));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 집합 저장 실패, 다음 주기에 재시도: {}건, {}", snapshots.size(), e.getMessage());
+            snapshots.forEach(snapshot -> dirty.add(snapshot.postId()));
+            return;
+        }
+
+        long bytes = 0;
+        for (Snapshot snapshot : snapshots) {
+            synchronized (snapshot.set()) {
+                snapshot.set().flushedVersion = Math.max(snapshot.set().flushedVersion, snapshot.version());
+            }
+            bytes += snapshot.bytes().length;
+        }
+        flushed.increment(snapshots.size());
+        log.debug("좋아요 집합 저장: {}건, {} bytes", snapshots.size(), bytes);
+    }
+
+    private void write(List<Snapshot> snapshots) {
+        List<Long> postIds = snapshots.stream().map(Snapshot::postId).toList();
+        Map<Long, Post> posts = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<Long, PostLikeSet> rows = postLikeSetRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(PostLikeSet::getPostId, Function.identity()));
+
+        Map<String, Long> likeDeltas = new HashMap<>();
+        List<Long> changed = new ArrayList<>();
+        for (Snapshot snapshot : snapshots) {
+            Post post = posts.get(snapshot.postId());
+            if (post == null) {
+                // 저장 전에 삭제된 게시글
+                continue;
+            }
+            PostLikeSet row = rows.get(snapshot.postId());
+            if (row == null) {
+                row = new PostLikeSet(snapshot.postId(), snapshot.legacyLikeCount());
+                entityManager.persist(row);
+            }
+            row.updateBitmap(snapshot.bytes(), snapshot.cardinality());
+            int previousLikeCount = post.getLikeCount();
+            likeDeltas.merge(post.getCategory(), (long) row.likeCount() - previousLikeCount, Long::sum);
+            post.applyLikeCount(row.likeCount());
+            postChangeStream.likesChanged(post, previousLikeCount);
+            if (row.likeCount() != previousLikeCount) {
+                changed.add(post.getId());
+            }
+        }
+        categoryStatsService.onLikesChanged(likeDeltas);
+        evictAfterCommit(changed);
+    }
+
+    /**
+     * likeCount가 바뀐 게시글을 캐시에서 내림 (PostService.invalidateAfterCommit과 같은 방식)
+     * posts 캐시는 TransactionalCacheDecorator가 커밋 후로 미루고, 나머지는 afterCommit에서 내립니다.
+     */
+    private void evictAfterCommit(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        org.springframework.cache.Cache posts = cacheManager.getCache("posts");
+        if (posts != null) {
+            postIds.forEach(posts::evict);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                postAsyncLoadingCache.synchronous().invalidateAll(postIds);
+                postIds.forEach(id -> postLoadBulkheads.invalidate(PostLoadBulkheads.FIND_BY_ID, id));
+            }
+        });
+    }
+
+    /**
+     * 저장이 끝난 집합 중 최근에 안 쓴 것부터 메모리에서 내림
+     */
+    private void trim() {
+        int excess = resident.size() - properties.getMaxResidentSets();
+        if (excess <= 0) {
+            return;
+        }
+        for (Map.Entry<Long, LikeSet> entry : resident.entrySet()) {
+            if (excess <= 0) {
+                break;
+            }
+            LikeSet set = entry.getValue();
+            synchronized (set) {
+                if (set.version != set.flushedVersion) {
+                    continue;
+                }
+                if (set.referenced) {
+                    set.referenced = false;
+                    continue;
+                }
+                set.evicted = true;
+                if (resident.remove(entry.getKey(), set)) {
+                    excess--;
+                }
+            }
+        }
+    }
+
+    // ===== 로드 =====
+
+    private LikeSet acquire(Long postId) {
+        LikeSet set = resident.get(postId);
+        if (set != null) {
+            return set;
+        }
+        set = makeResident(postId, load(postId));
+        if (set == null) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + postId);
+        }
+        return set;
+    }
+
+    /**
+     * @return 메모리에 올라간 집합, 삭제된 게시글이면 null
+     */
+    private LikeSet makeResident(Long postId, LikeSet loaded) {
+        if (removed.getIfPresent(postId) != null) {
+            return null;
+        }
+        LikeSet existing = resident.putIfAbsent(postId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        // 넣는 사이에 remove()가 tombstone을 남겼으면 (집합을 이미 지나쳤을 수 있으므로) 직접 내림
+        if (removed.getIfPresent(postId) != null) {
+            synchronized (loaded) {
+                loaded.evicted = true;
+            }
+            resident.remove(postId, loaded);
+            return null;
+        }
+        return loaded;
+    }
+
+    private LikeSet load(Long postId) {
+        return postLikeSetRepository.findById(postId)
+                .map(this::fromRow)
+                .orElseGet(() -> {
+                    // 처음 좋아요하는 게시글: 기존 좋아요 수는 사용자 구분 없는 값으로 유지
+                    Post post = postRepository.findById(postId)
+                            .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + postId));
+                    return new LikeSet(new RoaringBitmap(), post.getLikeCount());
+                });
+    }
+
+    private LikeSet fromRow(PostLikeSet row) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (row.getBitmap().length > 0) {
+            try {
+                bitmap.deserialize(new DataInputStream(new ByteArrayInputStream(row.getBitmap())));
+            } catch (IOException e) {
+                throw new IllegalStateException("좋아요 집합을 읽을 수 없습니다: postId=" + row.getPostId(), e);
+            }
+        }
+        return new LikeSet(bitmap, row.getLegacyLikeCount());
+    }
+
+    private static byte[] serialize(RoaringBitmap bitmap) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bitmap.serializedSizeInBytes());
+        try {
+            bitmap.serialize(new DataOutputStream(out));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static int toUserKey(long userId) {
+        if (userId < 0 || userId > MAX_USER_ID) {
+            throw new IllegalArgumentException("userId는 0 ~ " + MAX_USER_ID + " 범위여야 합니다: " + userId);
+        }
+        return (int) userId;
+    }
+}
@@ -0,0 +1,76 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.BulkheadProperties;
+import com.codeit.blog.limit.AdaptiveConcurrencyLimiter;
+import com.codeit.blog.limit.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * PostService 캐시 미스 DB 로드를 작업별 Bulkhead로 감쌉니다.
+ *
+ * 한도를 얻은 뒤에 읽기 전용 트랜잭션을 열기 때문에, 거절되거나 대기 중인 요청은 커넥션을 잡지 않습니다.
+ * (조회 메서드는 NOT_SUPPORTED라 메서드 진입 시점에는 커넥션이 없습니다)
+ * 이미 트랜잭션 안(update, incrementViewCount의 findById)이면 커넥션을 잡고 있으므로 제한 없이 바로 실행합니다.
+ */
+@Component
+public class PostLoadBulkheads {
+
+    public static final String FIND_BY_ID = "findById";
+    public static final String FIND_BY_CATEGORY = "findByCategory";
+    public static final String FIND_POPULAR = "findPopularPosts";
+    public static final String FIND_ALL = "findAll";
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public PostLoadBulkheads(BulkheadProperties properties, MeterRegistry meterRegistry,
+                             PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @param key 한도 초과 시 이전 값으로 응답할 키 (null이면 거절만)
+     */
+    public <T> T load(String operation, Object key, Supplier<T> loader) {
+        if (!properties.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        return bulkhead(operation).execute(key, () -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+
+    public void invalidate(String operation, Object key) {
+        Bulkhead bulkhead = bulkheads.get(operation);
+        if (bulkhead != null) {
+            bulkhead.invalidate(key);
+        }
+    }
+
+    private Bulkhead bulkhead(String operation) {
+        return bulkheads.computeIfAbsent(operation, name -> new Bulkhead(name,
+                AdaptiveConcurrencyLimiter.builder()
+                        .algorithm(properties.getAlgorithm())
+                        .initialLimit(properties.getInitialLimit())
+                        .minLimit(properties.getMinLimit())
+                        .maxLimit(properties.getMaxLimit())
+                        .tolerance(properties.getTolerance())
+                        .smoothing(properties.getSmoothing())
+                        .backoffRatio(properties.getBackoffRatio())
+                        .latencyThreshold(properties.getLatencyThreshold().toNanos(), TimeUnit.NANOSECONDS)
+                        .build(),
+                properties.getStaleTtl(), properties.getStaleMaximumSize(), meterRegistry));
+    }
+}
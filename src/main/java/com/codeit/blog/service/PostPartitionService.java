@@ -0,0 +1,359 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.PartitioningProperties;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.repository.PostContentArchiveRepository;
+import com.codeit.blog.repository.PostContentArchiveRepository.ArchivedContent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * posts 월별 범위 파티션 관리 (PostgreSQL, blog.posts.partitioning.enabled=true)
+ *
+ * - posts_yYYYYmMM: [그 달 1일, 다음 달 1일) 범위, posts_default: 범위 밖
+ * - 파티션 키가 created_at이므로 PK는 (id, created_at)입니다. (Hibernate는 id만 알고 있어도 됨)
+ * - 인덱스는 부모 테이블에 만들면 파티션마다 따로 생기므로, 최근 파티션의 인덱스만 작게 메모리에 남습니다.
+ *
+ * 매일 (maintenance-cron)
+ * 1) monthsAhead달 뒤까지 파티션을 미리 생성
+ * 2) archiveAfter가 지난 파티션의 본문을 gzip으로 posts_content_archive에 옮기고 posts.content는 NULL
+ *    JDBC로 바꾸므로 배치가 커밋되면 2차 캐시(post-entity)와 posts 캐시에서 그 게시글을 내립니다.
+ *    (내리기 전에 읽힌 엔티티가 있어도 Post가 @DynamicUpdate라 조회수 등을 저장할 때 본문을 다시 쓰지 않음)
+ * 3) 삭제 / 수정으로 필요 없어진 보관 본문 정리
+ *
+ * 일반 테이블을 파티션 테이블로 바꾸는 작업(convert-on-startup)은 전체 복사라 시작 시 한 번, 명시적으로 켤 때만 합니다.
+ * Hibernate ddl-auto: update가 파티션 테이블을 테이블로 인식하도록 hibernate.hbm2ddl.extra_physical_table_types 를 설정해야 합니다.
+ *
+ * 메트릭
+ * - blog.posts.partitions: posts 파티션 수
+ * - blog.posts.archive.rows / blog.posts.archive.bytes{state=original|compressed}: 보관한 행 수와 크기
+ */
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE) // DataInitializer보다 먼저 (변환 후에 초기 데이터를 넣도록)
+@Slf4j
+public class PostPartitionService implements ApplicationRunner {
+
+    static final String DEFAULT_PARTITION = "posts_default";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'posts_y'yyyy'm'MM");
+    private static final Pattern PARTITION_PATTERN = Pattern.compile("posts_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final PartitioningProperties properties;
+    private final PostContentArchiveRepository archiveRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    private final AtomicInteger partitionCount = new AtomicInteger();
+    private final Counter archivedRows;
+    private final Counter originalBytes;
+    private final Counter compressedBytes;
+
+    private volatile boolean partitioned;
+
+    public PostPartitionService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                PartitioningProperties properties, PostContentArchiveRepository archiveRepository,
+                                EntityManagerFactory entityManagerFactory, CacheManager cacheManager,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.archiveRepository = archiveRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = cacheManager;
+
+        Gauge.builder("blog.posts.partitions", partitionCount, AtomicInteger::get)
+                .description("posts 파티션 수")
+                .register(meterRegistry);
+        this.archivedRows = Counter.builder("blog.posts.archive.rows")
+                .description("본문을 보관 테이블로 옮긴 게시글 수")
+                .register(meterRegistry);
+        this.originalBytes = Counter.builder("blog.posts.archive.bytes")
+                .tag("state", "original")
+                .baseUnit("bytes")
+                .description("보관한 본문 크기")
+                .register(meterRegistry);
+        this.compressedBytes = Counter.builder("blog.posts.archive.bytes")
+                .tag("state", "compressed")
+                .baseUnit("bytes")
+                .description("보관한 본문 크기")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!isPostgres()) {
+            log.warn("posts 파티션은 PostgreSQL에서만 지원합니다. blog.posts.partitioning 설정을 무시합니다.");
+            return;
+        }
+        archiveRepository.createTableIfMissing();
+
+        partitioned = isPartitioned();
+        if (!partitioned) {
+            if (!properties.isConvertOnStartup()) {
+                log.warn("posts가 파티션 테이블이 아닙니다. 변환하려면 blog.posts.partitioning.convert-on-startup=true 로 한 번 실행하세요.");
+                return;
+            }
+            convertToPartitioned();
+            partitioned = true;
+        }
+        maintain();
+    }
+
+    @Scheduled(cron = "${blog.posts.partitioning.maintenance-cron:0 15 3 * * *}")
+    public void scheduledMaintenance() {
+        if (properties.isEnabled() && partitioned) {
+            maintain();
+        }
+    }
+
+    /**
+     * 파티션 미리 생성 → 오래된 파티션 본문 보관 → 보관 테이블 정리
+     *
+     * @return 이번에 본문을 보관한 행 수
+     */
+    public synchronized long maintain() {
+        if (!partitioned) {
+            throw new IllegalStateException("posts가 파티션 테이블이 아닙니다.");
+        }
+        long start = System.currentTimeMillis();
+        int created = ensurePartitions(YearMonth.now(), properties.getMonthsAhead());
+
+        long archived = 0;
+        if (properties.getArchiveAfter() != null) {
+            LocalDate coldBefore = LocalDate.now().minus(properties.getArchiveAfter());
+            for (String partition : partitionNames()) {
+                YearMonth month = monthOf(partition);
+                if (month != null && !month.plusMonths(1).atDay(1).isAfter(coldBefore)) {
+                    archived += archivePartition(partition);
+                }
+            }
+        }
+        int removed = archiveRepository.deleteStale();
+        partitionCount.set(countPartitions());
+
+        log.info("posts 파티션 정리 완료: 새 파티션 {}개, 본문 보관 {}건, 보관 정리 {}건 ({}ms)",
+                created, archived, removed, System.currentTimeMillis() - start);
+        return archived;
+    }
+
+    /**
+     * @return 파티션별 범위, 예상 행 수, 크기
+     */
+    public List<Map<String, Object>> status() {
+        if (!partitioned) {
+            return List.of();
+        }
+        return jdbcTemplate.query("SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) AS bound, "
+                        + "c.reltuples::bigint AS estimated_rows, pg_total_relation_size(c.oid) AS total_bytes "
+                        + "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'posts'::regclass ORDER BY c.relname",
+                (rs, rowNum) -> {
+                    Map<String, Object> partition = new HashMap<>();
+                    partition.put("name", rs.getString("relname"));
+                    partition.put("bound", rs.getString("bound"));
+                    partition.put("estimatedRows", Math.max(0, rs.getLong("estimated_rows")));
+                    partition.put("totalBytes", rs.getLong("total_bytes"));
+                    return partition;
+                });
+    }
+
+    public boolean isPartitionedTable() {
+        return partitioned;
+    }
+
+    // ===== 파티션 생성 =====
+
+    int ensurePartitions(YearMonth from, int monthsAhead) {
+        int created = 0;
+        List<String> existing = partitionNames();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = from.plusMonths(i);
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute(createPartitionSql(month));
+                created++;
+                log.info("posts 파티션 생성: {}", name);
+            } catch (DataAccessException e) {
+                // posts_default에 이미 그 달 행이 있으면 만들 수 없습니다 (범위가 겹침)
+                log.warn("posts 파티션 생성 실패: {}, {}", name, e.getMostSpecificCause().getMessage());
+            }
+        }
+        return created;
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_NAME.format(month.atDay(1));
+    }
+
+    static YearMonth monthOf(String partitionName) {
+        Matcher matcher = PARTITION_PATTERN.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    static String createPartitionSql(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF posts FOR VALUES FROM ('"
+                + month.atDay(1) + " 00:00:00') TO ('" + month.plusMonths(1).atDay(1) + " 00:00:00')";
+    }
+
+    private int countPartitions() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_inherits WHERE inhparent = 'posts'::regclass", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'posts'::regclass AND c.relname <> '" + DEFAULT_PARTITION + "' ORDER BY c.relname", String.class);
+    }
+
+    // ===== 본문 보관 =====
+
+    /**
+     * 본문이 남은 행을 archiveBatchSize개씩 옮깁니다. (배치마다 트랜잭션 하나)
+     * 수정 중인 행은 SKIP LOCKED로 건너뛰고 다음 실행 때 옮깁니다.
+     */
+    private long archivePartition(String partition) {
+        long total = 0;
+        while (true) {
+            List<Long> moved = transaction.execute(status -> {
+                List<ArchivedContent> rows = jdbcTemplate.query("SELECT id, created_at, content FROM " + partition
+                                + " WHERE content IS NOT NULL LIMIT ? FOR UPDATE SKIP LOCKED",
+                        (rs, rowNum) -> new ArchivedContent(rs.getLong("id"),
+                                rs.getTimestamp("created_at").toLocalDateTime(), rs.getString("content")),
+                        properties.getArchiveBatchSize());
+                if (rows.isEmpty()) {
+                    return List.<Long>of();
+                }
+                long compressed = archiveRepository.saveAll(rows);
+                jdbcTemplate.batchUpdate("UPDATE " + partition + " SET content = NULL WHERE id = ? AND created_at = ?",
+                        rows, rows.size(), (ps, row) -> {
+                            ps.setLong(1, row.id());
+                            ps.setTimestamp(2, Timestamp.valueOf(row.createdAt()));
+                        });
+
+                long original = rows.stream().mapToLong(row -> row.content().getBytes(StandardCharsets.UTF_8).length).sum();
+                originalBytes.increment(original);
+                compressedBytes.increment(compressed);
+                archivedRows.increment(rows.size());
+                return rows.stream().map(ArchivedContent::id).toList();
+            });
+            if (moved == null || moved.isEmpty()) {
+                break;
+            }
+            evictCached(moved);
+            total += moved.size();
+        }
+        if (total > 0) {
+            log.info("파티션 본문 보관: {} {}건", partition, total);
+        }
+        return total;
+    }
+
+    /**
+     * 커밋 후 호출, 본문이 남아 있는 캐시 항목을 내림 (다음 조회에서 보관 본문으로 다시 로드)
+     */
+    private void evictCached(List<Long> ids) {
+        jakarta.persistence.Cache entityCache = entityManagerFactory.getCache();
+        Cache posts = cacheManager.getCache("posts");
+        for (Long id : ids) {
+            entityCache.evict(Post.class, id);
+            if (posts != null) {
+                posts.evict(id);
+            }
+        }
+    }
+
+    // ===== 일반 테이블 → 파티션 테이블 =====
+
+    /**
+     * 한 트랜잭션 안에서 posts를 새 파티션 테이블로 옮깁니다. (실패하면 그대로 롤백)
+     * 기존 PK / 인덱스 이름을 다시 쓰기 위해 옛 테이블을 지운 뒤에 PK와 인덱스를 만듭니다.
+     */
+    private void convertToPartitioned() {
+        long start = System.currentTimeMillis();
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE posts IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("ALTER TABLE posts RENAME TO posts_unpartitioned");
+            jdbcTemplate.execute("CREATE TABLE posts (LIKE posts_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS) "
+                    + "PARTITION BY RANGE (created_at)");
+            jdbcTemplate.execute("ALTER TABLE posts ALTER COLUMN content DROP NOT NULL");
+
+            Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM posts_unpartitioned", Timestamp.class);
+            YearMonth current = YearMonth.now();
+            YearMonth first = oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : current;
+            if (first.isAfter(current)) {
+                first = current;
+            }
+            YearMonth last = current.plusMonths(properties.getMonthsAhead());
+            for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+                jdbcTemplate.execute(createPartitionSql(month));
+            }
+            jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF posts DEFAULT");
+
+            int copied = jdbcTemplate.update("INSERT INTO posts SELECT * FROM posts_unpartitioned");
+            jdbcTemplate.execute("DROP TABLE posts_unpartitioned");
+
+            jdbcTemplate.execute("ALTER TABLE posts ADD PRIMARY KEY (id, created_at)");
+            jdbcTemplate.execute("CREATE INDEX idx_category ON posts (category)");
+            jdbcTemplate.execute("CREATE INDEX idx_view_count ON posts (view_count)");
+            jdbcTemplate.execute("CREATE INDEX idx_created_at ON posts (created_at)");
+
+            log.info("posts → 월별 파티션 테이블 변환: {}건, 파티션 {} ~ {}", copied, partitionName(first), partitionName(last));
+        });
+        log.info("posts 파티션 변환 완료 ({}ms)", System.currentTimeMillis() - start);
+    }
+
+    private boolean isPartitioned() {
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT relkind::text FROM pg_class WHERE oid = to_regclass('posts')), '')", String.class);
+        return "p".equals(kind);
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            log.warn("커넥션 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package com.codeit.blog.service;
 
+import com.codeit.blog.config.PartitioningProperties;
 import com.codeit.blog.dto.PostRequest;
 import com.codeit.blog.entity.Post;
 import com.codeit.blog.repository.PostRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Transactional(readOnly = true)
@@ -21,27 +32,50 @@ import java.util.List;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostLikeService postLikeService;
+    private final UniqueViewerService uniqueViewerService;
+    private final TrendingService trendingService;
+    private final CategoryStatsService categoryStatsService;
+    private final PostIdFilter postIdFilter;
+    private final PostLoadBulkheads postLoadBulkheads;
+    private final PostChangeStream postChangeStream;
+    private final PartitioningProperties partitioningProperties;
     private final LoadingCache<Long, Post> postLoadingCache;
+    private final AsyncLoadingCache<Long, Post> postAsyncLoadingCache;
+    private final AsyncLoadingCache<String, List<Post>> postsByCategoryAsyncLoadingCache;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> joinedLoads = new ConcurrentHashMap<>();
 
     /**
      * 게시글 단건 조회
+     * 조회 메서드는 트랜잭션 없이 시작하고, DB 로드는 PostLoadBulkheads가 한도를 얻은 뒤 읽기 전용 트랜잭션으로 실행합니다.
+     * (캐시 미스가 몰려도 한도를 넘는 요청은 커넥션을 잡지 않고 바로 거절 / 이전 값 응답)
      */
     @Cacheable(value = "posts", key = "#id")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Post findById(Long id) {
-        log.debug("DB에서 게시글 조회: id={}", id);
-        simulateSlowQuery();
-        return postRepository.findById(id)
+        // 없는 id는 Bloom filter / 부정 캐시에서 걸러져 DB 조회(와 지연)를 건너뜁니다
+        return postIdFilter.find(id, key -> postLoadBulkheads.load(PostLoadBulkheads.FIND_BY_ID, key, () -> {
+                    log.debug("DB에서 게시글 조회: id={}", key);
+                    simulateSlowQuery();
+                    return postRepository.findById(key);
+                }))
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + id));
     }
 
     /**
      * 카테고리별 게시글 조회
+     * blog.posts.partitioning.hot-window가 있으면 그 기간 안의 게시글만 (오래된 파티션을 읽지 않음)
      */
     @Cacheable(value = "postsByCategory", key = "#category")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Post> findByCategory(String category) {
-        log.debug("DB에서 카테고리별 게시글 조회: category={}", category);
-        simulateSlowQuery();
-        return postRepository.findByCategory(category);
+        return postLoadBulkheads.load(PostLoadBulkheads.FIND_BY_CATEGORY, category, () -> {
+            log.debug("DB에서 카테고리별 게시글 조회: category={}", category);
+            simulateSlowQuery();
+            return postRepository.findHotByCategory(category, partitioningProperties.getHotWindow());
+        });
     }
 
     /**
@@ -49,18 +83,25 @@ public class PostService {
      * 인기 게시글 목록은 모든 사용자에게 동일하니까 하나만 캐시하면 됩니다.
      */
     @Cacheable(value = "popularPosts") //key를 따로 지정하지 않는다면 자동으로 'SimpleKey.EMPTY' 값으로 키를 자동 세팅합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Post> findPopularPosts() {
-        log.debug("DB에서 인기 게시글 조회");
-        simulateSlowQuery();
-        return postRepository.findTop10ByOrderByViewCountDesc();
+        return postLoadBulkheads.load(PostLoadBulkheads.FIND_POPULAR, PostLoadBulkheads.FIND_POPULAR, () -> {
+            log.debug("DB에서 인기 게시글 조회");
+            simulateSlowQuery();
+            return postRepository.findHotPopular(partitioningProperties.getHotWindow());
+        });
     }
 
     /**
      * 모든 게시글 조회
+     * 결과가 커서 이전 값을 보관하지 않습니다. (한도 초과 시 바로 거절)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Post> findAll() {
-        log.debug("DB에서 모든 게시글 조회");
-        return postRepository.findAll();
+        return postLoadBulkheads.load(PostLoadBulkheads.FIND_ALL, null, () -> {
+            log.debug("DB에서 모든 게시글 조회");
+            return postRepository.findAll();
+        });
     }
 
     /**
@@ -78,7 +119,21 @@ public class PostService {
                 request.category()
         );
 
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        afterCreated(List.of(saved));
+        return saved;
+    }
+
+    /**
+     * 게시글을 저장한 트랜잭션 안에서 호출 (create, 묶음 커밋, 대량 등록이 같이 씀)
+     * 카테고리 통계, id 필터, 변경 스트림에 반영합니다. 저장된 게시글은 id가 있어야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void afterCreated(List<Post> saved) {
+        categoryStatsService.onCreated(saved);
+        postIdFilter.added(saved.stream().map(Post::getId).toList());
+        postChangeStream.created(saved);
+        invalidateAfterCommit(List.of(), saved.stream().map(Post::getCategory).distinct().toList());
     }
 
     /**
@@ -90,7 +145,13 @@ public class PostService {
         log.info("게시글 수정: id={}", id);
 
         Post post = findById(id);
+        String previousTitle = post.getTitle();
+        String previousContent = post.getContent();
+        String previousCategory = post.getCategory();
         post.update(request.title(), request.content(), request.category());
+        categoryStatsService.onCategoryChanged(post, previousCategory);
+        postChangeStream.updated(post, previousTitle, previousContent, previousCategory);
+        invalidateAfterCommit(List.of(id), List.of(previousCategory, post.getCategory()));
 
         return post; // 결과가 캐시에 반영
     }
@@ -104,7 +165,40 @@ public class PostService {
     @CacheEvict(value = "posts", key = "#id")
     public void delete(Long id) {
         log.info("게시글 삭제: id={}", id);
-        postRepository.deleteById(id);
+        postRepository.findById(id).ifPresent(post -> {
+            postRepository.delete(post);
+            categoryStatsService.onDeleted(post);
+            postIdFilter.removed(id);
+            postChangeStream.deleted(post);
+            invalidateAfterCommit(List.of(), List.of(post.getCategory()));
+        });
+        postLikeService.remove(id);
+        uniqueViewerService.remove(id);
+        trendingService.remove(id);
+        invalidateAfterCommit(List.of(id), List.of());
+    }
+
+    /**
+     * 비동기 캐시(postAsyncLoadingCache, postsByCategoryAsyncLoadingCache)와 한도 초과 시 응답하는 이전 값에서 커밋 후에 내림
+     * 커밋 전에 내리면 그 사이 다른 요청이 커밋 전 값을 다시 로드해서 TTL 동안 남습니다. (PostIdFilter와 같은 방식)
+     */
+    private void invalidateAfterCommit(Collection<Long> ids, Collection<String> categories) {
+        Runnable invalidate = () -> {
+            postAsyncLoadingCache.synchronous().invalidateAll(ids);
+            postsByCategoryAsyncLoadingCache.synchronous().invalidateAll(categories);
+            ids.forEach(id -> postLoadBulkheads.invalidate(PostLoadBulkheads.FIND_BY_ID, id));
+            categories.forEach(category -> postLoadBulkheads.invalidate(PostLoadBulkheads.FIND_BY_CATEGORY, category));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate.run();
+                }
+            });
+        } else {
+            invalidate.run();
+        }
     }
 
     /**
@@ -119,27 +213,25 @@ public class PostService {
     // condition을 이용해서 특정 조건에서만 캐싱
     // unless: 특정 조건에서는 캐싱을 하지 않겠다
     @Cacheable(value = "posts", key = "#id", condition = "#id <= 100", unless = "#result == null")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Post findByIdOrNull(Long id) {
-        return postRepository.findById(id).orElse(null);
+        return postIdFilter.find(id, key -> postLoadBulkheads.load(PostLoadBulkheads.FIND_BY_ID, key,
+                () -> postRepository.findById(key))).orElse(null);
     }
 
 
     /**
      * 조회수 증가
+     * viewCount는 모든 조회, 고유 조회자는 viewerKey 기준으로 한 번만 셉니다
      */
     @Transactional
-    public void incrementViewCount(Long id) {
+    public void incrementViewCount(Long id, String viewerKey) {
         Post post = findById(id);
         post.incrementViewCount();
-    }
-
-    /**
-     * 좋아요 증가
-     */
-    @Transactional
-    public void incrementLikeCount(Long id) {
-        Post post = findById(id);
-        post.incrementLikeCount();
+        postChangeStream.viewed(post);
+        categoryStatsService.onViewed(post.getCategory(), 1);
+        uniqueViewerService.record(id, viewerKey);
+        trendingService.recordView(id, post.getCategory());
     }
 
     public Post findByIdWithLoadingCache(Long id) {
@@ -151,6 +243,45 @@ public class PostService {
         }
     }
 
+    /**
+     * 게시글 단건 비동기 조회
+     * 캐시 미스여도 바로 반환하고, DB 로드는 캐시 전용 풀에서 실행됩니다.
+     * 트랜잭션은 로더 안의 Repository 호출에서 열리므로 호출 스레드에서는 커넥션을 잡지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Post> findByIdAsync(Long id) {
+        return loadAsync("posts", postAsyncLoadingCache, id);
+    }
+
+    /**
+     * 카테고리별 게시글 비동기 조회
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<List<Post>> findByCategoryAsync(String category) {
+        return loadAsync("postsByCategory", postsByCategoryAsyncLoadingCache, category);
+    }
+
+    /**
+     * 이미 진행 중인 로드가 있으면 같은 Future를 받게 되는데, 그 횟수를 blog.cache.async.joined 로 기록
+     */
+    private <K, V> CompletableFuture<V> loadAsync(String cacheName, AsyncLoadingCache<K, V> cache, K key) {
+        CompletableFuture<V> pending = cache.asMap().get(key); // asMap 조회는 적중률 통계에 잡히지 않음
+        if (pending != null && !pending.isDone()) {
+            joinedLoads.computeIfAbsent(cacheName, name -> Counter.builder("blog.cache.async.joined")
+                            .tag("cache", name)
+                            .description("진행 중인 로드에 합류한 요청 수")
+                            .register(meterRegistry))
+                    .increment();
+        }
+        try {
+            return cache.get(key);
+        } catch (RuntimeException e) {
+            // 로드 풀이 가득 찬 경우에도 예외 대신 실패한 Future로 돌려줍니다
+            log.warn("비동기 로드 요청 실패: cache={}, key={}, {}", cacheName, key, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * DB 조회 지연 시뮬레이션 (1초)
      */
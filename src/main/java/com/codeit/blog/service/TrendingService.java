@@ -0,0 +1,89 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.TrendingProperties;
+import com.codeit.blog.dto.PostResponse;
+import com.codeit.blog.dto.TrendingPostResponse;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.repository.PostRepository;
+import com.codeit.blog.trending.TrendingTracker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 트렌딩 게시글 (최근 조회에 가중치를 둔 메모리 내 순위)
+ *
+ * 전체 조회수로 정렬하는 findPopularPosts와 달리, 조회는 halfLife마다 가중치가 절반이 되고
+ * window가 지나면 빠지므로 오래된 게시글이 계속 상위에 남지 않습니다.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TrendingTracker tracker;
+    private final PostRepository postRepository;
+
+    public TrendingService(TrendingProperties properties, PostRepository postRepository, MeterRegistry meterRegistry) {
+        this.tracker = new TrendingTracker(properties.getBucket(), properties.getWindow(), properties.getHalfLife(),
+                properties.getMaxTrackedPosts(), System::currentTimeMillis);
+        this.postRepository = postRepository;
+
+        Gauge.builder("blog.trending.tracked", tracker, TrendingTracker::trackedPosts)
+                .description("조회 카운터를 가진 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("blog.trending.ranked", tracker, TrendingTracker::rankedPosts)
+                .description("트렌딩 순위에 있는 게시글 수")
+                .register(meterRegistry);
+    }
+
+    public void recordView(Long postId, String category) {
+        tracker.record(postId, category, 1);
+    }
+
+    public void remove(Long postId) {
+        tracker.remove(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.trending.refresh-interval:1s}")
+    public void refresh() {
+        int processed = tracker.refresh();
+        if (processed > 0) {
+            log.debug("트렌딩 순위 갱신: {}건", processed);
+        }
+    }
+
+    /**
+     * 트렌딩 상위 limit개 (category가 null이면 전체)
+     * 게시글 본문은 한 번의 조회로 가져오며, 그 사이 삭제된 게시글은 빠집니다.
+     */
+    public List<TrendingPostResponse> trending(int limit, String category) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + MAX_LIMIT + " 범위여야 합니다: " + limit);
+        }
+        List<TrendingTracker.Entry> entries = tracker.top(limit, category);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> posts = postRepository.findAllById(entries.stream().map(TrendingTracker.Entry::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return entries.stream()
+                .filter(entry -> posts.containsKey(entry.postId()))
+                .map(entry -> new TrendingPostResponse(
+                        PostResponse.from(posts.get(entry.postId())),
+                        Math.round(entry.score() * 1000) / 1000.0,
+                        entry.windowViews()))
+                .toList();
+    }
+}
@@ -0,0 +1,198 @@
+package com.codeit.blog.service;
+
+import com.codeit.blog.config.UniqueViewerProperties;
+import com.codeit.blog.entity.Post;
+import com.codeit.blog.entity.PostViewSketch;
+import com.codeit.blog.repository.PostRepository;
+import com.codeit.blog.repository.PostViewSketchRepository;
+import com.codeit.blog.sketch.HyperLogLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글별 고유 조회자 수 (HyperLogLog)
+ *
+ * 조회 요청은 (게시글, 오늘) sketch에 조회자 해시만 반영하고,
+ * flushInterval마다 쌓인 sketch를 DB의 일자 행과 전체 기간 행에 합친 뒤 posts.uniqueViewers를 갱신합니다.
+ * 합치기는 레지스터별 max라서 여러 노드가 각자 저장해도 결과가 같고, 실패하면 다음 주기에 다시 합칩니다.
+ *
+ * 메모리에는 마지막 저장 이후 조회된 (게시글, 일자)의 sketch만 올라가므로 트래픽과 관계없이 게시글당 수 KB입니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UniqueViewerService {
+
+    // 기간 조회 최대 일수
+    private static final int MAX_WINDOW_DAYS = 3_650;
+
+    private final PostRepository postRepository;
+    private final PostViewSketchRepository postViewSketchRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final UniqueViewerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private record Bucket(long postId, LocalDate day) {
+    }
+
+    // 마지막 저장 이후 새로 들어온 조회자 sketch (모든 변경은 ConcurrentHashMap의 compute/merge 안에서)
+    private final Map<Bucket, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    private Counter flushed;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("blog.views.unique.pending", pending, Map::size)
+                .description("저장 대기 중인 (게시글, 일자) sketch 수")
+                .register(meterRegistry);
+        flushed = Counter.builder("blog.views.unique.flushed")
+                .description("저장한 (게시글, 일자) sketch 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회자 기록 (viewerKey: 사용자 id, 세션 등 조회자를 구분하는 값)
+     */
+    public void record(Long postId, String viewerKey) {
+        pending.compute(new Bucket(postId, LocalDate.now()), (bucket, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog(properties.getPrecision());
+            target.offer(viewerKey);
+            return target;
+        });
+    }
+
+    /**
+     * 최근 days일 동안의 고유 조회자 수 (일자 sketch를 합쳐서 추정, 아직 저장 전인 조회도 포함)
+     */
+    public long uniqueViewers(Long postId, int days) {
+        if (days < 1 || days > MAX_WINDOW_DAYS) {
+            throw new IllegalArgumentException("days는 1 ~ " + MAX_WINDOW_DAYS + " 범위여야 합니다: " + days);
+        }
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1L);
+        if (!from.isAfter(PostViewSketch.ALL_TIME)) {
+            from = PostViewSketch.ALL_TIME.plusDays(1);
+        }
+
+        HyperLogLog merged = new HyperLogLog(properties.getPrecision());
+        for (PostViewSketch row : postViewSketchRepository.findDaily(postId, from, to)) {
+            merged.merge(HyperLogLog.fromBytes(row.getRegisters()));
+        }
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            pending.computeIfPresent(new Bucket(postId, day), (bucket, sketch) -> {
+                merged.merge(sketch);
+                return sketch;
+            });
+        }
+        return merged.estimate();
+    }
+
+    /**
+     * 게시글 삭제 시 호출 (호출한 트랜잭션 안에서 sketch 행도 삭제)
+     */
+    public void remove(Long postId) {
+        pending.keySet().removeIf(bucket -> bucket.postId() == postId);
+        postViewSketchRepository.deleteByPostId(postId);
+    }
+
+    // ===== 저장 =====
+
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval:10s}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Bucket> buckets = new ArrayList<>(pending.keySet());
+        int batchSize = Math.max(1, properties.getFlushBatchSize());
+        for (int from = 0; from < buckets.size(); from += batchSize) {
+            flushBatch(buckets.subList(from, Math.min(from + batchSize, buckets.size())));
+        }
+    }
+
+    private void flushBatch(List<Bucket> buckets) {
+        Map<Bucket, HyperLogLog> deltas = new HashMap<>();
+        for (Bucket bucket : buckets) {
+            HyperLogLog delta = pending.remove(bucket);
+            if (delta != null) {
+                deltas.put(bucket, delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> write(deltas));
+        } catch (RuntimeException e) {
+            log.warn("고유 조회자 sketch 저장 실패, 다음 주기에 재시도: {}건, {}", deltas.size(), e.getMessage());
+            deltas.forEach((bucket, delta) -> pending.merge(bucket, delta, HyperLogLog::merge));
+            return;
+        }
+
+        flushed.increment(deltas.size());
+    }
+
+    private void write(Map<Bucket, HyperLogLog> deltas) {
+        List<Long> postIds = deltas.keySet().stream().map(Bucket::postId).distinct().toList();
+        Set<LocalDate> days = new LinkedHashSet<>();
+        deltas.keySet().forEach(bucket -> days.add(bucket.day()));
+        days.add(PostViewSketch.ALL_TIME);
+
+        Map<Long, Post> posts = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<PostViewSketch.Key, PostViewSketch> rows = postViewSketchRepository
+                .findForUpdate(postIds, new ArrayList<>(days)).stream()
+                .collect(Collectors.toMap(row -> new PostViewSketch.Key(row.getPostId(), row.getDay()), Function.identity()));
+
+        // 일자 행에 합치면서 게시글별 전체 기간 변경분도 모음
+        Map<Long, HyperLogLog> allTimeDeltas = new HashMap<>();
+        deltas.forEach((bucket, delta) -> {
+            if (!posts.containsKey(bucket.postId())) {
+                // 저장 전에 삭제된 게시글
+                return;
+            }
+            mergeInto(rows, bucket.postId(), bucket.day(), delta);
+            allTimeDeltas.merge(bucket.postId(), delta.copy(), HyperLogLog::merge);
+        });
+
+        allTimeDeltas.forEach((postId, delta) -> {
+            PostViewSketch allTime = mergeInto(rows, postId, PostViewSketch.ALL_TIME, delta);
+            long estimate = HyperLogLog.fromBytes(allTime.getRegisters()).estimate();
+            posts.get(postId).applyUniqueViewers((int) Math.min(estimate, Integer.MAX_VALUE));
+        });
+    }
+
+    private PostViewSketch mergeInto(Map<PostViewSketch.Key, PostViewSketch> rows, Long postId, LocalDate day, HyperLogLog delta) {
+        PostViewSketch.Key key = new PostViewSketch.Key(postId, day);
+        PostViewSketch row = rows.get(key);
+        if (row == null) {
+            row = new PostViewSketch(postId, day, delta.toBytes());
+            entityManager.persist(row);
+            rows.put(key, row);
+        } else {
+            row.updateRegisters(HyperLogLog.fromBytes(row.getRegisters()).merge(delta).toBytes());
+        }
+        return row;
+    }
+}
@@ -0,0 +1,100 @@
+package com.codeit.blog.sketch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 값 Bloom filter (존재 여부 사전 판별)
+ *
+ * mightContain이 false면 넣은 적이 없는 값이 확실하고, true면 falsePositiveRate 확률로 틀릴 수 있습니다.
+ * 원소는 뺄 수 없으므로 삭제가 쌓이면 새로 만들어야 합니다.
+ *
+ * 크기: expectedInsertions * -ln(p) / (ln 2)^2 비트 (100만 개, 1%: 약 1.2MB, 해시 7개)
+ * 해시 k개는 fmix64 두 번의 결과로 h1 + i * h2 (Kirsch-Mitzenmacher) 만들어 씁니다.
+ * 비트 설정은 CAS라서 여러 스레드가 동시에 add / mightContain 해도 됩니다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong bitCount = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) >>> 6));
+        this.bitSize = (long) words.length() << 6;
+        this.hashFunctions = hashFunctions;
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions는 0보다 커야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        long bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void add(long value) {
+        long h1 = HyperLogLog.mix(value);
+        long h2 = HyperLogLog.mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitSize));
+        }
+    }
+
+    public boolean mightContain(long value) {
+        long h1 = HyperLogLog.mix(value);
+        long h2 = HyperLogLog.mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        bitCount.incrementAndGet();
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 본 오탐 확률 (넣은 원소가 예상보다 많아지면 커짐)
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+    }
+
+    /**
+     * 채워진 비트 수로 추정한 원소 수
+     */
+    public long approximateElementCount() {
+        double fraction = (double) bitCount.get() / bitSize;
+        if (fraction >= 1.0) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-Math.log1p(-fraction) * bitSize / hashFunctions);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+}
@@ -0,0 +1,177 @@
+package com.codeit.blog.sketch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 고정 크기 HyperLogLog (서로 다른 원소 수 추정)
+ *
+ * 레지스터 2^precision개를 1바이트씩 사용합니다. (precision 12: 4KB, 표준 오차 약 1.6%)
+ * 원소를 아무리 많이 넣어도 크기는 그대로이고, 같은 precision끼리는 레지스터별 max로 합칠 수 있어서
+ * 일자별 / 노드별 sketch를 합쳐 기간 전체의 고유 수를 구할 수 있습니다.
+ *
+ * 직렬화 형식: [버전(1)][precision(1)][레지스터 2^precision 바이트]
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public final class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 12;
+    static final int MIN_PRECISION = 4;
+    static final int MAX_PRECISION = 16;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 2;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision은 " + MIN_PRECISION + " ~ " + MAX_PRECISION + " 범위여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length < HEADER_BYTES || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("HyperLogLog 형식이 아닙니다");
+        }
+        int precision = bytes[1];
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION || bytes.length != HEADER_BYTES + (1 << precision)) {
+            throw new IllegalArgumentException("HyperLogLog 크기가 맞지 않습니다: precision=" + precision + ", bytes=" + bytes.length);
+        }
+        return new HyperLogLog(precision, Arrays.copyOfRange(bytes, HEADER_BYTES, bytes.length));
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[HEADER_BYTES + registers.length];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = (byte) precision;
+        System.arraycopy(registers, 0, bytes, HEADER_BYTES, registers.length);
+        return bytes;
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * @return 레지스터가 바뀌었으면 true (추정값이 달라질 수 있음)
+     */
+    public boolean offer(String value) {
+        return offerHash(hash(value));
+    }
+
+    public boolean offer(long value) {
+        return offerHash(mix(value));
+    }
+
+    /**
+     * 64비트 해시 하나를 반영
+     * 상위 precision 비트로 레지스터를 고르고, 나머지 비트의 선행 0 개수 + 1을 기록합니다.
+     */
+    public boolean offerHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트 뒤에 1을 채워서 모두 0이어도 최대값이 64 - precision + 1이 되게 함
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 다른 sketch를 합침 (레지스터별 max, 합친 결과는 두 집합의 합집합 추정)
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision이 다른 sketch는 합칠 수 없습니다: " + precision + " vs " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(precision, registers.clone());
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 고유 원소 수 추정
+     * 원소가 적을 때(추정값이 2.5m 이하이고 빈 레지스터가 있을 때)는 linear counting으로 보정합니다.
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * 문자열 64비트 해시 (FNV-1a 후 비트 섞기)
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * MurmurHash3 fmix64 (입력 비트가 출력 전체에 고르게 퍼지도록)
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,35 @@
+package com.codeit.blog.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostService public 메서드별 SQL 통계 (blog.sql.*{scope=method})
+ *
+ * 캐시 / 트랜잭션 프록시보다 바깥에서 재야 캐시 히트(0회)와 커밋 시점의 dirty checking UPDATE가 함께 잡히므로
+ * 가장 높은 우선순위로 둡니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class PostServiceSqlAspect {
+
+    private final SqlStatementMetrics metrics;
+
+    @Around("execution(public * com.codeit.blog.service.PostService.*(..))")
+    public Object countStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        QueryCount start = SqlStatementCounter.snapshot();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            QueryCount used = SqlStatementCounter.snapshot().minus(start);
+            metrics.record(SqlStatementMetrics.METHOD, "PostService." + joinPoint.getSignature().getName(), used);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.codeit.blog.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 실행된 SQL 통계 (스레드 누적값의 스냅샷 또는 두 스냅샷의 차이)
+ *
+ * statements는 DB 왕복 횟수라서 JDBC 배치 한 번은 1로 셉니다.
+ * rows는 조회 결과 행(ResultSet.next) + 변경된 행(update count)의 합입니다.
+ */
+public record QueryCount(long statements, long selects, long inserts, long updates, long deletes, long others,
+                         long rows, long jdbcNanos) {
+
+    public static final QueryCount ZERO = new QueryCount(0, 0, 0, 0, 0, 0, 0, 0);
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String SELECTS_HEADER = "X-SQL-Selects";
+    public static final String INSERTS_HEADER = "X-SQL-Inserts";
+    public static final String UPDATES_HEADER = "X-SQL-Updates";
+    public static final String DELETES_HEADER = "X-SQL-Deletes";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    public QueryCount minus(QueryCount start) {
+        return new QueryCount(
+                statements - start.statements,
+                selects - start.selects,
+                inserts - start.inserts,
+                updates - start.updates,
+                deletes - start.deletes,
+                others - start.others,
+                rows - start.rows,
+                jdbcNanos - start.jdbcNanos
+        );
+    }
+
+    public double jdbcMillis() {
+        return jdbcNanos / 1_000_000.0;
+    }
+
+    /**
+     * 디버그 모드 응답 헤더 (blog.sql.debug-headers=true)
+     */
+    public Map<String, String> toHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(STATEMENTS_HEADER, Long.toString(statements));
+        headers.put(SELECTS_HEADER, Long.toString(selects));
+        headers.put(INSERTS_HEADER, Long.toString(inserts));
+        headers.put(UPDATES_HEADER, Long.toString(updates));
+        headers.put(DELETES_HEADER, Long.toString(deletes));
+        headers.put(ROWS_HEADER, Long.toString(rows));
+        headers.put(TIME_HEADER, String.format("%.3f", jdbcMillis()));
+        return headers;
+    }
+}
@@ -0,0 +1,104 @@
+package com.codeit.blog.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너: 스레드별로 SQL 실행 횟수 / 행 수 / JDBC 시간을 누적합니다.
+ *
+ * 누적값은 줄어들지 않으므로 구간을 재려면 시작과 끝의 snapshot() 차이를 사용합니다.
+ * (요청 필터, PostService 메서드, 테스트의 QueryBudget이 겹쳐도 서로 영향이 없음)
+ * 다른 스레드(비동기 로더 등)에서 실행된 SQL은 그 스레드에 쌓입니다.
+ */
+public class SqlStatementCounter implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final ThreadLocal<Tally> TALLY = ThreadLocal.withInitial(Tally::new);
+
+    public static QueryCount snapshot() {
+        return TALLY.get().toQueryCount();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        TALLY.get().queryStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Tally tally = TALLY.get();
+        tally.jdbcNanos += System.nanoTime() - tally.queryStart;
+        tally.statements++;
+
+        QueryType type = queryInfoList.isEmpty()
+                ? QueryType.OTHER
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        switch (type) {
+            case SELECT -> tally.selects++;
+            case INSERT -> tally.inserts++;
+            case UPDATE -> tally.updates++;
+            case DELETE -> tally.deletes++;
+            default -> tally.others++;
+        }
+        tally.rows += updateCount(execInfo.getResult());
+    }
+
+    /**
+     * 조회 행 수는 ResultSet.next()가 true를 돌려준 횟수로 셉니다. (blog.sql.count-rows=true 일 때만 호출)
+     */
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            TALLY.get().rows++;
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    private long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(0, count);
+        }
+        if (result instanceof Long count) {
+            return Math.max(0, count);
+        }
+        long sum = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                sum += Math.max(0, count); // SUCCESS_NO_INFO(-2)는 0으로
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                sum += Math.max(0, count);
+            }
+        }
+        return sum;
+    }
+
+    private static final class Tally {
+        long statements;
+        long selects;
+        long inserts;
+        long updates;
+        long deletes;
+        long others;
+        long rows;
+        long jdbcNanos;
+        long queryStart;
+
+        QueryCount toQueryCount() {
+            return new QueryCount(statements, selects, inserts, updates, deletes, others, rows, jdbcNanos);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.codeit.blog.sql;
+
+import com.codeit.blog.config.SqlStatementProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL을 세어 blog.sql.*{scope=request} 메트릭으로 기록합니다.
+ *
+ * 디버그 모드(blog.sql.debug-headers=true)에서는 X-SQL-* 응답 헤더도 붙입니다.
+ * 본문이 있는 응답은 쓰기 직전(SqlStatementHeaderAdvice)에, 아직 커밋되지 않았다면 여기서 최종값으로 덮어씁니다.
+ * 비동기 응답(/api/posts/async/**)은 DB 조회가 로더 스레드에서 일어나므로 기록하지 않습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    static final String START_ATTRIBUTE = SqlStatementFilter.class.getName() + ".start";
+
+    private final SqlStatementMetrics metrics;
+    private final SqlStatementProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCount start = SqlStatementCounter.snapshot();
+        request.setAttribute(START_ATTRIBUTE, start);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                QueryCount used = SqlStatementCounter.snapshot().minus(start);
+                metrics.record(SqlStatementMetrics.REQUEST, requestName(request), used);
+                if (properties.isDebugHeaders() && !response.isCommitted()) {
+                    used.toHeaders().forEach(response::setHeader);
+                }
+            }
+        }
+    }
+
+    private String requestName(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED");
+    }
+}
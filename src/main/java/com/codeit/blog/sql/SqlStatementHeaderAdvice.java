@@ -0,0 +1,39 @@
+package com.codeit.blog.sql;
+
+import com.codeit.blog.config.SqlStatementProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 디버그 모드에서 응답 본문을 쓰기 직전에 X-SQL-* 헤더를 붙입니다.
+ * 본문을 쓰면서 응답이 커밋되면 필터에서는 헤더를 더 붙일 수 없기 때문입니다.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlStatementProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isEnabled() && properties.isDebugHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlStatementFilter.START_ATTRIBUTE) instanceof QueryCount start) {
+            SqlStatementCounter.snapshot().minus(start).toHeaders().forEach(response.getHeaders()::set);
+        }
+        return body;
+    }
+}
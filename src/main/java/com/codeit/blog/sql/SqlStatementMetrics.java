@@ -0,0 +1,77 @@
+package com.codeit.blog.sql;
+
+import com.codeit.blog.config.SqlStatementProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구간별 SQL 통계를 메트릭으로 기록
+ *
+ * - blog.sql.statements{scope,name}: 구간당 SQL 실행 횟수 분포
+ * - blog.sql.rows{scope,name}: 구간당 조회/변경 행 수 분포
+ * - blog.sql.time{scope,name}: 구간당 JDBC 실행 시간
+ * - blog.sql.budget.exceeded{scope,name}: blog.sql.warn-statements를 넘은 횟수
+ *
+ * scope는 request(이름: "GET /api/posts/{id}") 또는 method(이름: "PostService.update")
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementMetrics {
+
+    public static final String REQUEST = "request";
+    public static final String METHOD = "method";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementProperties properties;
+
+    // scope + " " + name별 미터 (요청마다 registry에서 찾지 않도록)
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    private record Meters(DistributionSummary statements, DistributionSummary rows, Timer time, Counter exceeded) {
+    }
+
+    public void record(String scope, String name, QueryCount used) {
+        Meters m = meters.computeIfAbsent(scope + " " + name, key -> register(scope, name));
+        m.statements().record(used.statements());
+        m.rows().record(used.rows());
+        m.time().record(used.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        int warnStatements = properties.getWarnStatements();
+        if (REQUEST.equals(scope) && warnStatements > 0 && used.statements() > warnStatements) {
+            m.exceeded().increment();
+            log.warn("SQL 실행 횟수 초과: {} - {}회 (select={}, insert={}, update={}, delete={}, {}ms, 기준 {}회)",
+                    name, used.statements(), used.selects(), used.inserts(), used.updates(), used.deletes(),
+                    String.format("%.1f", used.jdbcMillis()), warnStatements);
+        }
+    }
+
+    private Meters register(String scope, String name) {
+        return new Meters(
+                DistributionSummary.builder("blog.sql.statements")
+                        .tags("scope", scope, "name", name)
+                        .description("구간당 SQL 실행 횟수")
+                        .register(meterRegistry),
+                DistributionSummary.builder("blog.sql.rows")
+                        .tags("scope", scope, "name", name)
+                        .description("구간당 조회/변경 행 수")
+                        .register(meterRegistry),
+                Timer.builder("blog.sql.time")
+                        .tags("scope", scope, "name", name)
+                        .description("구간당 JDBC 실행 시간")
+                        .register(meterRegistry),
+                Counter.builder("blog.sql.budget.exceeded")
+                        .tags("scope", scope, "name", name)
+                        .description("SQL 실행 횟수가 blog.sql.warn-statements를 넘은 횟수")
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,295 @@
+package com.codeit.blog.trace;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 접근 트레이스 수집기
+ *
+ * 요청 스레드는 고정 크기 큐에 이벤트를 넣기만 하고(가득 차면 버림), 파일 쓰기는 전용 스레드가 합니다.
+ * 기록 중이 아닐 때는 volatile 필드 하나만 읽고 돌아가므로 평소 비용은 거의 없습니다.
+ *
+ * sample-rate가 1보다 작으면 키 해시 기준으로 샘플링합니다.
+ * (같은 키의 접근은 모두 기록되거나 모두 빠지므로 재생 시 적중률이 왜곡되지 않습니다)
+ */
+@Component
+@Slf4j
+public class CacheAccessTracer implements DisposableBean {
+
+    private final Path directory;
+    private final int queueCapacity;
+    private final double sampleRate;
+
+    private volatile Session session;
+
+    // miss 후 같은 스레드의 put까지 걸린 시간을 적재 시간으로 봅니다
+    private final ThreadLocal<PendingMiss> pendingMiss = new ThreadLocal<>();
+
+    public CacheAccessTracer(
+            @Value("${blog.cache.trace.directory:build/cache-traces}") String directory,
+            @Value("${blog.cache.trace.queue-capacity:65536}") int queueCapacity,
+            @Value("${blog.cache.trace.sample-rate:1.0}") double sampleRate) {
+        this.directory = Path.of(directory);
+        this.queueCapacity = queueCapacity;
+        this.sampleRate = sampleRate;
+    }
+
+    private record Event(String region, TraceRecord.Outcome outcome, int keyHash, long nanoTime, long loadNanos) {
+    }
+
+    private record PendingMiss(Session session, String region, int keyHash, long nanoTime) {
+    }
+
+    /**
+     * 기록 세션 (시작 ~ 종료)
+     */
+    private final class Session implements Runnable {
+
+        private final Path path;
+        private final long startNanos = System.nanoTime();
+        private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final LongAdder dropped = new LongAdder();
+        private final CacheTraceFile.Writer writer;
+        private final Thread thread;
+        private volatile boolean stopping;
+
+        private Session(Path path) throws IOException {
+            this.path = path;
+            this.writer = new CacheTraceFile.Writer(path, System.currentTimeMillis());
+            this.thread = new Thread(this, "cache-trace-writer");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private void offer(Event event) {
+            if (!queue.offer(event)) {
+                dropped.increment();
+            }
+        }
+
+        @Override
+        public void run() {
+            try (CacheTraceFile.Writer out = writer) {
+                while (!stopping || !queue.isEmpty()) {
+                    Event event = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        out.flush();
+                        continue;
+                    }
+                    out.write(event.region(), event.outcome(), event.keyHash(),
+                            (event.nanoTime() - startNanos) / 1_000,
+                            event.loadNanos() < 0 ? -1 : event.loadNanos() / 1_000);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                log.error("캐시 트레이스 기록 실패: {}", path, e);
+            }
+        }
+
+        private void stop() throws InterruptedException {
+            stopping = true;
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        private Map<String, Object> status() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("file", path.toAbsolutePath().toString());
+            result.put("name", path.getFileName().toString());
+            result.put("recorded", writer.recordCount());
+            result.put("queued", queue.size());
+            result.put("dropped", dropped.sum());
+            result.put("elapsedSeconds", (System.nanoTime() - startNanos) / 1_000_000_000.0);
+            return result;
+        }
+    }
+
+    public synchronized Map<String, Object> start() throws IOException {
+        if (session != null) {
+            throw new IllegalStateException("이미 트레이스를 기록 중입니다");
+        }
+        Files.createDirectories(directory);
+        Path path = directory.resolve("cache-trace-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".btrc");
+        session = new Session(path);
+        log.info("캐시 트레이스 기록 시작: {}", path.toAbsolutePath());
+        return session.status();
+    }
+
+    public synchronized Map<String, Object> stop() throws InterruptedException {
+        Session current = session;
+        if (current == null) {
+            throw new IllegalStateException("기록 중인 트레이스가 없습니다");
+        }
+        session = null;
+        current.stop();
+        log.info("캐시 트레이스 기록 종료: {} ({}건, 유실 {}건)",
+                current.path.toAbsolutePath(), current.writer.recordCount(), current.dropped.sum());
+        return current.status();
+    }
+
+    /**
+     * 트레이스 디렉터리 안의 파일 이름만 받아서 경로로 바꿈
+     * 절대 경로, 하위 디렉터리, 정규화했을 때 디렉터리 밖을 가리키는 이름(..)은 거부합니다.
+     */
+    public Path resolveTrace(String fileName) {
+        Path requested;
+        try {
+            requested = Path.of(fileName);
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("잘못된 트레이스 파일 이름입니다: " + fileName);
+        }
+        if (requested.isAbsolute() || requested.getNameCount() != 1) {
+            throw new IllegalArgumentException("트레이스 디렉터리 안의 파일 이름만 지정할 수 있습니다: " + fileName);
+        }
+        Path base = directory.toAbsolutePath().normalize();
+        Path resolved = base.resolve(requested).normalize();
+        if (!base.equals(resolved.getParent())) {
+            throw new IllegalArgumentException("트레이스 디렉터리 밖의 파일은 읽을 수 없습니다: " + fileName);
+        }
+        return resolved;
+    }
+
+    public Map<String, Object> status() {
+        Session current = session;
+        if (current == null) {
+            return Map.of("recording", false);
+        }
+        Map<String, Object> result = new LinkedHashMap<>(current.status());
+        result.put("recording", true);
+        return result;
+    }
+
+    // ===== TracingCaffeineCache에서 호출 =====
+
+    void recordLookup(String region, Object key, boolean hit) {
+        Session current = session;
+        if (current == null) {
+            return;
+        }
+        int keyHash = hash(key);
+        if (!sampled(keyHash)) {
+            return;
+        }
+        flushPendingMiss();
+        long now = System.nanoTime();
+        if (hit) {
+            current.offer(new Event(region, TraceRecord.Outcome.HIT, keyHash, now, -1));
+        } else {
+            pendingMiss.set(new PendingMiss(current, region, keyHash, now));
+        }
+    }
+
+    void recordLoad(String region, Object key, long startNanos, long loadNanos) {
+        Session current = session;
+        if (current == null) {
+            return;
+        }
+        int keyHash = hash(key);
+        if (sampled(keyHash)) {
+            current.offer(new Event(region, TraceRecord.Outcome.MISS, keyHash, startNanos, loadNanos));
+        }
+    }
+
+    void recordHit(String region, Object key) {
+        Session current = session;
+        if (current == null) {
+            return;
+        }
+        int keyHash = hash(key);
+        if (sampled(keyHash)) {
+            current.offer(new Event(region, TraceRecord.Outcome.HIT, keyHash, System.nanoTime(), -1));
+        }
+    }
+
+    void recordPut(String region, Object key) {
+        Session current = session;
+        if (current == null) {
+            return;
+        }
+        int keyHash = hash(key);
+        if (!sampled(keyHash)) {
+            return;
+        }
+        long now = System.nanoTime();
+        PendingMiss pending = pendingMiss.get();
+        if (pending != null && pending.session() == current
+                && pending.keyHash() == keyHash && pending.region().equals(region)) {
+            pendingMiss.remove();
+            current.offer(new Event(region, TraceRecord.Outcome.MISS, keyHash, pending.nanoTime(), now - pending.nanoTime()));
+        } else {
+            current.offer(new Event(region, TraceRecord.Outcome.PUT, keyHash, now, -1));
+        }
+    }
+
+    void recordEvict(String region, Object key) {
+        Session current = session;
+        if (current == null) {
+            return;
+        }
+        int keyHash = hash(key);
+        if (sampled(keyHash)) {
+            current.offer(new Event(region, TraceRecord.Outcome.EVICT, keyHash, System.nanoTime(), -1));
+        }
+    }
+
+    void recordClear(String region) {
+        Session current = session;
+        if (current != null) {
+            current.offer(new Event(region, TraceRecord.Outcome.CLEAR, 0, System.nanoTime(), -1));
+        }
+    }
+
+    /**
+     * 적재되지 않은 miss (예외, unless 조건 등)는 적재 시간 미확인으로 기록
+     */
+    private void flushPendingMiss() {
+        PendingMiss pending = pendingMiss.get();
+        if (pending != null) {
+            pendingMiss.remove();
+            if (pending.session() == session) {
+                pending.session().offer(new Event(pending.region(), TraceRecord.Outcome.MISS,
+                        pending.keyHash(), pending.nanoTime(), -1));
+            }
+        }
+    }
+
+    private boolean sampled(int keyHash) {
+        return sampleRate >= 1.0 || (keyHash & 0x7FFFFFFF) < sampleRate * Integer.MAX_VALUE;
+    }
+
+    /**
+     * hashCode를 한 번 더 섞어서 (murmur3 finalizer) 샘플링과 재생 시 분포를 고르게 만듭니다
+     */
+    static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (session != null) {
+            stop();
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.codeit.blog.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 캐시 정책 시뮬레이터 (오프라인)
+ *
+ * 운영에서 기록한 트레이스를 여러 크기 / TTL / 정책 조합으로 재생해서
+ * 적중률과 DB 부하 곡선을 뽑습니다. CacheConfig의 maximumSize, TTL을 정할 때 사용합니다.
+ *
+ * W_TINYLFU는 실제 운영과 같은 Caffeine을 트레이스 시간으로 돌리고,
+ * LRU / FIFO는 비교용으로 LinkedHashMap으로 구현했습니다.
+ *
+ * 실행: ./gradlew simulateCache -PtraceArgs="--trace=build/cache-traces/xxx.btrc --region=posts"
+ */
+public class CacheSimulator {
+
+    public enum Policy {
+        LRU, FIFO, W_TINYLFU
+    }
+
+    /**
+     * 시뮬레이션 조건 (비어 있는 값은 기본값)
+     */
+    public record Options(
+            String tracePath,
+            String region,
+            List<Long> sizes,
+            List<Long> ttlSeconds,
+            List<Policy> policies
+    ) {
+        public Options {
+            if (tracePath == null || tracePath.isBlank()) {
+                throw new IllegalArgumentException("tracePath는 필수입니다");
+            }
+            if (sizes == null || sizes.isEmpty()) sizes = List.of(100L, 250L, 500L, 1000L, 2000L, 5000L);
+            // 0은 만료 없음
+            if (ttlSeconds == null || ttlSeconds.isEmpty()) ttlSeconds = List.of(0L, 10L, 60L, 600L);
+            if (policies == null || policies.isEmpty()) policies = List.of(Policy.values());
+        }
+    }
+
+    /**
+     * 조합 하나의 결과
+     *
+     * dbLoadsPerSecond: 초당 DB 조회 수, dbBusySecondsPerSecond: 초당 DB 점유 시간 (평균 적재 시간 기준 추정치)
+     */
+    public record Result(
+            String region,
+            Policy policy,
+            long maximumSize,
+            long ttlSeconds,
+            long hits,
+            long misses,
+            double hitRate,
+            double dbLoadsPerSecond,
+            double dbBusySecondsPerSecond
+    ) {
+    }
+
+    public record Report(
+            String trace,
+            Map<String, Long> accessesByRegion,
+            Map<String, Double> avgLoadMsByRegion,
+            double traceSeconds,
+            List<Result> results
+    ) {
+    }
+
+    public static Report simulate(Options options) throws IOException {
+        return simulate(Path.of(options.tracePath()), options);
+    }
+
+    /**
+     * @param trace 읽을 트레이스 파일 (options.tracePath()는 보고서에 표시할 이름으로만 씀)
+     */
+    public static Report simulate(Path trace, Options options) throws IOException {
+        Map<String, List<Replay>> replaysByRegion = new LinkedHashMap<>();
+        Map<String, Long> accesses = new LinkedHashMap<>();
+        Map<String, long[]> loadStats = new LinkedHashMap<>(); // {적재 횟수, 적재 시간 합(µs)}
+        long lastTimestamp = 0;
+
+        try (CacheTraceFile.Reader reader = new CacheTraceFile.Reader(trace)) {
+            for (TraceRecord record : reader) {
+                if (options.region() != null && !options.region().equals(record.region())) {
+                    continue;
+                }
+                List<Replay> replays = replaysByRegion.computeIfAbsent(record.region(), region -> createReplays(region, options));
+                lastTimestamp = Math.max(lastTimestamp, record.timestampMicros());
+
+                if (record.outcome() == TraceRecord.Outcome.HIT || record.outcome() == TraceRecord.Outcome.MISS) {
+                    accesses.merge(record.region(), 1L, Long::sum);
+                }
+                if (record.loaded()) {
+                    long[] stats = loadStats.computeIfAbsent(record.region(), region -> new long[2]);
+                    stats[0]++;
+                    stats[1] += record.loadMicros();
+                }
+                for (Replay replay : replays) {
+                    replay.apply(record);
+                }
+            }
+        }
+
+        double traceSeconds = Math.max(lastTimestamp / 1_000_000.0, 1e-6);
+        Map<String, Double> avgLoadMs = new LinkedHashMap<>();
+        List<Result> results = new ArrayList<>();
+
+        replaysByRegion.forEach((region, replays) -> {
+            long[] stats = loadStats.getOrDefault(region, new long[2]);
+            double avgLoadMicros = stats[0] > 0 ? (double) stats[1] / stats[0] : 0.0;
+            avgLoadMs.put(region, avgLoadMicros / 1000.0);
+
+            for (Replay replay : replays) {
+                long requests = replay.hits + replay.misses;
+                results.add(new Result(
+                        region,
+                        replay.policy,
+                        replay.maximumSize,
+                        replay.ttlSeconds,
+                        replay.hits,
+                        replay.misses,
+                        requests > 0 ? (double) replay.hits / requests : 0.0,
+                        replay.misses / traceSeconds,
+                        replay.misses * avgLoadMicros / 1_000_000.0 / traceSeconds
+                ));
+            }
+        });
+
+        results.sort(Comparator.comparing(Result::region)
+                .thenComparing(Result::policy)
+                .thenComparingLong(Result::ttlSeconds)
+                .thenComparingLong(Result::maximumSize));
+
+        return new Report(options.tracePath(), accesses, avgLoadMs, traceSeconds, results);
+    }
+
+    private static List<Replay> createReplays(String region, Options options) {
+        List<Replay> replays = new ArrayList<>();
+        for (Policy policy : options.policies()) {
+            for (long ttl : options.ttlSeconds()) {
+                for (long size : options.sizes()) {
+                    replays.add(new Replay(policy, size, ttl));
+                }
+            }
+        }
+        return replays;
+    }
+
+    /**
+     * 정책/크기/TTL 조합 하나를 재생
+     */
+    private static final class Replay {
+
+        private final Policy policy;
+        private final long maximumSize;
+        private final long ttlSeconds;
+        private final SimulatedCache cache;
+        private long hits;
+        private long misses;
+
+        private Replay(Policy policy, long maximumSize, long ttlSeconds) {
+            this.policy = policy;
+            this.maximumSize = maximumSize;
+            this.ttlSeconds = ttlSeconds;
+            long ttlMicros = ttlSeconds * 1_000_000;
+            this.cache = switch (policy) {
+                case LRU -> new LinkedSimulatedCache(maximumSize, ttlMicros, true);
+                case FIFO -> new LinkedSimulatedCache(maximumSize, ttlMicros, false);
+                case W_TINYLFU -> new CaffeineSimulatedCache(maximumSize, ttlMicros);
+            };
+        }
+
+        private void apply(TraceRecord record) {
+            long now = record.timestampMicros();
+            switch (record.outcome()) {
+                case HIT, MISS -> {
+                    if (cache.get(record.keyHash(), now)) {
+                        hits++;
+                    } else {
+                        misses++;
+                        // 운영에서 적재에 실패한 키(존재하지 않는 id 등)는 캐시에도 들어가지 않습니다
+                        if (record.outcome() == TraceRecord.Outcome.HIT || record.loaded()) {
+                            cache.put(record.keyHash(), now);
+                        }
+                    }
+                }
+                case PUT -> cache.put(record.keyHash(), now);
+                case EVICT -> cache.remove(record.keyHash());
+                case CLEAR -> cache.clear();
+            }
+        }
+    }
+
+    private interface SimulatedCache {
+        boolean get(int key, long nowMicros);
+
+        void put(int key, long nowMicros);
+
+        void remove(int key);
+
+        void clear();
+    }
+
+    /**
+     * LRU(accessOrder=true) / FIFO(accessOrder=false), 값은 저장 시각
+     */
+    private static final class LinkedSimulatedCache implements SimulatedCache {
+
+        private final long ttlMicros;
+        private final LinkedHashMap<Integer, Long> entries;
+
+        private LinkedSimulatedCache(long maximumSize, long ttlMicros, boolean accessOrder) {
+            this.ttlMicros = ttlMicros;
+            this.entries = new LinkedHashMap<>(16, 0.75f, accessOrder) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Long> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        @Override
+        public boolean get(int key, long nowMicros) {
+            Long writtenAt = entries.get(key);
+            if (writtenAt == null) {
+                return false;
+            }
+            if (ttlMicros > 0 && nowMicros - writtenAt >= ttlMicros) {
+                entries.remove(key);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void put(int key, long nowMicros) {
+            entries.put(key, nowMicros);
+        }
+
+        @Override
+        public void remove(int key) {
+            entries.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 운영과 같은 Caffeine(W-TinyLFU)을 트레이스 시간으로 구동
+     */
+    private static final class CaffeineSimulatedCache implements SimulatedCache {
+
+        private final Cache<Integer, Boolean> cache;
+        private long nowNanos;
+
+        private CaffeineSimulatedCache(long maximumSize, long ttlMicros) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .executor(Runnable::run)
+                    .ticker(() -> nowNanos);
+            if (ttlMicros > 0) {
+                builder.expireAfterWrite(Duration.ofNanos(ttlMicros * 1_000));
+            }
+            this.cache = builder.build();
+        }
+
+        private void advance(long nowMicros) {
+            nowNanos = Math.max(nowNanos, nowMicros * 1_000);
+        }
+
+        @Override
+        public boolean get(int key, long nowMicros) {
+            advance(nowMicros);
+            return cache.getIfPresent(key) != null;
+        }
+
+        @Override
+        public void put(int key, long nowMicros) {
+            advance(nowMicros);
+            cache.put(key, Boolean.TRUE);
+        }
+
+        @Override
+        public void remove(int key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void clear() {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * --trace=파일 [--region=posts] [--sizes=100,500] [--ttls=0,60] [--policies=LRU,W_TINYLFU] [--output=result.json]
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                params.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        Options options = new Options(
+                params.get("trace"),
+                params.get("region"),
+                parseList(params.get("sizes"), Long::valueOf),
+                parseList(params.get("ttls"), Long::valueOf),
+                parseList(params.get("policies"), Policy::valueOf)
+        );
+
+        Report report = simulate(options);
+
+        System.out.printf("%-16s %-10s %8s %8s %9s %12s %12s%n",
+                "region", "policy", "size", "ttl(s)", "hitRate", "dbLoads/s", "dbBusy(s/s)");
+        for (Result r : report.results()) {
+            System.out.printf("%-16s %-10s %8d %8d %8.2f%% %12.2f %12.3f%n",
+                    r.region(), r.policy(), r.maximumSize(), r.ttlSeconds(),
+                    r.hitRate() * 100, r.dbLoadsPerSecond(), r.dbBusySecondsPerSecond());
+        }
+
+        String output = params.get("output");
+        if (output != null) {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(Path.of(output).toFile(), report);
+            System.out.println("결과 저장: " + output);
+        }
+    }
+
+    private static <T> List<T> parseList(String value, java.util.function.Function<String, T> parser) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).map(parser).toList();
+    }
+}
@@ -0,0 +1,207 @@
+package com.codeit.blog.trace;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 캐시 접근 트레이스 바이너리 포맷
+ *
+ * 헤더: magic(int "BTRC") | version(short) | 시작 시각(long, epoch ms)
+ * 레코드: 타입(byte)
+ *   - REGION(0): regionId(byte) | 이름(UTF)                      → 캐시 이름은 처음 한 번만 기록
+ *   - ACCESS(1): outcome(byte) | regionId(byte) | 시간 차이(zigzag varint, 직전 레코드 대비 µs)
+ *                | keyHash(int) | 적재 시간+1(varint, 0이면 미확인)
+ *
+ * 접근 1건이 보통 8~10바이트라서 초당 수만 건을 기록해도 파일이 크게 늘지 않습니다.
+ */
+public final class CacheTraceFile {
+
+    static final int MAGIC = 0x42545243; // "BTRC"
+    static final short VERSION = 1;
+
+    private static final byte TYPE_REGION = 0;
+    private static final byte TYPE_ACCESS = 1;
+
+    private CacheTraceFile() {
+    }
+
+    /**
+     * 트레이스 기록기 (단일 스레드 전용)
+     */
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> regionIds = new HashMap<>();
+        private long lastTimestampMicros;
+        private long recordCount;
+
+        public Writer(Path path, long startEpochMillis) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(startEpochMillis);
+        }
+
+        public void write(String region, TraceRecord.Outcome outcome, int keyHash,
+                          long timestampMicros, long loadMicros) throws IOException {
+            Integer regionId = regionIds.get(region);
+            if (regionId == null) {
+                if (regionIds.size() >= 256) {
+                    throw new IOException("캐시 region은 최대 256개까지 기록할 수 있습니다");
+                }
+                regionId = regionIds.size();
+                regionIds.put(region, regionId);
+                out.writeByte(TYPE_REGION);
+                out.writeByte(regionId);
+                out.writeUTF(region);
+            }
+
+            out.writeByte(TYPE_ACCESS);
+            out.writeByte(outcome.ordinal());
+            out.writeByte(regionId);
+            writeVarLong(out, zigzag(timestampMicros - lastTimestampMicros));
+            out.writeInt(keyHash);
+            writeVarLong(out, loadMicros < 0 ? 0 : loadMicros + 1);
+
+            lastTimestampMicros = timestampMicros;
+            recordCount++;
+        }
+
+        public long recordCount() {
+            return recordCount;
+        }
+
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * 트레이스 읽기 (for-each로 순회)
+     */
+    public static final class Reader implements Iterable<TraceRecord>, Closeable {
+
+        private final DataInputStream in;
+        private final long startEpochMillis;
+        private final List<String> regions = new ArrayList<>();
+        private boolean iterated;
+
+        public Reader(Path path) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64 * 1024));
+            if (in.readInt() != MAGIC) {
+                in.close();
+                throw new IOException("캐시 트레이스 파일이 아닙니다: " + path);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                in.close();
+                throw new IOException("지원하지 않는 트레이스 버전입니다: " + version);
+            }
+            this.startEpochMillis = in.readLong();
+        }
+
+        public long startEpochMillis() {
+            return startEpochMillis;
+        }
+
+        @Override
+        public Iterator<TraceRecord> iterator() {
+            if (iterated) {
+                throw new IllegalStateException("트레이스는 한 번만 순회할 수 있습니다");
+            }
+            iterated = true;
+
+            return new Iterator<>() {
+                private long timestampMicros;
+                private TraceRecord next = readNext();
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public TraceRecord next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    TraceRecord current = next;
+                    next = readNext();
+                    return current;
+                }
+
+                private TraceRecord readNext() {
+                    try {
+                        while (true) {
+                            int type = in.read();
+                            if (type < 0) {
+                                return null;
+                            }
+                            if (type == TYPE_REGION) {
+                                in.readUnsignedByte();
+                                regions.add(in.readUTF());
+                                continue;
+                            }
+                            TraceRecord.Outcome outcome = TraceRecord.Outcome.of(in.readUnsignedByte());
+                            String region = regions.get(in.readUnsignedByte());
+                            timestampMicros += unzigzag(readVarLong(in));
+                            int keyHash = in.readInt();
+                            long load = readVarLong(in) - 1;
+                            return new TraceRecord(region, outcome, keyHash, timestampMicros, load);
+                        }
+                    } catch (EOFException e) {
+                        // 기록 도중 중단된 마지막 레코드는 버립니다
+                        return null;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static void writeVarLong(DataOutput out, long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
@@ -0,0 +1,33 @@
+package com.codeit.blog.trace;
+
+/**
+ * 트레이스 파일의 캐시 접근 기록 1건
+ *
+ * @param region          캐시 이름
+ * @param outcome         HIT / MISS / PUT / EVICT / CLEAR
+ * @param keyHash         키 해시 (원래 키는 저장하지 않습니다)
+ * @param timestampMicros 트레이스 시작 후 경과 시간 (µs)
+ * @param loadMicros      MISS 후 값을 적재하기까지 걸린 시간 (µs, 적재 실패/미확인이면 -1)
+ */
+public record TraceRecord(
+        String region,
+        Outcome outcome,
+        int keyHash,
+        long timestampMicros,
+        long loadMicros
+) {
+
+    public enum Outcome {
+        HIT, MISS, PUT, EVICT, CLEAR;
+
+        private static final Outcome[] VALUES = values();
+
+        static Outcome of(int ordinal) {
+            return VALUES[ordinal];
+        }
+    }
+
+    public boolean loaded() {
+        return outcome == Outcome.MISS && loadMicros >= 0;
+    }
+}
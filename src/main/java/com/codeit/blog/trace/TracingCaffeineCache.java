@@ -0,0 +1,137 @@
+package com.codeit.blog.trace;
+
+import com.codeit.blog.jfr.CacheEvictionEvent;
+import com.codeit.blog.jfr.CacheLookupEvent;
+import com.codeit.blog.jfr.JfrEvents;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 접근 기록을 남기는 CaffeineCache
+ *
+ * CaffeineCache를 상속하므로 getNativeCache()로 얻는 Caffeine 캐시와 통계는 그대로입니다.
+ * 실제로는 TransactionalCacheDecorator 안쪽에 있으므로 커밋 후 반영된 작업만 기록됩니다.
+ * JFR 녹화 중이면 조회/로드(CacheLookupEvent), 명시적 제거(CacheEvictionEvent)도 여기서 남깁니다.
+ */
+public class TracingCaffeineCache extends CaffeineCache {
+
+    private final CacheAccessTracer tracer;
+
+    public TracingCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues,
+                                CacheAccessTracer tracer) {
+        super(name, cache, allowNullValues);
+        this.tracer = tracer;
+    }
+
+    /**
+     * async: true region (retrieve로 CompletableFuture 조회 가능)
+     */
+    public TracingCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+                                CacheAccessTracer tracer) {
+        super(name, cache, allowNullValues);
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected @Nullable Object lookup(Object key) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        Object value = super.lookup(key);
+        event.end();
+        if (event.shouldCommit()) {
+            event.region = getName();
+            event.keyHash = JfrEvents.keyHash(key);
+            event.outcome = value != null ? CacheLookupEvent.HIT : CacheLookupEvent.MISS;
+            event.commit();
+        }
+        tracer.recordLookup(getName(), key, value != null);
+        return value;
+    }
+
+    /**
+     * @Cacheable(sync = true) 경로: 로더가 실행되면 miss + 적재 시간, 아니면 hit
+     */
+    @Override
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean[] loaded = {false};
+        long[] loadDuration = {0L};
+        T value;
+        try {
+            value = super.get(key, () -> {
+                loaded[0] = true;
+                long loadStart = System.nanoTime();
+                try {
+                    return valueLoader.call();
+                } finally {
+                    loadDuration[0] = System.nanoTime() - loadStart;
+                }
+            });
+        } catch (RuntimeException e) {
+            commitLookup(event, key, CacheLookupEvent.LOAD_FAILED, loadDuration[0]);
+            throw e;
+        }
+        commitLookup(event, key, loaded[0] ? CacheLookupEvent.LOADED : CacheLookupEvent.HIT, loadDuration[0]);
+        if (loaded[0]) {
+            tracer.recordLoad(getName(), key, start, System.nanoTime() - start);
+        } else {
+            tracer.recordHit(getName(), key);
+        }
+        return value;
+    }
+
+    private void commitLookup(CacheLookupEvent event, Object key, String outcome, long loadDuration) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.region = getName();
+            event.keyHash = JfrEvents.keyHash(key);
+            event.outcome = outcome;
+            event.loadDuration = loadDuration;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        super.put(key, value);
+        tracer.recordPut(getName(), key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        JfrEvents.evicted(getName(), key, CacheEvictionEvent.EXPLICIT);
+        tracer.recordEvict(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        if (evicted) {
+            JfrEvents.evicted(getName(), key, CacheEvictionEvent.EXPLICIT);
+        }
+        tracer.recordEvict(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        JfrEvents.evicted(getName(), null, CacheEvictionEvent.CLEAR);
+        tracer.recordClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        JfrEvents.evicted(getName(), null, CacheEvictionEvent.CLEAR);
+        tracer.recordClear(getName());
+        return invalidated;
+    }
+}
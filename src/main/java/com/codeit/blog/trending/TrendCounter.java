@@ -0,0 +1,105 @@
+package com.codeit.blog.trending;
+
+/**
+ * 게시글 하나의 시간 칸별 조회 수 (ring buffer) + 지수 감쇠 점수
+ *
+ * 점수는 forward decay 방식으로 유지합니다.
+ *   forwardScore = Σ count(b) * 2^((b - landmark) / halfLife)
+ * 현재 시각의 감쇠 점수는 forwardScore * 2^(-(now - landmark) / halfLife) 이고,
+ * log2를 취하면 now 항이 모든 게시글에 똑같이 빠지므로 rankKey()는 시간이 지나도 순서가 바뀌지 않습니다.
+ * 그래서 조회가 들어온 게시글만 다시 정렬하면 됩니다.
+ *
+ * 모든 메서드는 이 객체로 동기화합니다.
+ */
+final class TrendCounter {
+
+    // 가중치 지수가 이보다 커지면 기준 칸을 옮김 (double 범위 보호)
+    private static final double REBASE_EXPONENT = 64;
+
+    private final int[] counts;
+    private final long[] buckets;
+    private final double halfLifeBuckets;
+
+    private long landmark;
+    private double forwardScore;
+    private String category;
+
+    TrendCounter(int length, double halfLifeBuckets, long nowBucket) {
+        this.counts = new int[length];
+        this.buckets = new long[length];
+        this.halfLifeBuckets = halfLifeBuckets;
+        this.landmark = nowBucket;
+    }
+
+    synchronized void add(long bucket, int amount, String category) {
+        this.category = category;
+        if ((bucket - landmark) / halfLifeBuckets > REBASE_EXPONENT) {
+            forwardScore *= Math.pow(2, -(bucket - landmark) / halfLifeBuckets);
+            landmark = bucket;
+        }
+
+        int i = (int) Math.floorMod(bucket, (long) counts.length);
+        if (buckets[i] != bucket) {
+            // window보다 오래된 칸을 재사용
+            if (counts[i] > 0) {
+                forwardScore -= counts[i] * weight(buckets[i]);
+            }
+            counts[i] = 0;
+            buckets[i] = bucket;
+        }
+        counts[i] += amount;
+        forwardScore += amount * weight(bucket);
+    }
+
+    /**
+     * window를 벗어난 칸을 점수에서 뺌
+     */
+    synchronized void expire(long nowBucket) {
+        long oldest = nowBucket - counts.length + 1;
+        boolean empty = true;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (buckets[i] < oldest) {
+                forwardScore -= counts[i] * weight(buckets[i]);
+                counts[i] = 0;
+            } else {
+                empty = false;
+            }
+        }
+        if (empty || forwardScore < 0) {
+            // 빼기를 반복하며 생긴 부동소수점 오차 정리
+            forwardScore = empty ? 0 : Math.max(forwardScore, 0);
+        }
+    }
+
+    /**
+     * 순위 키 = log2(현재 감쇠 점수) + 현재 시각(반감기 단위), 조회가 없으면 음의 무한대
+     */
+    synchronized double rankKey() {
+        if (forwardScore <= 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return Math.log(forwardScore) / Math.log(2) + landmark / halfLifeBuckets;
+    }
+
+    synchronized long windowCount(long nowBucket) {
+        long oldest = nowBucket - counts.length + 1;
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 && buckets[i] >= oldest && buckets[i] <= nowBucket) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+
+    synchronized String category() {
+        return category;
+    }
+
+    private double weight(long bucket) {
+        return Math.pow(2, (bucket - landmark) / halfLifeBuckets);
+    }
+}
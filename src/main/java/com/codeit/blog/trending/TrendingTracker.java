@@ -0,0 +1,199 @@
+package com.codeit.blog.trending;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 내 트렌딩 게시글 순위
+ *
+ * - record(): 게시글 카운터에 조회를 더하고 "변경됨"으로 표시 (조회 요청 경로, O(1))
+ * - refresh(): 변경된 게시글만 순위 키를 다시 계산해서 정렬 집합을 갱신 (전체 게시글을 훑지 않음)
+ * - top(): 정렬 집합의 앞에서 limit개 (전체 / 카테고리별)
+ *
+ * 카운터는 최대 maxTrackedPosts개, window 동안 조회가 없으면 Caffeine이 내리고 순위에서도 빠집니다.
+ */
+public class TrendingTracker {
+
+    public record Entry(long postId, String category, double score, long windowViews) {
+    }
+
+    private record Ranked(long postId, double key, String category) {
+    }
+
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::key).reversed()
+            .thenComparingLong(Ranked::postId);
+
+    private final long bucketMillis;
+    private final int length;
+    private final double halfLifeBuckets;
+    private final LongSupplier clockMillis;
+
+    private final Cache<Long, TrendCounter> counters;
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private final Queue<Long> removed = new ConcurrentLinkedQueue<>();
+
+    // 순위 (rankingLock으로 보호)
+    private final Object rankingLock = new Object();
+    private final Map<Long, Ranked> ranked = new HashMap<>();
+    private final NavigableSet<Ranked> global = new TreeSet<>(ORDER);
+    private final Map<String, NavigableSet<Ranked>> byCategory = new HashMap<>();
+
+    public TrendingTracker(Duration bucket, Duration window, Duration halfLife, long maxTrackedPosts,
+                           LongSupplier clockMillis) {
+        if (bucket.isZero() || bucket.isNegative() || window.compareTo(bucket) < 0) {
+            throw new IllegalArgumentException("bucket은 0보다 크고 window 이하여야 합니다: bucket=" + bucket + ", window=" + window);
+        }
+        this.bucketMillis = bucket.toMillis();
+        this.length = (int) Math.max(1, window.toMillis() / bucketMillis);
+        this.halfLifeBuckets = (double) halfLife.toMillis() / bucketMillis;
+        this.clockMillis = clockMillis;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxTrackedPosts)
+                .expireAfterAccess(window)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clockMillis.getAsLong()))
+                .executor(Runnable::run)
+                .<Long, TrendCounter>removalListener((postId, counter, cause) -> {
+                    if (postId != null && cause.wasEvicted()) {
+                        removed.add(postId);
+                    }
+                })
+                .build();
+    }
+
+    public void record(long postId, String category, int amount) {
+        long bucket = currentBucket();
+        counters.get(postId, id -> new TrendCounter(length, halfLifeBuckets, bucket))
+                .add(bucket, amount, category);
+        changed.add(postId);
+    }
+
+    public void remove(long postId) {
+        counters.invalidate(postId);
+        removed.add(postId);
+    }
+
+    /**
+     * 변경된 게시글만 순위에 반영
+     *
+     * @return 반영한 게시글 수
+     */
+    public int refresh() {
+        counters.cleanUp();
+        long nowBucket = currentBucket();
+        int processed = 0;
+
+        synchronized (rankingLock) {
+            Long postId;
+            while ((postId = removed.poll()) != null) {
+                if (counters.policy().getIfPresentQuietly(postId) == null) {
+                    unrank(postId);
+                }
+            }
+
+            Iterator<Long> iterator = changed.iterator();
+            while (iterator.hasNext()) {
+                long id = iterator.next();
+                iterator.remove();
+                processed++;
+
+                TrendCounter counter = counters.policy().getIfPresentQuietly(id);
+                if (counter == null) {
+                    unrank(id);
+                    continue;
+                }
+                counter.expire(nowBucket);
+                double key = counter.rankKey();
+                if (Double.isInfinite(key)) {
+                    unrank(id);
+                } else {
+                    rank(new Ranked(id, key, counter.category()));
+                }
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 점수 순 상위 limit개 (category가 null이면 전체)
+     */
+    public List<Entry> top(int limit, String category) {
+        List<Ranked> head = new ArrayList<>(limit);
+        synchronized (rankingLock) {
+            NavigableSet<Ranked> set = category == null ? global : byCategory.get(category);
+            if (set != null) {
+                for (Ranked entry : set) {
+                    if (head.size() >= limit) {
+                        break;
+                    }
+                    head.add(entry);
+                }
+            }
+        }
+
+        long nowBucket = currentBucket();
+        double now = nowBucket / halfLifeBuckets;
+        List<Entry> result = new ArrayList<>(head.size());
+        for (Ranked entry : head) {
+            TrendCounter counter = counters.policy().getIfPresentQuietly(entry.postId());
+            long views = counter != null ? counter.windowCount(nowBucket) : 0;
+            result.add(new Entry(entry.postId(), entry.category(), Math.pow(2, entry.key() - now), views));
+        }
+        return result;
+    }
+
+    public long trackedPosts() {
+        return counters.estimatedSize();
+    }
+
+    public int rankedPosts() {
+        synchronized (rankingLock) {
+            return ranked.size();
+        }
+    }
+
+    private void rank(Ranked entry) {
+        unrank(entry.postId());
+        ranked.put(entry.postId(), entry);
+        global.add(entry);
+        if (entry.category() != null) {
+            byCategory.computeIfAbsent(entry.category(), c -> new TreeSet<>(ORDER)).add(entry);
+        }
+    }
+
+    private void unrank(long postId) {
+        Ranked previous = ranked.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        global.remove(previous);
+        if (previous.category() != null) {
+            NavigableSet<Ranked> set = byCategory.get(previous.category());
+            if (set != null) {
+                set.remove(previous);
+                if (set.isEmpty()) {
+                    byCategory.remove(previous.category());
+                }
+            }
+        }
+    }
+
+    private long currentBucket() {
+        return clockMillis.getAsLong() / bucketMillis;
+    }
+}
@@ -0,0 +1,77 @@
+package com.codeit.blog.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> NODES = List.of(
+            "http://localhost:8080", "http://localhost:8081", "http://localhost:8082");
+
+    @Test
+    @DisplayName("노드 목록 순서가 달라도 같은 키는 같은 노드가 담당")
+    void ownerIndependentOfNodeOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 128);
+        List<String> reversedNodes = new ArrayList<>(NODES);
+        Collections.reverse(reversedNodes);
+        ConsistentHashRing reversed = new ConsistentHashRing(reversedNodes, 128);
+        for (long id = 1; id <= 10_000; id++) {
+            assertEquals(ring.ownerOf(id), reversed.ownerOf(id), "id=" + id);
+        }
+    }
+
+    @Test
+    @DisplayName("가상 노드가 있으면 키가 노드별로 고르게 나뉨")
+    void keysSpreadEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 128);
+        Map<String, Integer> counts = new HashMap<>();
+        int keys = 30_000;
+        for (long id = 1; id <= keys; id++) {
+            counts.merge(ring.ownerOf(id), 1, Integer::sum);
+        }
+
+        assertEquals(NODES.size(), counts.size());
+        for (String node : NODES) {
+            double share = (double) counts.get(node) / keys;
+            assertEquals(1.0 / NODES.size(), share, 0.07, node + " share=" + share);
+        }
+        assertEquals(1.0, ring.ownership().values().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 새 노드로 가는 키만 담당이 바뀜 (약 1/N)")
+    void addingNodeMovesOnlyItsShare() {
+        ConsistentHashRing before = new ConsistentHashRing(NODES, 128);
+        List<String> grown = new ArrayList<>(NODES);
+        grown.add("http://localhost:8083");
+        ConsistentHashRing after = new ConsistentHashRing(grown, 128);
+
+        int keys = 20_000;
+        int moved = 0;
+        for (long id = 1; id <= keys; id++) {
+            String oldOwner = before.ownerOf(id);
+            String newOwner = after.ownerOf(id);
+            if (!oldOwner.equals(newOwner)) {
+                moved++;
+                assertEquals("http://localhost:8083", newOwner, "id=" + id);
+            }
+        }
+        assertEquals(0.25, (double) moved / keys, 0.07);
+    }
+
+    @Test
+    @DisplayName("노드 하나면 모든 키를 담당")
+    void singleNodeOwnsEverything() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("http://localhost:8080"), 1);
+        assertEquals("http://localhost:8080", ring.ownerOf(42L));
+        assertEquals(1.0, ring.ownership().get("http://localhost:8080"), 1e-9);
+    }
+}
@@ -0,0 +1,57 @@
+package com.codeit.blog.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JitteredExpiryTest {
+
+    private static final long TTL = Duration.ofMinutes(4).toNanos();
+
+    @Test
+    @DisplayName("항목별 만료 시간은 ttl ±jitter% 안에 고르게 퍼지고 평균은 ttl")
+    void spreadsWithinJitter() {
+        JitteredExpiry<Long, String> expiry = new JitteredExpiry<>(Duration.ofMinutes(4), 25);
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        double sum = 0;
+        int samples = 100_000;
+        for (int i = 0; i < samples; i++) {
+            long ttl = expiry.expireAfterCreate(1L, "v", 0L);
+            min = Math.min(min, ttl);
+            max = Math.max(max, ttl);
+            sum += ttl;
+        }
+
+        assertTrue(min >= TTL * 3 / 4, "min=" + min);
+        assertTrue(max <= TTL * 5 / 4, "max=" + max);
+        // 양 끝 근처까지 실제로 퍼짐 (한 값으로 몰리지 않음)
+        assertTrue(min < TTL * 0.76 && max > TTL * 1.24, "min=" + min + ", max=" + max);
+        assertEquals(TTL, sum / samples, TTL * 0.01);
+    }
+
+    @Test
+    @DisplayName("갱신하면 새 만료 시간, 조회는 남은 시간 유지")
+    void updateResetsAndReadKeeps() {
+        JitteredExpiry<Long, String> expiry = new JitteredExpiry<>(Duration.ofMinutes(4), 25);
+
+        assertEquals(12_345L, expiry.expireAfterRead(1L, "v", 0L, 12_345L));
+        long updated = expiry.expireAfterUpdate(1L, "v", 0L, 12_345L);
+        assertTrue(updated >= TTL * 3 / 4 && updated <= TTL * 5 / 4, "updated=" + updated);
+    }
+
+    @Test
+    @DisplayName("jitter 0이면 항상 ttl, 범위를 벗어난 값은 거부")
+    void zeroJitterAndValidation() {
+        JitteredExpiry<Long, String> fixed = new JitteredExpiry<>(Duration.ofMinutes(4), 0);
+        assertEquals(TTL, fixed.expireAfterCreate(1L, "v", 0L));
+
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpiry<>(Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpiry<>(Duration.ofMinutes(1), 100));
+        assertThrows(IllegalArgumentException.class, () -> new JitteredExpiry<>(Duration.ofMinutes(1), -1));
+    }
+}
@@ -0,0 +1,151 @@
+package com.codeit.blog.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionalCacheDecoratorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache target;
+    private TransactionalCacheDecorator cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = new ConcurrentMapCache("posts");
+        cache = new TransactionalCacheDecorator(target, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 put / evict는 커밋 전까지 실제 캐시에 반영되지 않음")
+    void buffersUntilCommit() {
+        target.put(2L, "old");
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(1L, "new");
+        cache.evict(2L);
+
+        assertNull(target.get(1L));
+        assertEquals("old", target.get(2L, String.class));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals("new", target.get(1L, String.class));
+        assertNull(target.get(2L));
+        assertEquals(1, deferred("put"));
+        assertEquals(1, deferred("evict"));
+        assertEquals(2, counter("blog.cache.tx.applied"));
+        assertEquals(0, counter("blog.cache.tx.discarded"));
+    }
+
+    @Test
+    @DisplayName("롤백되면 모아둔 작업을 모두 버림")
+    void discardsOnRollback() {
+        target.put(2L, "old");
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(1L, "new");
+        cache.evict(2L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertNull(target.get(1L));
+        assertEquals("old", target.get(2L, String.class));
+        assertEquals(2, counter("blog.cache.tx.discarded"));
+        assertEquals(0, counter("blog.cache.tx.applied"));
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션 안의 조회는 자기가 모아둔 변경을 먼저 봄")
+    void readsOwnWrites() {
+        target.put(2L, "old");
+        target.put(3L, "other");
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(1L, "new");
+        cache.evict(2L);
+
+        assertEquals("new", cache.get(1L, String.class));
+        assertNull(cache.get(2L));
+        assertEquals("other", cache.get(3L, String.class));
+        // 이 트랜잭션이 지운 키는 실제 캐시를 건드리지 않고 로더 결과를 모아둠
+        assertEquals("loaded", cache.get(2L, () -> "loaded"));
+        assertEquals("old", target.get(2L, String.class));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals("loaded", target.get(2L, String.class));
+    }
+
+    @Test
+    @DisplayName("clear는 앞서 모인 작업을 덮고, 커밋 때 clear 후 나머지 작업을 반영")
+    void clearReplacesEarlierWrites() {
+        target.put(1L, "a");
+        target.put(2L, "b");
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(1L, "ignored");
+        cache.clear();
+        cache.put(3L, "c");
+
+        assertNull(cache.get(1L));
+        assertEquals("c", cache.get(3L, String.class));
+        assertEquals("a", target.get(1L, String.class));
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertNull(target.get(1L));
+        assertNull(target.get(2L));
+        assertEquals("c", target.get(3L, String.class));
+        assertEquals(1, deferred("clear"));
+        assertEquals(2, counter("blog.cache.tx.applied"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 호출은 즉시 반영하고 미룬 작업으로 세지 않음")
+    void appliesImmediatelyOutsideTransaction() {
+        cache.put(1L, "a");
+        assertEquals("a", target.get(1L, String.class));
+
+        cache.evict(1L);
+        assertNull(target.get(1L));
+
+        assertEquals(0, deferred("put"));
+        assertEquals(0, deferred("evict"));
+    }
+
+    /**
+     * 트랜잭션 매니저처럼 동기화를 먼저 정리한 뒤 afterCompletion 호출
+     */
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private double deferred(String op) {
+        return meterRegistry.get("blog.cache.tx.deferred").tag("op", op).counter().count();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
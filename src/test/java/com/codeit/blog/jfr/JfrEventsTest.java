@@ -0,0 +1,75 @@
+package com.codeit.blog.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+
+    @Test
+    @DisplayName("로더 실행은 LOADED / LOAD_FAILED 이벤트로 기록")
+    void loadOutcome() throws Exception {
+        List<RecordedEvent> events = record(Duration.ZERO, () -> {
+            assertEquals(6L, JfrEvents.load("posts", 5L, key -> key + 1));
+            assertThrows(IllegalArgumentException.class, () -> JfrEvents.load("posts", 7L, key -> {
+                throw new IllegalArgumentException("게시글 없음: " + key);
+            }));
+        });
+
+        assertEquals(2, events.size());
+        assertEquals("LOADED", events.get(0).getString("outcome"));
+        assertEquals(Long.hashCode(5L), events.get(0).getInt("keyHash"));
+        assertEquals("posts", events.get(0).getString("region"));
+        assertEquals("LOAD_FAILED", events.get(1).getString("outcome"));
+        assertNull(events.get(0).getStackTrace(), "스택 트레이스는 기본으로 꺼져 있어야 함");
+    }
+
+    @Test
+    @DisplayName("threshold보다 짧은 로드는 기록하지 않음")
+    void thresholdFiltersFastLoads() throws Exception {
+        List<RecordedEvent> events = record(Duration.ofMillis(20), () -> {
+            JfrEvents.load("posts", 1L, key -> key);
+            JfrEvents.load("posts", 2L, key -> {
+                sleep(30);
+                return key;
+            });
+        });
+
+        assertEquals(1, events.size());
+        assertEquals(Long.hashCode(2L), events.get(0).getInt("keyHash"));
+        assertTrue(events.get(0).getDuration("loadDuration").toMillis() >= 30);
+    }
+
+    private List<RecordedEvent> record(Duration threshold, Runnable action) throws Exception {
+        Path file = Files.createTempFile("cache-lookup", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CacheLookupEvent.NAME).withThreshold(threshold);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(CacheLookupEvent.NAME))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
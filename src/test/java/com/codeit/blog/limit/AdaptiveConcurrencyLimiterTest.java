@@ -0,0 +1,108 @@
+package com.codeit.blog.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("한도만큼만 Permit을 주고, 반납하면 다시 받을 수 있음")
+    void rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .initialLimit(3).minLimit(1).maxLimit(3)
+                .build();
+
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+        assertNull(limiter.tryAcquire());
+        assertEquals(3, limiter.inflight());
+
+        permits.get(0).ignore();
+        permits.get(0).ignore(); // 두 번 반납해도 한 번만 반영
+        assertEquals(2, limiter.inflight());
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("GRADIENT: 지연이 평소 수준이면 한도가 늘고, 크게 늘어나면 줄어듦")
+    void gradientFollowsLatency() {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .algorithm(AdaptiveConcurrencyLimiter.Algorithm.GRADIENT)
+                .initialLimit(4).minLimit(1).maxLimit(20)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            limiter.update(100 * MS, limiter.limit(), false);
+        }
+        int grown = limiter.limit();
+        assertEquals(20, grown);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.update(1_000 * MS, limiter.limit(), false);
+        }
+        assertTrue(limiter.limit() < grown / 2, "limit=" + limiter.limit());
+        assertTrue(limiter.limit() >= 1);
+    }
+
+    @Test
+    @DisplayName("GRADIENT: 지연이 0으로 잡혀도 한도가 NaN이 되지 않음")
+    void gradientSurvivesZeroRtt() {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .algorithm(AdaptiveConcurrencyLimiter.Algorithm.GRADIENT)
+                .initialLimit(4).minLimit(1).maxLimit(20)
+                .build();
+
+        limiter.update(0, limiter.limit(), false);
+        limiter.update(0, limiter.limit(), false);
+        limiter.update(100 * MS, limiter.limit(), false);
+
+        assertTrue(limiter.limit() >= 1 && limiter.limit() <= 20, "limit=" + limiter.limit());
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("동시 실행이 한도의 절반도 안 되면 한도를 늘리지 않음")
+    void doesNotGrowWhenUnderused() {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .initialLimit(8).minLimit(1).maxLimit(20)
+                .build();
+
+        for (int i = 0; i < 50; i++) {
+            limiter.update(100 * MS, 1, false);
+        }
+        assertEquals(8, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("AIMD: 성공하면 +1, 실패 / 지연 초과면 비율만큼 감소")
+    void aimd() {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .algorithm(AdaptiveConcurrencyLimiter.Algorithm.AIMD)
+                .initialLimit(10).minLimit(2).maxLimit(12)
+                .backoffRatio(0.5)
+                .latencyThreshold(500, TimeUnit.MILLISECONDS)
+                .build();
+
+        limiter.update(100 * MS, 10, false);
+        assertEquals(11, limiter.limit());
+
+        limiter.update(100 * MS, 10, true);
+        assertEquals(5, limiter.limit());
+
+        limiter.update(800 * MS, 5, false);
+        assertEquals(2, limiter.limit());
+
+        limiter.update(800 * MS, 2, false);
+        assertEquals(2, limiter.limit(), "minLimit 아래로 내려가지 않음");
+    }
+}
@@ -0,0 +1,59 @@
+package com.codeit.blog.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 값은 실제 값과 상대 오차 2% 이내")
+    void percentileWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.recordMicros(v);
+        }
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(50_000, histogram.percentileMicros(0.50), 50_000 * 0.02);
+        assertEquals(99_000, histogram.percentileMicros(0.99), 99_000 * 0.02);
+        assertEquals(99_900, histogram.percentileMicros(0.999), 99_900 * 0.02);
+        assertEquals(100_000, histogram.maxMicros());
+    }
+
+    @Test
+    @DisplayName("버킷 인덱스와 상한값이 서로 맞물림")
+    void bucketBoundsAreConsistent() {
+        for (long v : new long[]{0, 1, 127, 128, 129, 255, 256, 1_000, 65_535, 1_000_000, 123_456_789L}) {
+            int index = LatencyHistogram.indexOf(v);
+            assertTrue(LatencyHistogram.upperBoundOf(index) >= v, "upper bound < value: " + v);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.upperBoundOf(index - 1) < v, "previous bucket covers value: " + v);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Zipf 분포는 순위가 높은 키에 요청이 몰림")
+    void zipfFavorsLowRanks() {
+        WorkloadSpec spec = new WorkloadSpec(null, WorkloadSpec.KeyDistributionType.ZIPF, 1000L, 1.0,
+                null, null, null, null, null, null, null, null, null, 42L, null);
+        KeyDistribution keys = KeyDistribution.from(spec);
+        SplittableRandom random = new SplittableRandom(42);
+
+        int top10 = 0;
+        for (int i = 0; i < 100_000; i++) {
+            long key = keys.nextKey(random, 0);
+            assertTrue(key >= 1 && key <= 1000);
+            if (key <= 10) {
+                top10++;
+            }
+        }
+
+        // H(10)/H(1000) ≈ 0.39
+        assertEquals(0.39, top10 / 100_000.0, 0.02);
+    }
+}
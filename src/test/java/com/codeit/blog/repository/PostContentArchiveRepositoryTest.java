@@ -0,0 +1,24 @@
+package com.codeit.blog.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostContentArchiveRepositoryTest {
+
+    @Test
+    @DisplayName("압축한 본문은 그대로 복원되고, 반복이 많은 본문은 작아짐")
+    void compressRoundTrip() {
+        String content = "Spring Cache 완벽 정복 - 캐시의 기본부터 고급 활용까지. ".repeat(200);
+        byte[] original = content.getBytes(StandardCharsets.UTF_8);
+
+        byte[] compressed = PostContentArchiveRepository.compress(original);
+
+        assertTrue(compressed.length < original.length / 10, "compressed=" + compressed.length);
+        assertEquals(content, PostContentArchiveRepository.decompress(compressed));
+        assertEquals("", PostContentArchiveRepository.decompress(PostContentArchiveRepository.compress(new byte[0])));
+    }
+}
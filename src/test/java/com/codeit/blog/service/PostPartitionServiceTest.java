@@ -0,0 +1,28 @@
+package com.codeit.blog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostPartitionServiceTest {
+
+    @Test
+    @DisplayName("파티션 이름과 월은 서로 변환됨")
+    void partitionNameRoundTrip() {
+        YearMonth month = YearMonth.of(2026, 3);
+        assertEquals("posts_y2026m03", PostPartitionService.partitionName(month));
+        assertEquals(month, PostPartitionService.monthOf("posts_y2026m03"));
+        assertNull(PostPartitionService.monthOf(PostPartitionService.DEFAULT_PARTITION));
+    }
+
+    @Test
+    @DisplayName("파티션 범위는 그 달 1일부터 다음 달 1일 전까지 (연도 넘김 포함)")
+    void partitionBounds() {
+        assertEquals("CREATE TABLE IF NOT EXISTS posts_y2026m12 PARTITION OF posts "
+                        + "FOR VALUES FROM ('2026-12-01 00:00:00') TO ('2027-01-01 00:00:00')",
+                PostPartitionService.createPartitionSql(YearMonth.of(2026, 12)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.codeit.blog.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 mightContain이 true (false negative 없음)")
+    void noFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        for (long id = 1; id <= 100_000; id++) {
+            filter.add(id);
+        }
+        for (long id = 1; id <= 100_000; id++) {
+            assertTrue(filter.mightContain(id), "id=" + id);
+        }
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 넣었을 때 오탐률은 설정값 근처")
+    void falsePositiveRateNearTarget() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        for (long id = 1; id <= 100_000; id++) {
+            filter.add(id);
+        }
+
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (long id = 1_000_000; id < 1_000_000 + probes; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / probes;
+        assertTrue(rate < 0.015, "rate=" + rate);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+        assertEquals(100_000, filter.approximateElementCount(), 100_000 * 0.05);
+    }
+
+    @Test
+    @DisplayName("비어 있으면 모든 값이 없다고 판단")
+    void emptyRejectsAll() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (long id = 0; id < 10_000; id++) {
+            assertFalse(filter.mightContain(id));
+        }
+        assertEquals(0.0, filter.expectedFalsePositiveRate());
+    }
+}
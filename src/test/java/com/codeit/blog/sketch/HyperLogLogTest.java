@@ -0,0 +1,75 @@
+package com.codeit.blog.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("고유 원소 수 추정은 실제 값과 상대 오차 5% 이내")
+    void estimateWithinError() {
+        for (int n : new int[]{10, 1_000, 50_000, 1_000_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < n; i++) {
+                sketch.offer("viewer-" + i);
+            }
+            assertEquals(n, sketch.estimate(), Math.max(1, n * 0.05), "n=" + n);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 원소를 반복해서 넣어도 추정값은 그대로")
+    void duplicatesDoNotCount() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 500; i++) {
+                sketch.offer(i);
+            }
+        }
+        assertEquals(500, sketch.estimate(), 500 * 0.05);
+    }
+
+    @Test
+    @DisplayName("겹치는 두 sketch를 합치면 합집합 크기를 추정")
+    void mergeEstimatesUnion() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int i = 0; i < 30_000; i++) {
+            monday.offer("viewer-" + i);
+        }
+        for (int i = 20_000; i < 50_000; i++) {
+            tuesday.offer("viewer-" + i);
+        }
+
+        HyperLogLog union = monday.copy().merge(tuesday);
+
+        assertEquals(50_000, union.estimate(), 50_000 * 0.05);
+        assertEquals(30_000, monday.estimate(), 30_000 * 0.05);
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원해도 레지스터와 추정값이 같음")
+    void roundTrip() {
+        HyperLogLog sketch = new HyperLogLog(10);
+        for (long i = 0; i < 10_000; i++) {
+            sketch.offer(i);
+        }
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertEquals(2 + 1024, bytes.length);
+        assertEquals(10, restored.precision());
+        assertEquals(sketch.estimate(), restored.estimate());
+        assertArrayEquals(bytes, restored.toBytes());
+    }
+
+    @Test
+    @DisplayName("precision이 다르면 합칠 수 없음")
+    void mergeRequiresSamePrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(10).merge(new HyperLogLog(12)));
+        assertTrue(new HyperLogLog().isEmpty());
+    }
+}
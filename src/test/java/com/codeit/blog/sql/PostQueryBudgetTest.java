@@ -0,0 +1,86 @@
+package com.codeit.blog.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 상한
+ * 쿼리가 늘어나는 변경(N+1, 캐시 우회 등)은 여기서 실패합니다.
+ */
+@SpringBootTest(properties = {
+        "blog.sql.debug-headers=true",
+        "blog.seed.rows=100",
+        // 묶음 커밋은 SQL을 전용 스레드에서 실행하므로 요청 스레드에서 세도록 끔
+        "blog.posts.group-commit.enabled=false"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class PostQueryBudgetTest {
+
+    private static final String POST_JSON =
+            "{\"title\":\"예산\",\"content\":\"SQL 예산 테스트\",\"author\":\"tester\",\"category\":\"Java\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("게시글 생성: 시퀀스 + INSERT + 카테고리 집계 갱신")
+    void createBudget() throws Exception {
+        mockMvc.perform(post("/api/posts").contentType(MediaType.APPLICATION_JSON).content(POST_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(QueryBudget.atMost(6).inserts(2).deletes(0));
+    }
+
+    @Test
+    @DisplayName("단건 조회: 생성 때 캐시에 넣으므로(@CachePut) SQL 없음, 캐시를 비운 뒤 첫 조회는 SELECT 최대 1회")
+    void findByIdBudget() throws Exception {
+        long id = createPost();
+
+        mockMvc.perform(get("/api/posts/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(0));
+
+        // 2차 캐시(post-entity)에 있으면 SELECT도 없음
+        cacheManager.getCache("posts").evict(id);
+        mockMvc.perform(get("/api/posts/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(1).selects(1));
+        mockMvc.perform(get("/api/posts/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(0));
+    }
+
+    @Test
+    @DisplayName("게시글 수정: findById(캐시를 거치지 않음) + dirty checking UPDATE 1회")
+    void updateBudget() throws Exception {
+        long id = createPost();
+
+        mockMvc.perform(put("/api/posts/{id}", id).contentType(MediaType.APPLICATION_JSON).content(POST_JSON))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(2).selects(1).updates(1).inserts(0));
+    }
+
+    private long createPost() throws Exception {
+        String body = mockMvc.perform(post("/api/posts").contentType(MediaType.APPLICATION_JSON).content(POST_JSON))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
@@ -0,0 +1,113 @@
+package com.codeit.blog.sql;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 엔드포인트 / 코드 구간의 SQL 실행 횟수 상한 검증
+ *
+ * MockMvc: X-SQL-* 응답 헤더를 읽으므로 blog.sql.debug-headers=true 로 실행해야 합니다.
+ *   mockMvc.perform(put("/api/posts/1")...).andExpect(QueryBudget.atMost(2).selects(1).updates(1));
+ * 코드 구간: 같은 스레드에서 실행된 SQL만 셉니다.
+ *   QueryBudget.atMost(0).verify(() -> postService.findById(1L));
+ */
+public final class QueryBudget implements ResultMatcher {
+
+    private static final long UNLIMITED = -1;
+
+    private final long statements;
+    private long selects = UNLIMITED;
+    private long inserts = UNLIMITED;
+    private long updates = UNLIMITED;
+    private long deletes = UNLIMITED;
+
+    private QueryBudget(long statements) {
+        this.statements = statements;
+    }
+
+    public static QueryBudget atMost(long statements) {
+        return new QueryBudget(statements);
+    }
+
+    public QueryBudget selects(long max) {
+        this.selects = max;
+        return this;
+    }
+
+    public QueryBudget inserts(long max) {
+        this.inserts = max;
+        return this;
+    }
+
+    public QueryBudget updates(long max) {
+        this.updates = max;
+        return this;
+    }
+
+    public QueryBudget deletes(long max) {
+        this.deletes = max;
+        return this;
+    }
+
+    @Override
+    public void match(MvcResult result) {
+        String request = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+        String header = result.getResponse().getHeader(QueryCount.STATEMENTS_HEADER);
+        assertNotNull(header, request + ": " + QueryCount.STATEMENTS_HEADER
+                + " 헤더가 없습니다. blog.sql.debug-headers=true 로 실행해야 합니다.");
+
+        QueryCount used = new QueryCount(
+                Long.parseLong(header),
+                headerValue(result, QueryCount.SELECTS_HEADER),
+                headerValue(result, QueryCount.INSERTS_HEADER),
+                headerValue(result, QueryCount.UPDATES_HEADER),
+                headerValue(result, QueryCount.DELETES_HEADER),
+                0,
+                headerValue(result, QueryCount.ROWS_HEADER),
+                0
+        );
+        check(request, used);
+    }
+
+    /**
+     * action을 실행하는 동안 현재 스레드에서 실행된 SQL이 상한 이내인지 검증하고, 사용량을 돌려줍니다.
+     */
+    public QueryCount verify(Runnable action) {
+        QueryCount start = SqlStatementCounter.snapshot();
+        action.run();
+        QueryCount used = SqlStatementCounter.snapshot().minus(start);
+        check("code block", used);
+        return used;
+    }
+
+    private void check(String target, QueryCount used) {
+        List<String> violations = new ArrayList<>();
+        exceed(violations, "statements", used.statements(), statements);
+        exceed(violations, "selects", used.selects(), selects);
+        exceed(violations, "inserts", used.inserts(), inserts);
+        exceed(violations, "updates", used.updates(), updates);
+        exceed(violations, "deletes", used.deletes(), deletes);
+
+        if (!violations.isEmpty()) {
+            fail(String.format("%s: SQL 예산 초과 %s (실행: statements=%d, select=%d, insert=%d, update=%d, delete=%d, rows=%d)",
+                    target, violations, used.statements(), used.selects(), used.inserts(), used.updates(),
+                    used.deletes(), used.rows()));
+        }
+    }
+
+    private void exceed(List<String> violations, String name, long actual, long max) {
+        if (max != UNLIMITED && actual > max) {
+            violations.add(name + " " + actual + " > " + max);
+        }
+    }
+
+    private long headerValue(MvcResult result, String name) {
+        String value = result.getResponse().getHeader(name);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+}
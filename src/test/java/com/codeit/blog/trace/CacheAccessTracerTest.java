@@ -0,0 +1,37 @@
+package com.codeit.blog.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheAccessTracerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("트레이스 파일 이름은 트레이스 디렉터리 안으로만 풀림")
+    void resolveTraceInsideDirectory() {
+        CacheAccessTracer tracer = new CacheAccessTracer(tempDir.resolve("traces").toString(), 16, 1.0);
+
+        assertEquals(tempDir.resolve("traces").resolve("cache-trace-20260101-120000.btrc").toAbsolutePath().normalize(),
+                tracer.resolveTrace("cache-trace-20260101-120000.btrc"));
+    }
+
+    @Test
+    @DisplayName("절대 경로, 하위 경로, 디렉터리 밖을 가리키는 이름은 거부")
+    void rejectsPathsOutsideDirectory() {
+        CacheAccessTracer tracer = new CacheAccessTracer(tempDir.resolve("traces").toString(), 16, 1.0);
+
+        assertThrows(IllegalArgumentException.class, () -> tracer.resolveTrace("/etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> tracer.resolveTrace("../application.yml"));
+        assertThrows(IllegalArgumentException.class, () -> tracer.resolveTrace(".."));
+        assertThrows(IllegalArgumentException.class, () -> tracer.resolveTrace("."));
+        assertThrows(IllegalArgumentException.class, () -> tracer.resolveTrace("sub/cache-trace.btrc"));
+        assertThrows(IllegalArgumentException.class, () -> tracer.resolveTrace("bad\0name"));
+    }
+}
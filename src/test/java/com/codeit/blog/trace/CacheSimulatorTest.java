@@ -0,0 +1,72 @@
+package com.codeit.blog.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheSimulatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("트레이스 파일은 기록한 순서와 값 그대로 읽힘")
+    void traceRoundTrip() throws Exception {
+        Path path = tempDir.resolve("roundtrip.btrc");
+        try (CacheTraceFile.Writer writer = new CacheTraceFile.Writer(path, 1_000L)) {
+            writer.write("posts", TraceRecord.Outcome.MISS, 42, 100, 1_000_000);
+            writer.write("popularPosts", TraceRecord.Outcome.HIT, -7, 90, -1);
+            writer.write("posts", TraceRecord.Outcome.CLEAR, 0, 5_000, -1);
+        }
+
+        List<TraceRecord> records = new ArrayList<>();
+        try (CacheTraceFile.Reader reader = new CacheTraceFile.Reader(path)) {
+            assertEquals(1_000L, reader.startEpochMillis());
+            reader.forEach(records::add);
+        }
+
+        assertEquals(List.of(
+                new TraceRecord("posts", TraceRecord.Outcome.MISS, 42, 100, 1_000_000),
+                new TraceRecord("popularPosts", TraceRecord.Outcome.HIT, -7, 90, -1),
+                new TraceRecord("posts", TraceRecord.Outcome.CLEAR, 0, 5_000, -1)
+        ), records);
+    }
+
+    @Test
+    @DisplayName("작업 집합보다 큰 캐시는 첫 접근 외에는 모두 적중, TTL이 짧으면 적중률이 떨어짐")
+    void replayAgainstSizesAndTtls() throws Exception {
+        Path path = tempDir.resolve("replay.btrc");
+        try (CacheTraceFile.Writer writer = new CacheTraceFile.Writer(path, 0L)) {
+            // 키 10개를 1초 간격으로 100바퀴 (총 1000번 접근)
+            for (int i = 0; i < 1000; i++) {
+                writer.write("posts", TraceRecord.Outcome.HIT, i % 10, i * 1_000_000L, -1);
+            }
+        }
+
+        CacheSimulator.Report report = CacheSimulator.simulate(new CacheSimulator.Options(
+                path.toString(), "posts", List.of(5L, 10L), List.of(0L, 5L), List.of(CacheSimulator.Policy.LRU)));
+
+        assertEquals(1000L, report.accessesByRegion().get("posts"));
+        CacheSimulator.Result small = find(report, 5, 0);
+        CacheSimulator.Result fits = find(report, 10, 0);
+        CacheSimulator.Result shortTtl = find(report, 10, 5);
+
+        // 순환 접근에서 LRU는 작업 집합보다 작으면 전부 miss
+        assertEquals(0, small.hits());
+        assertEquals(990, fits.hits());
+        assertEquals(0, shortTtl.hits());
+    }
+
+    private CacheSimulator.Result find(CacheSimulator.Report report, long size, long ttl) {
+        return report.results().stream()
+                .filter(r -> r.maximumSize() == size && r.ttlSeconds() == ttl)
+                .findFirst()
+                .orElseThrow();
+    }
+}
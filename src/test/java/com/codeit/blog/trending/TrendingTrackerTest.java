@@ -0,0 +1,112 @@
+package com.codeit.blog.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong(Duration.ofDays(1000).toMillis());
+
+    private TrendingTracker tracker(long maxTrackedPosts) {
+        return new TrendingTracker(Duration.ofMinutes(1), Duration.ofHours(24), Duration.ofHours(2),
+                maxTrackedPosts, clock::get);
+    }
+
+    @Test
+    @DisplayName("오래된 조회는 반감기마다 절반으로 줄어서 최근 조회가 많은 게시글이 앞선다")
+    void recentViewsOutrankOldViews() {
+        TrendingTracker tracker = tracker(100);
+
+        tracker.record(1L, "Java", 10);
+        clock.addAndGet(Duration.ofHours(6).toMillis());
+        tracker.record(2L, "Java", 3);
+        tracker.refresh();
+
+        List<TrendingTracker.Entry> top = tracker.top(10, null);
+
+        assertEquals(List.of(2L, 1L), top.stream().map(TrendingTracker.Entry::postId).toList());
+        assertEquals(3.0, top.get(0).score(), 0.01);
+        assertEquals(10.0 / 8, top.get(1).score(), 0.01);
+        assertEquals(10, top.get(1).windowViews());
+    }
+
+    @Test
+    @DisplayName("순위는 변경된 게시글만 다시 계산해도 시간이 지나며 어긋나지 않는다")
+    void rankingStaysConsistentOverTime() {
+        TrendingTracker tracker = tracker(100);
+
+        tracker.record(1L, "Java", 4);
+        tracker.record(2L, "Spring", 2);
+        assertEquals(2, tracker.refresh());
+
+        clock.addAndGet(Duration.ofHours(2).toMillis());
+        tracker.record(2L, "Spring", 1);
+        assertEquals(1, tracker.refresh());
+
+        // 1번: 4 * 1/2 = 2, 2번: 2 * 1/2 + 1 = 2 → 동점이면 id 순
+        List<TrendingTracker.Entry> top = tracker.top(10, null);
+        assertEquals(2.0, top.get(0).score(), 0.01);
+        assertEquals(2.0, top.get(1).score(), 0.01);
+
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+        tracker.record(2L, "Spring", 1);
+        tracker.refresh();
+        assertEquals(2L, tracker.top(1, null).get(0).postId());
+    }
+
+    @Test
+    @DisplayName("카테고리별 순위와 카테고리 변경")
+    void categoryFilter() {
+        TrendingTracker tracker = tracker(100);
+
+        tracker.record(1L, "Java", 5);
+        tracker.record(2L, "Spring", 3);
+        tracker.record(3L, "Java", 1);
+        tracker.refresh();
+
+        assertEquals(List.of(1L, 3L), tracker.top(10, "Java").stream().map(TrendingTracker.Entry::postId).toList());
+        assertEquals(List.of(2L), tracker.top(10, "Spring").stream().map(TrendingTracker.Entry::postId).toList());
+        assertTrue(tracker.top(10, "Database").isEmpty());
+
+        tracker.record(3L, "Spring", 1);
+        tracker.refresh();
+        assertEquals(List.of(1L), tracker.top(10, "Java").stream().map(TrendingTracker.Entry::postId).toList());
+        assertEquals(List.of(2L, 3L), tracker.top(10, "Spring").stream().map(TrendingTracker.Entry::postId).toList());
+    }
+
+    @Test
+    @DisplayName("window 동안 조회가 없으면 추적과 순위에서 빠진다")
+    void idlePostsFallOut() {
+        TrendingTracker tracker = tracker(100);
+
+        tracker.record(1L, "Java", 5);
+        tracker.refresh();
+        clock.addAndGet(Duration.ofHours(25).toMillis());
+        tracker.record(2L, "Java", 1);
+        tracker.refresh();
+
+        assertEquals(1, tracker.trackedPosts());
+        assertEquals(1, tracker.rankedPosts());
+        assertEquals(2L, tracker.top(10, null).get(0).postId());
+    }
+
+    @Test
+    @DisplayName("추적 게시글 수는 maxTrackedPosts를 넘지 않는다")
+    void trackedPostsAreBounded() {
+        TrendingTracker tracker = tracker(50);
+
+        for (long id = 1; id <= 500; id++) {
+            tracker.record(id, "Java", 1);
+        }
+        tracker.refresh();
+
+        assertTrue(tracker.trackedPosts() <= 50, "tracked=" + tracker.trackedPosts());
+        assertTrue(tracker.rankedPosts() <= 50, "ranked=" + tracker.rankedPosts());
+    }
+}